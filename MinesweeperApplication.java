@@ -1,4 +1,13 @@
 import controller.GameController;
+import userService.ConsoleInputSource;
+import userService.GameDisplayService;
+import userService.InputSource;
+import userService.ScriptInputSource;
+
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 
 /**
  * Main application entry point for Minesweeper game
@@ -16,12 +25,29 @@ public class MinesweeperApplication {
     /**
      * Main method - Entry point of the application
      *
-     * @param args Command line arguments (not used in this application)
+     * @param args Command line arguments: --script <file> (or "-" for a pipe on stdin)
+     *             plays a move script without prompts; --seed <n> makes the boards reproducible
      */
     public static void main(String[] args) {
         try {
+            String script = null;
+            LongSupplier seeds = () -> ThreadLocalRandom.current().nextLong();
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals("--script") && i + 1 < args.length) {
+                    script = args[++i];
+                } else if (args[i].equals("--seed") && i + 1 < args.length) {
+                    seeds = new SplittableRandom(Long.parseLong(args[++i]))::nextLong;
+                } else {
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+
+            InputSource source = script == null ? new ConsoleInputSource()
+                    : script.equals("-") ? ScriptInputSource.fromStandardInput()
+                    : new ScriptInputSource(Path.of(script));
+
             // Create and start the game controller
-            GameController gameController = new GameController();
+            GameController gameController = new GameController(source, new GameDisplayService(), seeds);
             gameController.playGame();
 
         } catch (Exception e) {
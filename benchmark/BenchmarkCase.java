@@ -0,0 +1,38 @@
+package benchmark;
+
+/**
+ * A single measurable engine operation
+ *
+ * setUp() runs before every invocation and is not timed; run() is timed
+ * and returns a value that is folded into a sink so the JIT cannot drop the work.
+ */
+public interface BenchmarkCase {
+
+    /**
+     * Benchmark name, e.g. "revealCell"
+     */
+    String getName();
+
+    /**
+     * Parameters reported alongside the score, e.g. "size=100,density=0.20"
+     */
+    String getParameters();
+
+    /**
+     * Number of engine operations performed by one run() call
+     */
+    default int getOperationsPerInvocation() {
+        return 1;
+    }
+
+    /**
+     * Untimed preparation before each invocation
+     */
+    default void setUp() {
+    }
+
+    /**
+     * Timed work
+     */
+    long run();
+}
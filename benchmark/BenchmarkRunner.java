@@ -0,0 +1,187 @@
+package benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs the engine benchmark cases and writes machine-readable results
+ *
+ * Each case gets warmup iterations followed by measured iterations; within an
+ * iteration invocations repeat until the iteration time is used up. Along with
+ * the average time per operation, the bytes allocated per operation are recorded
+ * from the thread allocation counter, like JMH's "-prof gc" normalised rate.
+ *
+ * Usage: BenchmarkRunner [--quick] [--filter name] [--out results.json]
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_OUTPUT = "bench_results.json";
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final com.sun.management.ThreadMXBean threadBean;
+    private long sink;                       // Keeps benchmark results alive
+
+    public BenchmarkRunner(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+        this.threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (threadBean.isThreadAllocatedMemorySupported()) {
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        boolean quick = false;
+        String filter = "";
+        Path output = Path.of(DEFAULT_OUTPUT);
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--quick":
+                    quick = true;
+                    break;
+                case "--filter":
+                    filter = args[++i];
+                    break;
+                case "--out":
+                    output = Path.of(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        int[] sizes = quick ? new int[]{16, 100} : EngineBenchmarks.BOARD_SIZES;
+        BenchmarkRunner runner = quick ? new BenchmarkRunner(1, 3, 100) : new BenchmarkRunner(3, 5, 1000);
+
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (BenchmarkCase benchmarkCase : EngineBenchmarks.createCases(sizes, EngineBenchmarks.MINE_DENSITIES)) {
+            if (!benchmarkCase.getName().contains(filter)) {
+                continue;
+            }
+            BenchmarkResult result = runner.measure(benchmarkCase);
+            results.add(result);
+            System.out.println(result.toText());
+        }
+
+        String noGuessReport = EngineBenchmarks.noGuessReport();
+        if (!noGuessReport.isEmpty()) {
+            System.out.print("No-guess generation:\n" + noGuessReport);
+        }
+
+        Files.write(output, toJson(results).getBytes(StandardCharsets.UTF_8));
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Warm up and measure a single case
+     */
+    public BenchmarkResult measure(BenchmarkCase benchmarkCase) {
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(benchmarkCase);
+        }
+
+        double[] nanosPerOp = new double[measurementIterations];
+        double allocatedPerOp = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            double[] iteration = runIteration(benchmarkCase);
+            nanosPerOp[i] = iteration[0];
+            allocatedPerOp += iteration[1] / measurementIterations;
+        }
+
+        return new BenchmarkResult(benchmarkCase.getName(), benchmarkCase.getParameters(),
+                nanosPerOp, allocatedPerOp);
+    }
+
+    /**
+     * @return {nanoseconds per operation, allocated bytes per operation}
+     */
+    private double[] runIteration(BenchmarkCase benchmarkCase) {
+        long threadId = Thread.currentThread().getId();
+        long timedNanos = 0;
+        long allocatedBytes = 0;
+        long operations = 0;
+        long deadline = System.nanoTime() + iterationNanos;
+
+        do {
+            benchmarkCase.setUp();
+
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            sink += benchmarkCase.run();
+            timedNanos += System.nanoTime() - start;
+            allocatedBytes += threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            operations += benchmarkCase.getOperationsPerInvocation();
+        } while (System.nanoTime() < deadline);
+
+        return new double[]{(double) timedNanos / operations, (double) allocatedBytes / operations};
+    }
+
+    public long getSink() {
+        return sink;
+    }
+
+    private static String toJson(List<BenchmarkResult> results) {
+        StringBuilder json = new StringBuilder("[\n");
+        for (int i = 0; i < results.size(); i++) {
+            json.append("  ").append(results.get(i).toJson());
+            json.append(i + 1 < results.size() ? ",\n" : "\n");
+        }
+        return json.append("]\n").toString();
+    }
+
+    /**
+     * Score of one benchmark case
+     */
+    public static class BenchmarkResult {
+        private final String benchmark;
+        private final String parameters;
+        private final double score;              // Mean ns/op over measured iterations
+        private final double error;              // Standard deviation of ns/op
+        private final double allocatedPerOp;     // Bytes allocated per operation
+
+        BenchmarkResult(String benchmark, String parameters, double[] nanosPerOp, double allocatedPerOp) {
+            this.benchmark = benchmark;
+            this.parameters = parameters;
+            this.allocatedPerOp = allocatedPerOp;
+
+            double mean = 0;
+            for (double value : nanosPerOp) {
+                mean += value / nanosPerOp.length;
+            }
+            double variance = 0;
+            for (double value : nanosPerOp) {
+                variance += (value - mean) * (value - mean) / nanosPerOp.length;
+            }
+            this.score = mean;
+            this.error = Math.sqrt(variance);
+        }
+
+        public String getBenchmark() { return benchmark; }
+        public String getParameters() { return parameters; }
+        public double getScore() { return score; }
+        public double getError() { return error; }
+        public double getAllocatedPerOp() { return allocatedPerOp; }
+
+        String toText() {
+            return String.format(Locale.ROOT, "%-36s %-28s %14.1f +- %10.1f ns/op %14.1f B/op",
+                    benchmark, parameters, score, error, allocatedPerOp);
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"benchmark\":\"%s\",\"params\":\"%s\",\"mode\":\"avgt\",\"unit\":\"ns/op\","
+                            + "\"score\":%.3f,\"error\":%.3f,\"gc.alloc.rate.norm\":%.3f}",
+                    benchmark, parameters, score, error, allocatedPerOp);
+        }
+    }
+}
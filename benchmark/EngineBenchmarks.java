@@ -0,0 +1,319 @@
+package benchmark;
+
+import dto.BoardGenerationMode;
+import dto.GameState;
+import dto.PackedBoard;
+import gamePlay.AdjacentMineCounter;
+import gamePlay.FloydMinePlacement;
+import gamePlay.MinePlacementStrategy;
+import gamePlay.MinesweeperGridPlay;
+import gamePlay.NoGuessBoardGenerator;
+import gamePlay.SeedMixer;
+import gameSimulation.SimulationRunner;
+import gameSimulation.SolverStrategy;
+import gameSolver.DeterministicSolver;
+import gameSolver.ProbabilisticSolver;
+import userService.GameDisplayService;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark cases for the game engine hot paths
+ *
+ * Covers mine placement, no-guess generation, neighbour counting, single reveals, worst-case
+ * full-board cascades, resets, simulated games and grid rendering across board sizes and densities.
+ */
+public class EngineBenchmarks {
+    public static final int[] BOARD_SIZES = {16, 100, 1000};
+    public static final double[] MINE_DENSITIES = {0.10, 0.20, 0.35};
+    private static final int MAX_RENDER_SIZE = 100;       // Rendering larger boards is not meaningful
+    private static final int REVEALS_PER_INVOCATION = 64;
+    private static final int MAX_NO_GUESS_SIZE = 100;     // Larger no-guess boards take seconds each
+    private static final double MAX_NO_GUESS_DENSITY = 0.20;   // Denser boards are rarely guess-free
+    private static final int SIMULATED_GAMES = 16;
+    private static final long SEED = 0x5EEDL;
+    private static final NoGuessBoardGenerator NO_GUESS_GENERATOR = new NoGuessBoardGenerator();
+
+    /**
+     * Build every benchmark case for the given sizes and densities
+     */
+    public static List<BenchmarkCase> createCases(int[] sizes, double[] densities) {
+        List<BenchmarkCase> cases = new ArrayList<>();
+
+        for (int size : sizes) {
+            for (double density : densities) {
+                int mines = Math.max(1, (int) (size * size * density));
+                cases.add(placeMines(size, mines, density));
+                cases.add(calculateAdjacentMineCounts(size, mines, density));
+                cases.add(revealCell(size, mines, density));
+                cases.add(resetGame(size, mines, density));
+                if (size <= MAX_NO_GUESS_SIZE && density <= MAX_NO_GUESS_DENSITY) {
+                    cases.add(noGuessGenerate(size, mines, density));
+                    cases.add(simulateGames(size, mines, density));
+                }
+                cases.add(deterministicSolve(size, mines, density));
+                cases.add(probabilisticSolve(size, mines, density));
+                if (size <= MAX_RENDER_SIZE) {
+                    cases.add(displayGrid(size, mines, density));
+                }
+            }
+            cases.add(fullBoardCascade(size));
+        }
+
+        return cases;
+    }
+
+    // ========== Board Generation ==========
+    private static BenchmarkCase placeMines(int size, int mines, double density) {
+        PackedBoard board = new PackedBoard(size);
+        MinePlacementStrategy strategy = new FloydMinePlacement();
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        return new AbstractCase("placeMines", size, density) {
+            @Override
+            public void setUp() {
+                board.clear();
+            }
+
+            @Override
+            public long run() {
+                return strategy.placeMines(board, mines, random);
+            }
+        };
+    }
+
+    /**
+     * One no-guess board per invocation (ops/s = boards/s); each run uses the next seed
+     */
+    private static BenchmarkCase noGuessGenerate(int size, int mines, double density) {
+        PackedBoard board = new PackedBoard(size);
+        MinePlacementStrategy strategy = new FloydMinePlacement();
+        int opening = board.indexOf(size / 2, size / 2);
+        int[] excludedCells = new int[9];
+        for (int i = 0; i < 9; i++) {
+            excludedCells[i] = board.indexOf(size / 2 + i / 3 - 1, size / 2 + i % 3 - 1);
+        }
+
+        return new AbstractCase("noGuessGenerate", size, density) {
+            private long seed = SEED;
+
+            @Override
+            public void setUp() {
+                board.clear();
+                seed = SeedMixer.next(seed);
+            }
+
+            @Override
+            public long run() {
+                return NO_GUESS_GENERATOR.generate(board, mines, seed, opening, excludedCells,
+                        strategy, SplittableRandom::new) ? 1 : 0;
+            }
+        };
+    }
+
+    /**
+     * Throughput of every no-guess configuration benchmarked so far
+     */
+    public static String noGuessReport() {
+        return NO_GUESS_GENERATOR.report();
+    }
+
+    private static BenchmarkCase calculateAdjacentMineCounts(int size, int mines, double density) {
+        PackedBoard board = new PackedBoard(size);
+        new FloydMinePlacement().placeMines(board, mines, new SplittableRandom(SEED));
+        AdjacentMineCounter counter = new AdjacentMineCounter();
+
+        return new AbstractCase("calculateAdjacentMineCounts", size, density) {
+            @Override
+            public long run() {
+                counter.countAll(board);
+                return board.getAdjacentMineCount(board.getCellCount() / 2);
+            }
+        };
+    }
+
+    // ========== Reveal ==========
+    private static BenchmarkCase revealCell(int size, int mines, double density) {
+        int[] targets = new int[REVEALS_PER_INVOCATION];
+
+        return new AbstractCase("revealCell", size, density) {
+            private MinesweeperGridPlay game;
+            private long seed = SEED;
+
+            @Override
+            public int getOperationsPerInvocation() {
+                return REVEALS_PER_INVOCATION;
+            }
+
+            @Override
+            public void setUp() {
+                game = new MinesweeperGridPlay(size, mines, seed++);
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < targets.length; i++) {
+                    targets[i] = random.nextInt(size * size);
+                }
+            }
+
+            @Override
+            public long run() {
+                long sink = 0;
+                for (int target : targets) {
+                    sink += game.revealCell(target / size, target % size).getType().ordinal();
+                }
+                return sink;
+            }
+        };
+    }
+
+    /**
+     * Worst case: a single mine, revealing the corner farthest from it opens the whole board
+     */
+    private static BenchmarkCase fullBoardCascade(int size) {
+        return new AbstractCase("autoRevealAdjacentCells.fullBoard", size, 1.0 / (size * size)) {
+            private MinesweeperGridPlay game;
+            private int startRow;
+            private int startCol;
+
+            @Override
+            public void setUp() {
+                game = new MinesweeperGridPlay(size, 1, SEED);
+                int mine = game.getBoard().indexOf(0, 0);
+                for (int index = 0; index < size * size; index++) {
+                    if (game.getBoard().hasMine(index)) {
+                        mine = index;
+                    }
+                }
+                int mineRow = mine / size;
+                int mineCol = mine % size;
+                startRow = mineRow < size / 2 ? size - 1 : 0;
+                startCol = mineCol < size / 2 ? size - 1 : 0;
+            }
+
+            @Override
+            public long run() {
+                return game.revealCell(startRow, startCol).getRevealedCount();
+            }
+        };
+    }
+
+    // ========== Solver ==========
+    /**
+     * One solver pass over a board opened up by a few lazy-safe first clicks
+     */
+    private static BenchmarkCase deterministicSolve(int size, int mines, double density) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mines, SEED, BoardGenerationMode.FIRST_CLICK_SAFE);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int move = 0; move < REVEALS_PER_INVOCATION && game.getGameState() == GameState.PLAYING; move++) {
+            int target = random.nextInt(size * size);
+            if (move == 0 || !game.hasMine(target / size, target % size)) {
+                game.revealCell(target / size, target % size);
+            }
+        }
+        DeterministicSolver solver = new DeterministicSolver();
+
+        return new AbstractCase("deterministicSolve", size, density) {
+            @Override
+            public long run() {
+                return solver.solve(game).getSafeCount();
+            }
+        };
+    }
+
+    private static BenchmarkCase probabilisticSolve(int size, int mines, double density) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mines, SEED, BoardGenerationMode.FIRST_CLICK_SAFE);
+        game.revealCell(size / 2, size / 2);
+        ProbabilisticSolver solver = new ProbabilisticSolver();
+
+        return new AbstractCase("probabilisticSolve", size, density) {
+            @Override
+            public long run() {
+                return solver.solve(game).getComponentCount();
+            }
+        };
+    }
+
+    // ========== Game Management ==========
+    private static BenchmarkCase resetGame(int size, int mines, double density) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mines, SEED);
+
+        return new AbstractCase("resetGame", size, density) {
+            @Override
+            public long run() {
+                game.resetGame();
+                return game.getSeed();
+            }
+        };
+    }
+
+    // ========== End to End ==========
+    /**
+     * Complete solver-played games on one thread, SIMULATED_GAMES per invocation
+     */
+    private static BenchmarkCase simulateGames(int size, int mines, double density) {
+        SimulationRunner runner = new SimulationRunner(size, mines, BoardGenerationMode.FIRST_CLICK_SAFE,
+                SolverStrategy::new, 1);
+
+        return new AbstractCase("simulateGames", size, density) {
+            private long seed = SEED;
+
+            @Override
+            public long run() {
+                seed += SIMULATED_GAMES;
+                return runner.run(SIMULATED_GAMES, seed).getWins();
+            }
+        };
+    }
+
+    // ========== Rendering ==========
+    private static BenchmarkCase displayGrid(int size, int mines, double density) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mines, SEED);
+        GameDisplayService displayService = new GameDisplayService();
+        PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+
+        return new AbstractCase("displayGrid", size, density) {
+            @Override
+            public long run() {
+                PrintStream original = System.out;
+                System.setOut(discard);
+                try {
+                    displayService.displayGrid(game);
+                } finally {
+                    System.setOut(original);
+                }
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Base case carrying the name and board parameters
+     */
+    private abstract static class AbstractCase implements BenchmarkCase {
+        private final String name;
+        private final String parameters;
+
+        AbstractCase(String name, int size, double density) {
+            this.name = name;
+            this.parameters = String.format(Locale.ROOT, "size=%d,density=%.4f", size, density);
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getParameters() {
+            return parameters;
+        }
+    }
+
+    private EngineBenchmarks() {
+
+    }
+}
@@ -4,18 +4,40 @@ import dto.*;
 import gamePlay.MinesweeperGridPlay;
 import userService.GameDisplayService;
 import userService.GameInputService;
+import userService.InputSource;
 import exception.GameException;
+import exception.InputExhaustedException;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
 
 /**
  * handle input from user. It acts as a dispatcher
+ *
+ * Input may come from the console or from a batch InputSource (script, pipe or
+ * queue); play stops cleanly when a batch source runs out of lines.
  */
 public class GameController {
     private final GameDisplayService displayService;
     private final GameInputService inputService;
+    private final LongSupplier seeds;           // Seed of each new game's board
 
     public GameController() {
-        this.displayService = new GameDisplayService();
-        this.inputService = new GameInputService();
+        this(new GameInputService(), new GameDisplayService(), () -> ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Controller reading from the given source; seeds decide the board of each game in turn
+     */
+    public GameController(InputSource source, GameDisplayService displayService, LongSupplier seeds) {
+        this(new GameInputService(source), displayService, seeds);
+    }
+
+    private GameController(GameInputService inputService, GameDisplayService displayService, LongSupplier seeds) {
+        this.displayService = displayService;
+        this.inputService = inputService;
+        this.seeds = seeds;
     }
 
     /**
@@ -29,6 +51,8 @@ public class GameController {
             try {
                 playSingleGame();
                 playAgain = inputService.askPlayAgain();
+            } catch (InputExhaustedException e) {
+                playAgain = false;
             } catch (Exception e) {
                 System.err.println("Error during game: " + e.getMessage());
                 System.out.println("Starting a new game...");
@@ -52,11 +76,13 @@ public class GameController {
             int mineCount = inputService.getMineCount(gridSize);
 
             // Create new game
-            game = new MinesweeperGridPlay(gridSize, mineCount);
+            game = new MinesweeperGridPlay(gridSize, mineCount, seeds.getAsLong());
 
             // Main game loop
             gameLoop(game);
 
+        } catch (InputExhaustedException e) {
+            throw e;
         } catch (Exception e) {
             if (game != null) {
                 displayService.displayGameOver(game);
@@ -69,41 +95,83 @@ public class GameController {
      * Main game loop logic
      */
     private void gameLoop(MinesweeperGridPlay game) {
+        displayService.displayGrid(game);
+
         while (game.getGameState() == GameState.PLAYING) {
             try {
-                displayService.displayGrid(game);
-
                 String input = inputService.getCellPosition();
-                Position position = game.parsePosition(input);
-                RevealResult result = game.revealCell(position);
-
-                displayService.displayRevealResult(result);
+                RevealResult result = applyMove(game, input);
+                if (result == null) {
+                    continue;       // Flag toggles never end the game
+                }
 
                 // Check game end conditions
                 if (result.getType() == RevealResultType.MINE_HIT) {
+                    displayService.displayRevealResult(result);
                     displayService.displayGameOver(game);
                     displayService.displayLose();
                     break;
-                } else if (result.getType() == RevealResultType.GAME_WON) {
-                    displayService.displayGrid(game);
+                }
+
+                // Repaint the rows this move changed, then report it below the grid
+                displayService.displayGrid(game, result);
+                displayService.displayRevealResult(result);
+
+                if (result.getType() == RevealResultType.GAME_WON) {
                     displayService.displayWin();
                     break;
                 }
 
+            } catch (InputExhaustedException e) {
+                throw e;
             } catch (IllegalArgumentException e) {
                 System.out.println("Invalid position: " + e.getMessage());
-                System.out.println("Please try again (format: A1, B2, etc.).");
+                System.out.println("Please try again (format: A1 to reveal, F A1 to flag, C A1 to chord).");
                 System.out.println();
+                displayService.redisplayGrid(game);
             } catch (Exception e) {
                 System.out.println("Unexpected error: " + e.getMessage());
                 System.out.println("Please try again.");
                 System.out.println();
+                displayService.redisplayGrid(game);
             }
         }
 
         inputService.waitForKeyPress();
     }
 
+    /**
+     * Apply one command: "A1" reveals, "C A1" chords and "F A1" toggles a flag
+     *
+     * @return the reveal or chord result, or null for a flag toggle
+     */
+    private RevealResult applyMove(MinesweeperGridPlay game, String input) {
+        String command = input.length() > 2 && input.charAt(1) == ' '
+                ? input.substring(0, 1).toUpperCase() : "";
+        if (command.isEmpty()) {
+            return game.revealCell(game.parsePosition(input));
+        }
+
+        Position position = game.parsePosition(input.substring(2).trim());
+        if (command.equals("C")) {
+            return game.chordCell(position);
+        }
+        if (!command.equals("F")) {
+            throw new IllegalArgumentException("Unknown command: " + command);
+        }
+        if (game.isRevealed(position.getRow(), position.getColumn())) {
+            System.out.println("This square is already revealed.");
+            System.out.println();
+            displayService.redisplayGrid(game);
+            return null;
+        }
+
+        boolean flagged = game.toggleFlag(position);
+        displayService.displayGrid(game, new RevealResult(RevealResultType.FLAGGED, 0, List.of(position)));
+        displayService.displayFlagResult(game, flagged);
+        return null;
+    }
+
     /**
      * Cleanup resources
      */
@@ -0,0 +1,35 @@
+package dto;
+
+import java.util.List;
+
+/**
+ * Aggregated result of revealing a batch of cells in one call
+ *
+ * The type is the outcome of the last move that changed the board (MINE_HIT and
+ * GAME_WON end the batch); revealed positions cover every move that was applied.
+ */
+public class BatchRevealResult extends RevealResult {
+    private final int appliedMoves;      // Moves applied before the batch ended
+    private final int requestedMoves;    // Moves in the batch
+
+    public BatchRevealResult(RevealResultType type, int adjacentMineCount, List<Position> revealedPositions,
+                             int appliedMoves, int requestedMoves) {
+        super(type, adjacentMineCount, revealedPositions);
+        this.appliedMoves = appliedMoves;
+        this.requestedMoves = requestedMoves;
+    }
+
+    public BatchRevealResult(RevealResultType type, int adjacentMineCount, RevealedCells revealedCells,
+                             int appliedMoves, int requestedMoves) {
+        super(type, adjacentMineCount, revealedCells);
+        this.appliedMoves = appliedMoves;
+        this.requestedMoves = requestedMoves;
+    }
+
+    public int getAppliedMoves() { return appliedMoves; }
+    public int getRequestedMoves() { return requestedMoves; }
+
+    public boolean isComplete() {
+        return appliedMoves == requestedMoves;
+    }
+}
@@ -0,0 +1,10 @@
+package dto;
+
+/**
+ * When and how the mines of a board are generated
+ */
+public enum BoardGenerationMode {
+    EAGER,              // Mines and counts are generated when the game is created
+    FIRST_CLICK_SAFE,   // Mines are placed on the first reveal, away from the clicked square
+    NO_GUESS            // Like FIRST_CLICK_SAFE, but the board can be cleared from there without guessing
+}
@@ -0,0 +1,127 @@
+package dto;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Compact 64-bit identity of a board: everything needed to regenerate it
+ *
+ * An ID packs the four arguments of MinesweeperGridPlay(size, mines, seed, mode)
+ * instead of the cells, so any node can rebuild the same board from it:
+ *
+ *   bits 63-62  generation mode (ordinal)
+ *   bits 61-51  grid size (up to 2047)
+ *   bits 50-30  mine count (up to 2097151)
+ *   bits 29-0   seed (up to 2^30 - 1)
+ *
+ * Only seeds below 2^30 are addressable. Ordinary games keep full 64-bit seeds;
+ * random() and randomSeed() draw small ones only for boards meant to be shared. The text form is the unsigned value in base 36.
+ * NO_GUESS boards are not encodable: their layout also depends on the generator's search, so
+ * they are not shared by ID.
+ */
+public final class BoardId {
+    public static final int MAX_SIZE = (1 << 11) - 1;
+    public static final int MAX_MINES = (1 << 21) - 1;
+    public static final long SEED_MASK = (1L << 30) - 1;
+
+    private static final int MODE_SHIFT = 62;
+    private static final int SIZE_SHIFT = 51;
+    private static final int MINES_SHIFT = 30;
+
+    private final long value;
+
+    private BoardId(long value) {
+        this.value = value;
+    }
+
+    /**
+     * ID of a board; size, mines and seed must fit their fields and the mode must not be NO_GUESS
+     */
+    public static BoardId of(int size, int totalMines, long seed, BoardGenerationMode mode) {
+        if (!isEncodable(size, totalMines, seed, mode)) {
+            throw new IllegalArgumentException("Board cannot be encoded: size " + size + ", mines " + totalMines
+                    + ", seed " + seed + ", mode " + mode);
+        }
+        return new BoardId(((long) mode.ordinal() << MODE_SHIFT) | ((long) size << SIZE_SHIFT)
+                | ((long) totalMines << MINES_SHIFT) | seed);
+    }
+
+    /**
+     * ID of a new board with a random addressable seed
+     */
+    public static BoardId random(int size, int totalMines, BoardGenerationMode mode) {
+        return of(size, totalMines, randomSeed(), mode);
+    }
+
+    public static boolean isEncodable(int size, int totalMines, long seed, BoardGenerationMode mode) {
+        return mode != BoardGenerationMode.NO_GUESS && size >= 1 && size <= MAX_SIZE && totalMines >= 0 && totalMines <= MAX_MINES
+                && (long) totalMines <= (long) size * size && (seed & ~SEED_MASK) == 0;
+    }
+
+    /**
+     * A random seed that fits a board ID
+     */
+    public static long randomSeed() {
+        return ThreadLocalRandom.current().nextLong() & SEED_MASK;
+    }
+
+    /**
+     * Rebuild an ID from its 64-bit value
+     */
+    public static BoardId fromLong(long value) {
+        int mode = (int) (value >>> MODE_SHIFT);
+        int size = (int) (value >>> SIZE_SHIFT) & MAX_SIZE;
+        int totalMines = (int) (value >>> MINES_SHIFT) & MAX_MINES;
+        if (mode >= BoardGenerationMode.values().length
+                || !isEncodable(size, totalMines, value & SEED_MASK, BoardGenerationMode.values()[mode])) {
+            throw new IllegalArgumentException("Invalid board ID: " + Long.toUnsignedString(value, 36));
+        }
+        return new BoardId(value);
+    }
+
+    /**
+     * Parse the base-36 text form
+     */
+    public static BoardId parse(String text) {
+        try {
+            return fromLong(Long.parseUnsignedLong(text, 36));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid board ID: " + text);
+        }
+    }
+
+    // ========== Fields ==========
+    public long toLong() {
+        return value;
+    }
+
+    public BoardGenerationMode getGenerationMode() {
+        return BoardGenerationMode.values()[(int) (value >>> MODE_SHIFT)];
+    }
+
+    public int getSize() {
+        return (int) (value >>> SIZE_SHIFT) & MAX_SIZE;
+    }
+
+    public int getTotalMines() {
+        return (int) (value >>> MINES_SHIFT) & MAX_MINES;
+    }
+
+    public long getSeed() {
+        return value & SEED_MASK;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof BoardId && ((BoardId) obj).value == value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toUnsignedString(value, 36);
+    }
+}
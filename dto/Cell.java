@@ -2,25 +2,57 @@ package dto;
 
 /**
  * Represents a single cell in the minesweeper grid
+ *
+ * A cell from the grid is a lightweight view over one entry of a PackedBoard;
+ * reads and writes go straight through to the packed storage. A standalone
+ * cell (no-arg constructor) keeps its state in plain fields instead.
  */
 public class Cell {
-    private boolean hasMine;           // Does this cell contain a mine?
-    private boolean isRevealed;        // Has this cell been uncovered?
-    private int adjacentMineCount;     // Number of mines in adjacent cells
+    private final PackedBoard board;   // Backing storage, or null for a standalone cell
+    private final int index;           // Cell index inside the board
+
+    // State of a standalone cell
+    private boolean hasMine;
+    private boolean isRevealed;
+    private int adjacentMineCount;
 
     public Cell() {
-        this.hasMine = false;
-        this.isRevealed = false;
-        this.adjacentMineCount = 0;
+        this(null, 0);
+    }
+
+    public Cell(PackedBoard board, int index) {
+        this.board = board;
+        this.index = index;
     }
 
     // Getters and setters
-    public boolean hasMine() { return hasMine; }
-    public void setHasMine(boolean hasMine) { this.hasMine = hasMine; }
+    public boolean hasMine() { return board != null ? board.hasMine(index) : hasMine; }
+    public void setHasMine(boolean hasMine) {
+        if (board != null) {
+            board.setMine(index, hasMine);
+        } else {
+            this.hasMine = hasMine;
+        }
+    }
 
-    public boolean isRevealed() { return isRevealed; }
-    public void setRevealed(boolean revealed) { this.isRevealed = revealed; }
+    public boolean isRevealed() { return board != null ? board.isRevealed(index) : isRevealed; }
+    public void setRevealed(boolean revealed) {
+        if (board != null) {
+            board.setRevealed(index, revealed);
+        } else {
+            this.isRevealed = revealed;
+        }
+    }
+
+    // Flags change through MinesweeperGridPlay, which keeps the neighbour flag counts
+    public boolean isFlagged() { return board != null && board.isFlagged(index); }
 
-    public int getAdjacentMineCount() { return adjacentMineCount; }
-    public void setAdjacentMineCount(int count) { this.adjacentMineCount = count; }
-}
\ No newline at end of file
+    public int getAdjacentMineCount() { return board != null ? board.getAdjacentMineCount(index) : adjacentMineCount; }
+    public void setAdjacentMineCount(int count) {
+        if (board != null) {
+            board.setAdjacentMineCount(index, count);
+        } else {
+            this.adjacentMineCount = count;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dto;
+
+/**
+ * One fixed-size square chunk of an endless minefield
+ *
+ * Mine bits are generated deterministically from the world seed and the chunk
+ * coordinates; revealed bits and the counts of revealed cells are player state.
+ */
+public class MinefieldChunk {
+    private final int chunkRow;            // Chunk coordinate (world row / chunk size)
+    private final int chunkColumn;         // Chunk coordinate (world column / chunk size)
+    private final PackedBoard board;       // Local cells of this chunk
+    private int revealedCells;             // Number of revealed cells in this chunk
+
+    public MinefieldChunk(int chunkRow, int chunkColumn, PackedBoard board) {
+        this.chunkRow = chunkRow;
+        this.chunkColumn = chunkColumn;
+        this.board = board;
+        this.revealedCells = 0;
+    }
+
+    public int getChunkRow() {
+        return chunkRow;
+    }
+
+    public int getChunkColumn() {
+        return chunkColumn;
+    }
+
+    public PackedBoard getBoard() {
+        return board;
+    }
+
+    public int getRevealedCells() {
+        return revealedCells;
+    }
+
+    public void incrementRevealedCells() {
+        this.revealedCells++;
+    }
+
+    /**
+     * A chunk is touched once the player has revealed any of its cells;
+     * untouched chunks can be dropped and regenerated at any time
+     */
+    public boolean isTouched() {
+        return revealedCells > 0;
+    }
+
+    /**
+     * Pack chunk coordinates into a single map key
+     */
+    public static long key(int chunkRow, int chunkColumn) {
+        return ((long) chunkRow << 32) | (chunkColumn & 0xFFFFFFFFL);
+    }
+}
@@ -8,31 +8,23 @@ import java.util.*;
 public class MinesweeperGrid {
     private final int size;                          // Grid size (size x size)
     private final int totalMines;                    // Total number of mines
-    private final Cell[][] grid;                     // 2D array of cells
+    private final PackedBoard board;                 // Packed cell storage
     private GameState gameState;                     // Current game state
     private int revealedCells;                       // Number of revealed non-mine cells
-    private final Set<Position> minePositions;       // Track mine locations for efficiency
 
     public MinesweeperGrid(int size, int totalMines) {
-        this.size = size;
-        this.totalMines = totalMines;
-        this.grid = new Cell[size][size];
-        this.gameState = GameState.PLAYING;
-        this.revealedCells = 0;
-        this.minePositions = new HashSet<>();
-
-        initializeGrid();
+        this(new PackedBoard(size), totalMines);
     }
 
     /**
-     * Initialize the grid with empty cells
+     * Grid over an existing board, which is adopted rather than copied
      */
-    private void initializeGrid() {
-        for (int row = 0; row < size; row++) {
-            for (int col = 0; col < size; col++) {
-                grid[row][col] = new Cell();
-            }
-        }
+    public MinesweeperGrid(PackedBoard board, int totalMines) {
+        this.size = board.getSize();
+        this.totalMines = totalMines;
+        this.board = board;
+        this.gameState = GameState.PLAYING;
+        this.revealedCells = 0;
     }
 
     // ========== Getters ==========
@@ -48,20 +40,55 @@ public class MinesweeperGrid {
         return gameState;
     }
 
+    public int getRevealedCells() {
+        return revealedCells;
+    }
+
     /**
      * Get cell at specific position
+     * The returned Cell is a view that writes through to the packed board
      */
     public Cell getCell(int row, int col) {
-        if (isValidPosition(row, col)) {
-            return grid[row][col];
-        }
-        throw new IllegalArgumentException("Invalid position: " + row + "," + col);
+        return new Cell(board, cellIndex(row, col));
     }
 
     public Cell getCell(Position position) {
         return getCell(position.getRow(), position.getColumn());
     }
 
+    /**
+     * Packed storage backing this grid
+     */
+    public PackedBoard getBoard() {
+        return board;
+    }
+
+    public boolean hasMine(int row, int col) {
+        return board.hasMine(cellIndex(row, col));
+    }
+
+    public boolean isRevealed(int row, int col) {
+        return board.isRevealed(cellIndex(row, col));
+    }
+
+    public boolean isFlagged(int row, int col) {
+        return board.isFlagged(cellIndex(row, col));
+    }
+
+    public int getAdjacentMineCount(int row, int col) {
+        return board.getAdjacentMineCount(cellIndex(row, col));
+    }
+
+    /**
+     * Convert a validated position into a packed cell index
+     */
+    protected int cellIndex(int row, int col) {
+        if (isValidPosition(row, col)) {
+            return board.indexOf(row, col);
+        }
+        throw new IllegalArgumentException("Invalid position: " + row + "," + col);
+    }
+
     // ========== Setters (Package-private for MinesweeperGridPlay) ==========
     public void setGameState(GameState gameState) {
         this.gameState = gameState;
@@ -71,20 +98,32 @@ public class MinesweeperGrid {
         this.revealedCells++;
     }
 
+    public void addRevealedCells(int count) {
+        this.revealedCells += count;
+    }
+
     public void resetRevealedCells() {
         this.revealedCells = 0;
     }
 
     public void addMinePosition(Position position) {
-        this.minePositions.add(position);
+        board.setMine(cellIndex(position.getRow(), position.getColumn()), true);
     }
 
     public void clearMinePositions() {
-        this.minePositions.clear();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            board.setMine(index, false);
+        }
     }
 
     public Set<Position> getMinePositions() {
-        return new HashSet<>(minePositions); // Return defensive copy
+        Set<Position> minePositions = new HashSet<>();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.hasMine(index)) {
+                minePositions.add(new Position(board.rowOf(index), board.columnOf(index)));
+            }
+        }
+        return minePositions;
     }
 
     // ========== Validation Methods ==========
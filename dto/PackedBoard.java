@@ -0,0 +1,186 @@
+package dto;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Packed primitive storage for the cells of a minesweeper board
+ *
+ * Each cell is stored in a single byte of a flat row-major array:
+ * bits 0-3 hold the adjacent mine count, bit 4 the mine flag,
+ * bit 5 the revealed flag, bit 6 the player's flag and bit 7 marks the count
+ * as computed.
+ * Counts are memoised: one that has not been set is computed on first read.
+ * Cells are addressed by index (row * size + col).
+ */
+public class PackedBoard {
+    public static final int COUNT_MASK = 0x0F;       // Adjacent mine count (0-8)
+    public static final int MINE_BIT = 0x10;         // Cell contains a mine
+    public static final int REVEALED_BIT = 0x20;     // Cell has been uncovered
+    public static final int FLAG_BIT = 0x40;         // Player has flagged the cell
+    public static final int COUNT_KNOWN_BIT = 0x80;  // Adjacent count is up to date
+
+    private static final long ARRAY_HEADER_BYTES = 16;
+    private static final long OBJECT_HEADER_BYTES = 16;
+
+    private final int size;                          // Board size (size x size)
+    private final byte[] cells;                      // One packed byte per cell
+
+    public PackedBoard(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Invalid board size: " + size);
+        }
+        this.size = size;
+        this.cells = new byte[size * size];
+    }
+
+    // ========== Indexing ==========
+    public int getSize() {
+        return size;
+    }
+
+    public int getCellCount() {
+        return cells.length;
+    }
+
+    public int indexOf(int row, int col) {
+        return row * size + col;
+    }
+
+    public int rowOf(int index) {
+        return index / size;
+    }
+
+    public int columnOf(int index) {
+        return index % size;
+    }
+
+    // ========== Cell Access ==========
+    public boolean hasMine(int index) {
+        return (cells[index] & MINE_BIT) != 0;
+    }
+
+    public void setMine(int index, boolean hasMine) {
+        if (hasMine(index) != hasMine) {
+            setBit(index, MINE_BIT, hasMine);
+            invalidateCounts(index);
+        }
+    }
+
+    public boolean isRevealed(int index) {
+        return (cells[index] & REVEALED_BIT) != 0;
+    }
+
+    public void setRevealed(int index, boolean revealed) {
+        setBit(index, REVEALED_BIT, revealed);
+    }
+
+    public boolean isFlagged(int index) {
+        return (cells[index] & FLAG_BIT) != 0;
+    }
+
+    public void setFlagged(int index, boolean flagged) {
+        setBit(index, FLAG_BIT, flagged);
+    }
+
+    /**
+     * Adjacent mine count of a cell (0 for mines), computed and memoised on first read
+     */
+    public int getAdjacentMineCount(int index) {
+        int cell = cells[index];
+        if ((cell & COUNT_KNOWN_BIT) == 0) {
+            int count = (cell & MINE_BIT) != 0 ? 0 : countAdjacentMines(index);
+            cell = (cell & ~COUNT_MASK) | count | COUNT_KNOWN_BIT;
+            cells[index] = (byte) cell;
+        }
+        return cell & COUNT_MASK;
+    }
+
+    public void setAdjacentMineCount(int index, int count) {
+        if (count < 0 || count > 8) {
+            throw new IllegalArgumentException("Invalid adjacent mine count: " + count);
+        }
+        cells[index] = (byte) ((cells[index] & ~COUNT_MASK) | count | COUNT_KNOWN_BIT);
+    }
+
+    /**
+     * Count the mines in the 8 cells around a cell, ignoring any memoised value
+     */
+    public int countAdjacentMines(int index) {
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+        int count = 0;
+
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                int neighbor = row * size + col;
+                if (neighbor != index && (cells[neighbor] & MINE_BIT) != 0) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Forget the memoised counts of a cell and its neighbours after a mine changes
+     */
+    private void invalidateCounts(int index) {
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                cells[row * size + col] &= ~COUNT_KNOWN_BIT;
+            }
+        }
+    }
+
+    private void setBit(int index, int bit, boolean value) {
+        if (value) {
+            cells[index] |= bit;
+        } else {
+            cells[index] &= ~bit;
+        }
+    }
+
+    // ========== Bulk Operations ==========
+    /**
+     * Reset every cell to hidden, mine-free and not yet counted
+     */
+    public void clear() {
+        Arrays.fill(cells, (byte) 0);
+    }
+
+    /**
+     * Copy the raw cell bytes into the buffer at its position (a single bulk copy)
+     */
+    public void writeTo(ByteBuffer target) {
+        target.put(cells);
+    }
+
+    /**
+     * Replace every cell with raw bytes read from the buffer at its position
+     */
+    public void readFrom(ByteBuffer source) {
+        source.get(cells);
+    }
+
+    /**
+     * Replace every cell with the cells of an equal-size board (a single array copy)
+     */
+    public void copyFrom(PackedBoard source) {
+        if (source.size != size) {
+            throw new IllegalArgumentException("Board size " + source.size + " does not match " + size);
+        }
+        System.arraycopy(source.cells, 0, cells, 0, cells.length);
+    }
+
+    /**
+     * Approximate heap footprint of this board in bytes
+     */
+    public long getFootprintBytes() {
+        return OBJECT_HEADER_BYTES + ARRAY_HEADER_BYTES + cells.length;
+    }
+}
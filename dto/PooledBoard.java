@@ -0,0 +1,32 @@
+package dto;
+
+/**
+ * A board generated ahead of time: the EAGER layout of its seed, mines and counts in place
+ */
+public class PooledBoard {
+    private final long seed;
+    private final int totalMines;
+    private final PackedBoard board;
+
+    public PooledBoard(long seed, int totalMines, PackedBoard board) {
+        this.seed = seed;
+        this.totalMines = totalMines;
+        this.board = board;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getSize() {
+        return board.getSize();
+    }
+
+    public int getTotalMines() {
+        return totalMines;
+    }
+
+    public PackedBoard getBoard() {
+        return board;
+    }
+}
@@ -5,21 +5,50 @@ import java.util.List;
 
 /**
  * Result of a cell reveal operation
+ *
+ * Engine results carry the revealed cells as compact RevealedCells; Position
+ * objects are only built when getRevealedPositions() is called.
  */
 public class RevealResult {
     private final RevealResultType type;
     private final int adjacentMineCount;
-    private final List<Position> revealedPositions;
+    private final RevealedCells revealedCells;      // Null when built from a Position list
+    private final List<Position> revealedPositions;        // Null when built from RevealedCells
 
     public RevealResult(RevealResultType type, int adjacentMineCount, List<Position> revealedPositions) {
         this.type = type;
         this.adjacentMineCount = adjacentMineCount;
+        this.revealedCells = null;
         this.revealedPositions = new ArrayList<>(revealedPositions);
     }
 
+    public RevealResult(RevealResultType type, int adjacentMineCount, RevealedCells revealedCells) {
+        this.type = type;
+        this.adjacentMineCount = adjacentMineCount;
+        this.revealedCells = revealedCells;
+        this.revealedPositions = null;
+    }
+
     public RevealResultType getType() { return type; }
     public int getAdjacentMineCount() { return adjacentMineCount; }
-    public List<Position> getRevealedPositions() { return new ArrayList<>(revealedPositions); }
+
+    /**
+     * Revealed positions as a new list the caller may modify, built on every call
+     * Empty when the cells were streamed to a visitor instead of being kept; hot paths
+     * should read getRevealedCells() instead.
+     */
+    public List<Position> getRevealedPositions() {
+        return revealedCells != null ? revealedCells.toPositions() : new ArrayList<>(revealedPositions);
+    }
+
+    /**
+     * Compact revealed cells, or null when this result was built from a Position list
+     */
+    public RevealedCells getRevealedCells() { return revealedCells; }
+
+    public int getRevealedCount() {
+        return revealedCells != null ? revealedCells.size() : revealedPositions.size();
+    }
 
     public boolean isGameOver() {
         return type == RevealResultType.MINE_HIT || type == RevealResultType.GAME_WON;
@@ -7,5 +7,7 @@ public enum RevealResultType {
     NORMAL_REVEAL,      // Regular cell revealed
     MINE_HIT,           // Mine was hit - game over
     GAME_WON,           // Last cell revealed - game won
-    ALREADY_REVEALED    // Cell was already revealed
+    ALREADY_REVEALED,   // Cell was already revealed
+    FLAGGED,            // Cell is flagged - unflag it before revealing
+    GAME_OVER           // Game already won or lost - nothing changes
 }
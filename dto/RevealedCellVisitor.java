@@ -0,0 +1,9 @@
+package dto;
+
+/**
+ * Callback receiving each cell revealed by a move, as a packed cell index (row * size + col)
+ */
+@FunctionalInterface
+public interface RevealedCellVisitor {
+    void visit(int cellIndex);
+}
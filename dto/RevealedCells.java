@@ -0,0 +1,122 @@
+package dto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact, immutable set of revealed cells stored as packed cell indices
+ *
+ * Either a plain index array in reveal order, or a run-length encoding of the
+ * sorted indices as (start, length) pairs, which collapses the long horizontal
+ * runs produced by large cascades. Streamed results keep only the count.
+ */
+public class RevealedCells {
+    private final int boardSize;
+    private final int[] data;          // Indices, or (start, length) pairs; null when streamed
+    private final int count;           // Number of revealed cells
+    private final boolean runLength;
+
+    private RevealedCells(int boardSize, int[] data, int count, boolean runLength) {
+        this.boardSize = boardSize;
+        this.data = data;
+        this.count = count;
+        this.runLength = runLength;
+    }
+
+    /**
+     * Copy the first count indices, keeping reveal order
+     */
+    public static RevealedCells of(int boardSize, int[] indices, int count) {
+        return new RevealedCells(boardSize, Arrays.copyOf(indices, count), count, false);
+    }
+
+    /**
+     * Run-length encode the first count indices (order is not preserved)
+     */
+    public static RevealedCells runLengthOf(int boardSize, int[] indices, int count) {
+        int[] sorted = Arrays.copyOf(indices, count);
+        Arrays.sort(sorted);
+
+        int[] runs = new int[8];
+        int runValues = 0;
+        int i = 0;
+        while (i < count) {
+            int start = sorted[i];
+            int length = 1;
+            while (i + length < count && sorted[i + length] == start + length) {
+                length++;
+            }
+            if (runValues + 2 > runs.length) {
+                runs = Arrays.copyOf(runs, runs.length * 2);
+            }
+            runs[runValues++] = start;
+            runs[runValues++] = length;
+            i += length;
+        }
+
+        return new RevealedCells(boardSize, Arrays.copyOf(runs, runValues), count, true);
+    }
+
+    /**
+     * Result whose cells were already streamed to a visitor; only the count is kept
+     */
+    public static RevealedCells streamed(int boardSize, int count) {
+        return new RevealedCells(boardSize, null, count, false);
+    }
+
+    // ========== Getters ==========
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isRunLengthEncoded() {
+        return runLength;
+    }
+
+    public boolean isStreamed() {
+        return data == null;
+    }
+
+    /**
+     * Number of (start, length) runs, or the number of cells for a plain index list
+     */
+    public int getRunCount() {
+        if (data == null) {
+            return 0;
+        }
+        return runLength ? data.length / 2 : data.length;
+    }
+
+    // ========== Iteration ==========
+    /**
+     * Visit every cell index; does nothing for streamed results
+     */
+    public void forEach(RevealedCellVisitor visitor) {
+        if (data == null) {
+            return;
+        }
+        if (!runLength) {
+            for (int index : data) {
+                visitor.visit(index);
+            }
+            return;
+        }
+        for (int run = 0; run < data.length; run += 2) {
+            int end = data[run] + data[run + 1];
+            for (int index = data[run]; index < end; index++) {
+                visitor.visit(index);
+            }
+        }
+    }
+
+    public List<Position> toPositions() {
+        List<Position> positions = new ArrayList<>(data == null ? 0 : count);
+        forEach(index -> positions.add(new Position(index / boardSize, index % boardSize)));
+        return positions;
+    }
+}
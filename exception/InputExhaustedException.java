@@ -0,0 +1,14 @@
+package exception;
+
+/**
+ * Thrown when an input source has no more lines (end of script, closed pipe or finished queue)
+ *
+ * Unchecked, so it passes through the controller's retry loops and ends the session.
+ */
+public class InputExhaustedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InputExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,44 @@
+package gameMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for placing the mines of one board
+ */
+@Name("minesweeper.BoardGeneration")
+@Label("Board Generation")
+@Category("Minesweeper")
+@Description("Mine placement for one board, including the no-guess candidate search")
+@StackTrace(false)
+public class BoardGenerationEvent extends jdk.jfr.Event {
+    @Label("Size")
+    int size;
+
+    @Label("Mines")
+    int mines;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Placement Draws")
+    @Description("Random draws consumed by mine placement, summed over every candidate tried")
+    long draws;
+
+    @Label("Candidates")
+    int candidates;
+
+    public void commit(int size, int mines, String mode, long draws, int candidates) {
+        if (shouldCommit()) {
+            this.size = size;
+            this.mines = mines;
+            this.mode = mode;
+            this.draws = draws;
+            this.candidates = candidates;
+            commit();
+        }
+    }
+}
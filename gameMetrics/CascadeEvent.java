@@ -0,0 +1,32 @@
+package gameMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one flood fill from a zero square
+ */
+@Name("minesweeper.Cascade")
+@Label("Cascade")
+@Category("Minesweeper")
+@Description("Flood fill opening the squares around a zero square")
+@StackTrace(false)
+public class CascadeEvent extends jdk.jfr.Event {
+    @Label("Squares Opened")
+    int squaresOpened;
+
+    @Label("Queue High-Water Mark")
+    @Description("Most squares waiting in the breadth-first queue at once")
+    int queuePeak;
+
+    public void commit(int squaresOpened, int queuePeak) {
+        if (shouldCommit()) {
+            this.squaresOpened = squaresOpened;
+            this.queuePeak = queuePeak;
+            commit();
+        }
+    }
+}
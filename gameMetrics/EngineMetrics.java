@@ -0,0 +1,145 @@
+package gameMetrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide recorders for engine operations
+ *
+ * Switched on with -Dminesweeper.metrics=true. ENABLED is a static final flag,
+ * so call sites guarded by "if (EngineMetrics.ENABLED)" are compiled away by the
+ * JIT when metrics are off. Recording is lock-free: striped adders for counters
+ * and LogLinearHistogram for distributions. Latencies are in nanoseconds; the
+ * allocation figure is the calling thread's allocated bytes across one move, as
+ * reported by com.sun.management.ThreadMXBean.
+ *
+ * Per-operation detail is also available as JFR events (RevealEvent, CascadeEvent,
+ * BoardGenerationEvent, RenderEvent), recorded whenever a Flight Recorder session
+ * enables them, e.g. with the minesweeper.jfc settings in this package.
+ */
+public final class EngineMetrics {
+    public static final boolean ENABLED = Boolean.getBoolean("minesweeper.metrics");
+    public static final String OBJECT_NAME = "minesweeper:type=EngineMetrics";
+
+    static final LogLinearHistogram REVEAL_NANOS = new LogLinearHistogram();
+    static final LogLinearHistogram FLOOD_FILL_NANOS = new LogLinearHistogram();
+    static final LogLinearHistogram CASCADE_SIZE = new LogLinearHistogram();
+    static final LogLinearHistogram MINE_PLACEMENT_NANOS = new LogLinearHistogram();
+    static final LogLinearHistogram RENDER_NANOS = new LogLinearHistogram();
+    static final LogLinearHistogram ALLOCATED_BYTES_PER_MOVE = new LogLinearHistogram();
+    static final LongAdder SQUARES_REVEALED = new LongAdder();
+    static final LongAdder GAMES_OPENED = new LongAdder();
+    static final LongAdder GAMES_CLOSED = new LongAdder();
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    static {
+        if (ENABLED) {
+            registerMBean();
+        }
+    }
+
+    private EngineMetrics() {
+
+    }
+
+    /**
+     * Register the platform MBean (done automatically when metrics are enabled)
+     */
+    public static void registerMBean() {
+        EngineMetricsBean.register();
+    }
+
+    // ========== Recording ==========
+    /**
+     * Bytes allocated so far by the calling thread, or 0 where unsupported
+     */
+    public static long allocatedBytes() {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+    }
+
+    /**
+     * One reveal call: latency, squares opened and bytes allocated since the start values
+     */
+    public static void recordReveal(long startNanos, long startAllocatedBytes, int squaresRevealed) {
+        REVEAL_NANOS.record(System.nanoTime() - startNanos);
+        SQUARES_REVEALED.add(squaresRevealed);
+        if (THREADS != null) {
+            ALLOCATED_BYTES_PER_MOVE.record(allocatedBytes() - startAllocatedBytes);
+        }
+    }
+
+    public static void recordFloodFill(long startNanos, int cascadeSize) {
+        FLOOD_FILL_NANOS.record(System.nanoTime() - startNanos);
+        CASCADE_SIZE.record(cascadeSize);
+    }
+
+    public static void recordMinePlacement(long startNanos) {
+        MINE_PLACEMENT_NANOS.record(System.nanoTime() - startNanos);
+    }
+
+    public static void recordRender(long startNanos) {
+        RENDER_NANOS.record(System.nanoTime() - startNanos);
+    }
+
+    public static void gameOpened() {
+        GAMES_OPENED.increment();
+    }
+
+    public static void gameClosed() {
+        GAMES_CLOSED.increment();
+    }
+
+    // ========== Reading ==========
+    public static long getActiveGames() {
+        return GAMES_OPENED.sum() - GAMES_CLOSED.sum();
+    }
+
+    /**
+     * Plain-text dump of every recorder, one line each
+     */
+    public static String dump() {
+        StringBuilder text = new StringBuilder(1024);
+        text.append("metrics.enabled ").append(ENABLED).append('\n');
+        line(text, "reveal.nanos", REVEAL_NANOS);
+        line(text, "floodFill.nanos", FLOOD_FILL_NANOS);
+        line(text, "floodFill.cascadeSize", CASCADE_SIZE);
+        line(text, "minePlacement.nanos", MINE_PLACEMENT_NANOS);
+        line(text, "render.nanos", RENDER_NANOS);
+        line(text, "reveal.allocatedBytes", ALLOCATED_BYTES_PER_MOVE);
+        text.append(String.format(Locale.ROOT, "reveal.squares %d%n", SQUARES_REVEALED.sum()));
+        text.append(String.format(Locale.ROOT, "games.active %d%n", getActiveGames()));
+        text.append(String.format(Locale.ROOT, "games.opened %d%n", GAMES_OPENED.sum()));
+        return text.toString();
+    }
+
+    /**
+     * Clear every recorder except the open/closed game counters
+     */
+    public static void reset() {
+        REVEAL_NANOS.reset();
+        FLOOD_FILL_NANOS.reset();
+        CASCADE_SIZE.reset();
+        MINE_PLACEMENT_NANOS.reset();
+        RENDER_NANOS.reset();
+        ALLOCATED_BYTES_PER_MOVE.reset();
+        SQUARES_REVEALED.reset();
+    }
+
+    private static void line(StringBuilder text, String name, LogLinearHistogram histogram) {
+        text.append(name).append(' ').append(histogram.toText()).append('\n');
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+}
@@ -0,0 +1,92 @@
+package gameMetrics;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Platform MBean exposing the EngineMetrics recorders
+ */
+class EngineMetricsBean implements EngineMetricsMXBean {
+
+    /**
+     * Register with the platform MBean server once; failures only disable JMX access
+     */
+    static void register() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new EngineMetricsBean(), name);
+            }
+        } catch (JMException e) {
+            System.err.println("Engine metrics MBean not registered: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getRevealCount() {
+        return EngineMetrics.REVEAL_NANOS.getCount();
+    }
+
+    @Override
+    public long getRevealP50Nanos() {
+        return EngineMetrics.REVEAL_NANOS.getPercentile(0.50);
+    }
+
+    @Override
+    public long getRevealP99Nanos() {
+        return EngineMetrics.REVEAL_NANOS.getPercentile(0.99);
+    }
+
+    @Override
+    public long getRevealMaxNanos() {
+        return EngineMetrics.REVEAL_NANOS.getMax();
+    }
+
+    @Override
+    public long getFloodFillP99Nanos() {
+        return EngineMetrics.FLOOD_FILL_NANOS.getPercentile(0.99);
+    }
+
+    @Override
+    public long getCascadeSizeP99() {
+        return EngineMetrics.CASCADE_SIZE.getPercentile(0.99);
+    }
+
+    @Override
+    public long getMinePlacementP99Nanos() {
+        return EngineMetrics.MINE_PLACEMENT_NANOS.getPercentile(0.99);
+    }
+
+    @Override
+    public long getRenderP99Nanos() {
+        return EngineMetrics.RENDER_NANOS.getPercentile(0.99);
+    }
+
+    @Override
+    public double getAllocatedBytesPerMove() {
+        return EngineMetrics.ALLOCATED_BYTES_PER_MOVE.getMean();
+    }
+
+    @Override
+    public long getSquaresRevealed() {
+        return EngineMetrics.SQUARES_REVEALED.sum();
+    }
+
+    @Override
+    public long getActiveGames() {
+        return EngineMetrics.getActiveGames();
+    }
+
+    @Override
+    public String getDump() {
+        return EngineMetrics.dump();
+    }
+
+    @Override
+    public void reset() {
+        EngineMetrics.reset();
+    }
+}
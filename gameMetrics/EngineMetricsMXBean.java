@@ -0,0 +1,32 @@
+package gameMetrics;
+
+/**
+ * JMX view of EngineMetrics (ObjectName minesweeper:type=EngineMetrics)
+ */
+public interface EngineMetricsMXBean {
+    long getRevealCount();
+
+    long getRevealP50Nanos();
+
+    long getRevealP99Nanos();
+
+    long getRevealMaxNanos();
+
+    long getFloodFillP99Nanos();
+
+    long getCascadeSizeP99();
+
+    long getMinePlacementP99Nanos();
+
+    long getRenderP99Nanos();
+
+    double getAllocatedBytesPerMove();
+
+    long getSquaresRevealed();
+
+    long getActiveGames();
+
+    String getDump();
+
+    void reset();
+}
@@ -0,0 +1,111 @@
+package gameMetrics;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative longs with fixed log-linear buckets
+ *
+ * Values below 2^SUB_BITS get a bucket each; above that every power of two is
+ * split into 2^SUB_BITS equal sub-buckets, so any value is placed within 12.5%
+ * of its true size. All 488 buckets are allocated up front and recording is a
+ * single atomic increment, plus striped adders for the count and sum.
+ */
+public class LogLinearHistogram {
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+
+    public void record(long value) {
+        long clamped = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(clamped));
+        count.increment();
+        sum.add(clamped);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMean() {
+        long recorded = count.sum();
+        return recorded == 0 ? 0 : (double) sum.sum() / recorded;
+    }
+
+    /**
+     * Upper bound of the bucket holding the given quantile (0 to 1), or 0 when empty
+     */
+    public long getPercentile(double quantile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            total += snapshot[bucket];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return upperBound(bucket);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+
+    public long getMax() {
+        for (int bucket = BUCKETS - 1; bucket >= 0; bucket--) {
+            if (counts.get(bucket) > 0) {
+                return upperBound(bucket);
+            }
+        }
+        return 0;
+    }
+
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            counts.set(bucket, 0);
+        }
+        count.reset();
+        sum.reset();
+    }
+
+    /**
+     * count, mean, p50, p99, p99.9 and max on one line
+     */
+    public String toText() {
+        return String.format(Locale.ROOT, "count=%d mean=%.1f p50=%d p99=%d p999=%d max=%d",
+                getCount(), getMean(), getPercentile(0.50), getPercentile(0.99), getPercentile(0.999), getMax());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Largest value that falls into a bucket
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        long lower = (1L << exponent) + (subBucket << (exponent - SUB_BITS));
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+}
@@ -0,0 +1,29 @@
+package gameMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for drawing one console frame
+ */
+@Name("minesweeper.Render")
+@Label("Render")
+@Category("Minesweeper")
+@Description("One grid frame written to the console")
+@StackTrace(false)
+public class RenderEvent extends jdk.jfr.Event {
+    @Label("Bytes Written")
+    @DataAmount
+    int bytesWritten;
+
+    public void commit(int bytesWritten) {
+        if (shouldCommit()) {
+            this.bytesWritten = bytesWritten;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package gameMetrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one reveal call (a batch reveal is one event)
+ */
+@Name("minesweeper.Reveal")
+@Label("Reveal")
+@Category("Minesweeper")
+@Description("One reveal call on a game board")
+@StackTrace(false)
+public class RevealEvent extends jdk.jfr.Event {
+    @Label("Row")
+    int row;
+
+    @Label("Column")
+    int column;
+
+    @Label("Result")
+    String result;
+
+    @Label("Squares Opened")
+    int squaresOpened;
+
+    @Label("Moves")
+    @Description("Moves applied; more than one for batch reveals, whose coordinates are the last applied move")
+    int moves;
+
+    /**
+     * Fill in the fields and commit, if a recording wants this event
+     */
+    public void commit(int row, int column, String result, int squaresOpened, int moves) {
+        if (shouldCommit()) {
+            this.row = row;
+            this.column = column;
+            this.result = result;
+            this.squaresOpened = squaresOpened;
+            this.moves = moves;
+            commit();
+        }
+    }
+}
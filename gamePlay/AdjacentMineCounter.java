@@ -0,0 +1,127 @@
+package gamePlay;
+
+import dto.PackedBoard;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Computes adjacent mine counts for a whole board in a single pass
+ *
+ * Each row is scanned with a sliding 3x3 box sum: the mines in the current
+ * column triple are added once and reused for the two following cells.
+ * Large boards can be split into row stripes and counted on the common fork-join pool;
+ * every stripe writes only its own rows, so no synchronisation is needed.
+ */
+public class AdjacentMineCounter {
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 512 * 512;   // Cells before going parallel
+    private static final int ROWS_PER_TASK = 64;                       // Stripe height of one task
+
+    private final int parallelThreshold;
+
+    /**
+     * Counter that goes parallel for boards of at least DEFAULT_PARALLEL_THRESHOLD cells
+     */
+    public AdjacentMineCounter() {
+        this(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * @param parallelThreshold minimum cell count for row-striped parallel counting;
+     *                          Integer.MAX_VALUE keeps counting sequential
+     */
+    public AdjacentMineCounter(int parallelThreshold) {
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    /**
+     * Calculate and set adjacent mine counts for all cells; mine cells get 0
+     */
+    public void countAll(PackedBoard board) {
+        int size = board.getSize();
+        if (board.getCellCount() >= parallelThreshold && size > ROWS_PER_TASK) {
+            ForkJoinPool.commonPool().invoke(new RowStripeTask(board, 0, size));
+        } else {
+            countRows(board, 0, size);
+        }
+    }
+
+    /**
+     * Count the mines in the 8 cells around a single cell
+     */
+    public static int countAt(PackedBoard board, int index) {
+        return board.countAdjacentMines(index);
+    }
+
+    /**
+     * Sliding box-sum count over rows [fromRow, toRow)
+     */
+    private static void countRows(PackedBoard board, int fromRow, int toRow) {
+        int size = board.getSize();
+
+        for (int row = fromRow; row < toRow; row++) {
+            int left = 0;                                   // Mines in column col - 1
+            int center = columnMines(board, row, 0);        // Mines in column col
+            for (int col = 0; col < size; col++) {
+                int right = col + 1 < size ? columnMines(board, row, col + 1) : 0;
+                int index = row * size + col;
+
+                if (board.hasMine(index)) {
+                    board.setAdjacentMineCount(index, 0);
+                } else {
+                    board.setAdjacentMineCount(index, left + center + right);
+                }
+
+                left = center;
+                center = right;
+            }
+        }
+    }
+
+    /**
+     * Mines in the vertical triple (row - 1, row, row + 1) of a column
+     */
+    private static int columnMines(PackedBoard board, int row, int col) {
+        int size = board.getSize();
+        int index = row * size + col;
+        int mines = board.hasMine(index) ? 1 : 0;
+
+        if (row > 0 && board.hasMine(index - size)) {
+            mines++;
+        }
+        if (row + 1 < size && board.hasMine(index + size)) {
+            mines++;
+        }
+
+        return mines;
+    }
+
+    /**
+     * Fork-join task counting a stripe of rows, split in halves until small enough
+     */
+    private static class RowStripeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final PackedBoard board;
+        private final int fromRow;
+        private final int toRow;
+
+        RowStripeTask(PackedBoard board, int fromRow, int toRow) {
+            this.board = board;
+            this.fromRow = fromRow;
+            this.toRow = toRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toRow - fromRow <= ROWS_PER_TASK) {
+                countRows(board, fromRow, toRow);
+                return;
+            }
+
+            int middle = (fromRow + toRow) >>> 1;
+            invokeAll(new RowStripeTask(board, fromRow, middle),
+                    new RowStripeTask(board, middle, toRow));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package gamePlay;
+
+import dto.MinefieldChunk;
+import dto.PackedBoard;
+
+import java.util.*;
+
+/**
+ * Lazily generated, unbounded minefield divided into fixed-size chunks
+ *
+ * A chunk is generated the first time any cell in it (or next to it) is read,
+ * from the world seed and its chunk coordinates only. Chunks the player has
+ * touched are kept for good; untouched chunks live in a bounded LRU and are
+ * simply regenerated if they are needed again after eviction.
+ */
+public class ChunkedMinefield {
+    public static final int CHUNK_SIZE = 64;                   // Chunk is CHUNK_SIZE x CHUNK_SIZE
+    public static final int DEFAULT_MAX_COLD_CHUNKS = 256;     // Untouched chunks kept in memory
+
+    private final long worldSeed;
+    private final int minesPerChunk;
+    private final MinePlacementStrategy placementStrategy;
+    private final Map<Long, MinefieldChunk> touchedChunks;    // Chunks holding player state
+    private final LinkedHashMap<Long, MinefieldChunk> coldChunks; // LRU of regenerable chunks
+    private long generatedChunks;                              // Chunks generated, including regenerations
+
+    public ChunkedMinefield(long worldSeed, double mineDensity) {
+        this(worldSeed, mineDensity, DEFAULT_MAX_COLD_CHUNKS);
+    }
+
+    public ChunkedMinefield(long worldSeed, double mineDensity, int maxColdChunks) {
+        this.worldSeed = worldSeed;
+        this.minesPerChunk = (int) Math.round(mineDensity * CHUNK_SIZE * CHUNK_SIZE);
+        this.placementStrategy = new FloydMinePlacement();
+        this.touchedChunks = new HashMap<>();
+        this.coldChunks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, MinefieldChunk> eldest) {
+                return size() > maxColdChunks;
+            }
+        };
+        this.generatedChunks = 0;
+    }
+
+    // ========== Cell Access ==========
+    public boolean hasMine(int row, int col) {
+        return chunkAt(row, col).getBoard().hasMine(localIndex(row, col));
+    }
+
+    public boolean isRevealed(int row, int col) {
+        MinefieldChunk chunk = peekChunk(Math.floorDiv(row, CHUNK_SIZE), Math.floorDiv(col, CHUNK_SIZE));
+        return chunk != null && chunk.getBoard().isRevealed(localIndex(row, col));
+    }
+
+    /**
+     * Count mines around a cell, resolving cells on chunk edges against the adjacent chunks
+     */
+    public int countAdjacentMines(int row, int col) {
+        int localRow = Math.floorMod(row, CHUNK_SIZE);
+        int localCol = Math.floorMod(col, CHUNK_SIZE);
+
+        // Interior cells never leave their own chunk
+        if (localRow > 0 && localRow < CHUNK_SIZE - 1 && localCol > 0 && localCol < CHUNK_SIZE - 1) {
+            PackedBoard board = chunkAt(row, col).getBoard();
+            return AdjacentMineCounter.countAt(board, board.indexOf(localRow, localCol));
+        }
+
+        int count = 0;
+        for (int adjacentRow = row - 1; adjacentRow <= row + 1; adjacentRow++) {
+            for (int adjacentCol = col - 1; adjacentCol <= col + 1; adjacentCol++) {
+                if ((adjacentRow != row || adjacentCol != col) && hasMine(adjacentRow, adjacentCol)) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Mark a cell revealed and store its adjacent count; pins the chunk in memory
+     */
+    public void reveal(int row, int col, int adjacentMineCount) {
+        MinefieldChunk chunk = chunkAt(row, col);
+        PackedBoard board = chunk.getBoard();
+        int index = localIndex(row, col);
+
+        board.setRevealed(index, true);
+        board.setAdjacentMineCount(index, board.hasMine(index) ? 0 : adjacentMineCount);
+        chunk.incrementRevealedCells();
+
+        long key = MinefieldChunk.key(chunk.getChunkRow(), chunk.getChunkColumn());
+        if (!touchedChunks.containsKey(key)) {
+            coldChunks.remove(key);
+            touchedChunks.put(key, chunk);
+        }
+    }
+
+    /**
+     * Adjacent count stored for a revealed cell
+     */
+    public int getRevealedCount(int row, int col) {
+        return chunkAt(row, col).getBoard().getAdjacentMineCount(localIndex(row, col));
+    }
+
+    // ========== Chunk Management ==========
+    public long getWorldSeed() {
+        return worldSeed;
+    }
+
+    public int getTouchedChunkCount() {
+        return touchedChunks.size();
+    }
+
+    public int getLoadedChunkCount() {
+        return touchedChunks.size() + coldChunks.size();
+    }
+
+    public long getGeneratedChunkCount() {
+        return generatedChunks;
+    }
+
+    /**
+     * Get the chunk containing a world cell, generating it on first use
+     */
+    private MinefieldChunk chunkAt(int row, int col) {
+        int chunkRow = Math.floorDiv(row, CHUNK_SIZE);
+        int chunkColumn = Math.floorDiv(col, CHUNK_SIZE);
+
+        MinefieldChunk chunk = peekChunk(chunkRow, chunkColumn);
+        if (chunk == null) {
+            chunk = generateChunk(chunkRow, chunkColumn);
+            coldChunks.put(MinefieldChunk.key(chunkRow, chunkColumn), chunk);
+        }
+        return chunk;
+    }
+
+    private MinefieldChunk peekChunk(int chunkRow, int chunkColumn) {
+        long key = MinefieldChunk.key(chunkRow, chunkColumn);
+        MinefieldChunk chunk = touchedChunks.get(key);
+        return chunk != null ? chunk : coldChunks.get(key);
+    }
+
+    /**
+     * Generate a chunk's mines from the world seed and its coordinates only
+     */
+    private MinefieldChunk generateChunk(int chunkRow, int chunkColumn) {
+        PackedBoard board = new PackedBoard(CHUNK_SIZE);
+        long chunkSeed = SeedMixer.mix(worldSeed ^ SeedMixer.mix(MinefieldChunk.key(chunkRow, chunkColumn)));
+        placementStrategy.placeMines(board, minesPerChunk, new SplittableRandom(chunkSeed));
+        generatedChunks++;
+        return new MinefieldChunk(chunkRow, chunkColumn, board);
+    }
+
+    private static int localIndex(int row, int col) {
+        return Math.floorMod(row, CHUNK_SIZE) * CHUNK_SIZE + Math.floorMod(col, CHUNK_SIZE);
+    }
+}
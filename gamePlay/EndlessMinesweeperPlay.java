@@ -0,0 +1,153 @@
+package gamePlay;
+
+import config.GameConfiguration;
+import dto.*;
+
+import java.util.*;
+
+/**
+ * Game play logic for the endless minefield mode
+ *
+ * The field has no edges: cells are addressed by any int (row, col) pair and
+ * chunks are generated only when a reveal or cascade reaches them, so memory
+ * follows the explored area rather than the size of the world.
+ */
+public class EndlessMinesweeperPlay {
+    public static final double MIN_MINE_DENSITY = 0.12;   // Keeps zero-cell cascades finite
+
+    private final ChunkedMinefield minefield;
+    private GameState gameState;
+    private long revealedCells;
+    private long[] cascadeQueue;           // Ring buffer of packed (row, col) pairs, reused
+    private int queueHead;
+    private int queueSize;
+
+    public EndlessMinesweeperPlay(long worldSeed, double mineDensity) {
+        this(worldSeed, mineDensity, ChunkedMinefield.DEFAULT_MAX_COLD_CHUNKS);
+    }
+
+    public EndlessMinesweeperPlay(long worldSeed, double mineDensity, int maxColdChunks) {
+        if (mineDensity < MIN_MINE_DENSITY || mineDensity > GameConfiguration.MAX_MINE_PERCENTAGE) {
+            throw new IllegalArgumentException("Mine density must be between " + MIN_MINE_DENSITY
+                    + " and " + GameConfiguration.MAX_MINE_PERCENTAGE);
+        }
+        this.minefield = new ChunkedMinefield(worldSeed, mineDensity, maxColdChunks);
+        this.gameState = GameState.PLAYING;
+        this.revealedCells = 0;
+        this.cascadeQueue = new long[256];
+    }
+
+    // ========== Getters ==========
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public long getRevealedCells() {
+        return revealedCells;
+    }
+
+    public ChunkedMinefield getMinefield() {
+        return minefield;
+    }
+
+    public boolean isRevealed(int row, int col) {
+        return minefield.isRevealed(row, col);
+    }
+
+    /**
+     * Adjacent mine count of a revealed cell
+     */
+    public int getAdjacentMineCount(int row, int col) {
+        if (!minefield.isRevealed(row, col)) {
+            throw new IllegalStateException("Cell is not revealed: " + row + "," + col);
+        }
+        return minefield.getRevealedCount(row, col);
+    }
+
+    // ========== Cell Reveal Logic ==========
+    public RevealResult revealCell(Position position) {
+        return revealCell(position.getRow(), position.getColumn());
+    }
+
+    /**
+     * Reveal a cell anywhere in the world; zero cells cascade across chunk borders
+     */
+    public RevealResult revealCell(int row, int col) {
+        if (minefield.isRevealed(row, col)) {
+            return new RevealResult(RevealResultType.ALREADY_REVEALED,
+                    minefield.getRevealedCount(row, col),
+                    Collections.singletonList(new Position(row, col)));
+        }
+
+        if (minefield.hasMine(row, col)) {
+            minefield.reveal(row, col, 0);
+            gameState = GameState.LOST;
+            return new RevealResult(RevealResultType.MINE_HIT,
+                    0,
+                    Collections.singletonList(new Position(row, col)));
+        }
+
+        int mineCount = minefield.countAdjacentMines(row, col);
+        minefield.reveal(row, col, mineCount);
+        revealedCells++;
+
+        List<Position> revealedPositions = new ArrayList<>();
+        revealedPositions.add(new Position(row, col));
+        if (mineCount == 0) {
+            cascadeFrom(row, col, revealedPositions);
+        }
+
+        return new RevealResult(RevealResultType.NORMAL_REVEAL, mineCount, revealedPositions);
+    }
+
+    /**
+     * Breadth-first cascade from a zero cell; cells are revealed as they are enqueued,
+     * so the revealed bits double as the visited set
+     */
+    private void cascadeFrom(int startRow, int startCol, List<Position> revealedPositions) {
+        queueHead = 0;
+        queueSize = 0;
+        offer(startRow, startCol);
+
+        while (queueSize > 0) {
+            long packed = cascadeQueue[queueHead];
+            queueHead = (queueHead + 1) & (cascadeQueue.length - 1);
+            queueSize--;
+
+            int centerRow = (int) (packed >> 32);
+            int centerCol = (int) packed;
+            for (int row = centerRow - 1; row <= centerRow + 1; row++) {
+                for (int col = centerCol - 1; col <= centerCol + 1; col++) {
+                    if (minefield.isRevealed(row, col) || minefield.hasMine(row, col)) {
+                        continue;
+                    }
+
+                    int mineCount = minefield.countAdjacentMines(row, col);
+                    minefield.reveal(row, col, mineCount);
+                    revealedCells++;
+                    revealedPositions.add(new Position(row, col));
+
+                    if (mineCount == 0) {
+                        offer(row, col);
+                    }
+                }
+            }
+        }
+    }
+
+    private void offer(int row, int col) {
+        if (queueSize == cascadeQueue.length) {
+            // Grow the ring buffer, unrolling it so the head starts at 0
+            long[] grown = new long[cascadeQueue.length * 2];
+            for (int i = 0; i < queueSize; i++) {
+                grown[i] = cascadeQueue[(queueHead + i) & (cascadeQueue.length - 1)];
+            }
+            cascadeQueue = grown;
+            queueHead = 0;
+        }
+
+        int tail = (queueHead + queueSize) & (cascadeQueue.length - 1);
+        cascadeQueue[tail] = ((long) row << 32) | (col & 0xFFFFFFFFL);
+        queueSize++;
+    }
+}
@@ -0,0 +1,145 @@
+package gamePlay;
+
+import dto.PackedBoard;
+import dto.RevealedCellVisitor;
+
+import java.util.Arrays;
+
+/**
+ * Breadth-first flood fill over packed cell indices
+ *
+ * Replaces the Position/LinkedList/HashSet cascade with two int arrays that are
+ * allocated once per board and reused by every reveal. Visited cells are marked
+ * with a generation stamp so nothing has to be cleared between fills.
+ * Cells are visited in exactly the same order as the original BFS.
+ */
+public class FloodFill {
+    private final PackedBoard board;
+    private final int size;
+    private final int[] queue;          // BFS queue; consumed prefix holds revealed cells
+    private final int[] visitStamps;    // Generation in which each cell was last enqueued
+    private int generation;             // Current fill generation
+    private int revealedCount;          // Cells revealed by the last fill
+    private int queuePeak;              // Most cells waiting in the queue during the last fill
+
+    public FloodFill(PackedBoard board) {
+        this.board = board;
+        this.size = board.getSize();
+        this.queue = new int[board.getCellCount()];
+        this.visitStamps = new int[board.getCellCount()];
+        this.generation = 0;
+        this.revealedCount = 0;
+    }
+
+    /**
+     * Reveal every cell reachable from an already revealed zero cell
+     *
+     * @return number of cells revealed by this fill (excluding the start cell)
+     */
+    public int fill(int startIndex) {
+        return fill(startIndex, null);
+    }
+
+    /**
+     * Reveal every cell reachable from an already revealed zero cell,
+     * streaming each newly revealed cell to the visitor as soon as it is opened
+     *
+     * @param visitor receives revealed cell indices in BFS order; may be null
+     * @return number of cells revealed by this fill (excluding the start cell)
+     */
+    public int fill(int startIndex, RevealedCellVisitor visitor) {
+        nextGeneration();
+        visitStamps[startIndex] = generation;
+
+        int head = 0;
+        int tail = enqueueNeighbors(startIndex, 0);
+        int written = 0;
+        int peak = tail;
+
+        while (head < tail) {
+            int index = queue[head++];
+
+            // Skip if already revealed, a mine, or flagged by the player
+            if (board.isRevealed(index) || board.hasMine(index) || board.isFlagged(index)) {
+                continue;
+            }
+
+            // Reveal this cell; head > written so the slot is already consumed
+            board.setRevealed(index, true);
+            queue[written++] = index;
+            if (visitor != null) {
+                visitor.visit(index);
+            }
+
+            // If this cell also has 0 adjacent mines, add its neighbors to the queue
+            if (board.getAdjacentMineCount(index) == 0) {
+                tail = enqueueNeighbors(index, tail);
+                peak = Math.max(peak, tail - head);
+            }
+        }
+
+        revealedCount = written;
+        queuePeak = peak;
+        return written;
+    }
+
+    /**
+     * Number of cells revealed by the last fill
+     */
+    public int getRevealedCount() {
+        return revealedCount;
+    }
+
+    /**
+     * High-water mark of the BFS queue (cells enqueued but not yet visited) in the last fill
+     */
+    public int getQueuePeak() {
+        return queuePeak;
+    }
+
+    /**
+     * Index of the i-th cell revealed by the last fill, in BFS order
+     */
+    public int getRevealedIndex(int i) {
+        if (i < 0 || i >= revealedCount) {
+            throw new IndexOutOfBoundsException("Revealed cell " + i + " of " + revealedCount);
+        }
+        return queue[i];
+    }
+
+    /**
+     * Enqueue the unvisited neighbors of a cell in row-major order
+     */
+    private int enqueueNeighbors(int index, int tail) {
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+
+        for (int adjacentRow = centerRow - 1; adjacentRow <= centerRow + 1; adjacentRow++) {
+            if (adjacentRow < 0 || adjacentRow >= size) {
+                continue;
+            }
+            for (int adjacentCol = centerCol - 1; adjacentCol <= centerCol + 1; adjacentCol++) {
+                if (adjacentCol < 0 || adjacentCol >= size) {
+                    continue;
+                }
+
+                int neighbor = adjacentRow * size + adjacentCol;
+                if (visitStamps[neighbor] != generation) {
+                    visitStamps[neighbor] = generation;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+
+        return tail;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == 0) {
+            // Stamp counter wrapped around; start over from a clean slate
+            Arrays.fill(visitStamps, 0);
+            generation = 1;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package gamePlay;
+
+import dto.PackedBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Mine placement using Floyd's sampling algorithm over cell indices
+ *
+ * Draws exactly one random number per mine, so generation time is bounded
+ * regardless of density, and the board itself serves as the "already chosen" set.
+ */
+public class FloydMinePlacement implements MinePlacementStrategy {
+
+    @Override
+    public int placeMines(PackedBoard board, int mineCount, RandomGenerator random, int[] excludedCells) {
+        int allowedCells = board.getCellCount() - excludedCells.length;
+        if (mineCount < 0 || mineCount > allowedCells) {
+            throw new IllegalArgumentException("Cannot place " + mineCount + " mines on "
+                    + allowedCells + " cells");
+        }
+
+        // Sample ranks among the allowed cells, then map each rank to its cell index
+        for (int candidateLimit = allowedCells - mineCount; candidateLimit < allowedCells; candidateLimit++) {
+            int index = toCellIndex(random.nextInt(candidateLimit + 1), excludedCells);
+
+            // Already taken: the newly admitted candidate cannot have been chosen yet
+            if (board.hasMine(index)) {
+                index = toCellIndex(candidateLimit, excludedCells);
+            }
+            board.setMine(index, true);
+        }
+
+        return mineCount;
+    }
+
+    /**
+     * Map the rank of an allowed cell to its board index by skipping excluded cells
+     */
+    private static int toCellIndex(int rank, int[] excludedCells) {
+        int index = rank;
+        for (int excluded : excludedCells) {
+            if (excluded > index) {
+                break;
+            }
+            index++;
+        }
+        return index;
+    }
+}
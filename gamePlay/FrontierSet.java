@@ -0,0 +1,142 @@
+package gamePlay;
+
+import dto.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Hidden squares that touch at least one revealed safe square, as cell indices
+ *
+ * A two-level bitset: one bit per cell, plus a summary bit per 64-cell word that
+ * is set while the word is non-empty. Adding and removing are O(1); iteration
+ * and clearing skip empty words 64 at a time, so they cost the number of members
+ * plus cellCount / 4096. MinesweeperGridPlay keeps it up to date as squares are
+ * revealed; callers only get this read-only view.
+ */
+public class FrontierSet {
+    private final int boardSize;
+    private final long[] words;              // Bit per cell
+    private final long[] summary;            // Bit per non-empty word
+    private int count;
+
+    FrontierSet(int boardSize) {
+        int cellCount = boardSize * boardSize;
+        this.boardSize = boardSize;
+        this.words = new long[(cellCount + 63) >>> 6];
+        this.summary = new long[(words.length + 63) >>> 6];
+    }
+
+    // ========== Queries ==========
+    public int size() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public boolean contains(int index) {
+        return (words[index >>> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * First member at or after fromIndex, or -1 if there is none
+     */
+    public int nextIndex(int fromIndex) {
+        int word = fromIndex >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << fromIndex);
+        if (bits != 0) {
+            return (word << 6) + Long.numberOfTrailingZeros(bits);
+        }
+
+        // Find the next non-empty word through the summary
+        int next = word + 1;
+        int group = next >>> 6;
+        if (group >= summary.length) {
+            return -1;
+        }
+        long groupBits = summary[group] & (-1L << next);
+        while (groupBits == 0) {
+            if (++group == summary.length) {
+                return -1;
+            }
+            groupBits = summary[group];
+        }
+        next = (group << 6) + Long.numberOfTrailingZeros(groupBits);
+        return (next << 6) + Long.numberOfTrailingZeros(words[next]);
+    }
+
+    /**
+     * Visit every member in ascending index order
+     */
+    public void forEach(IntConsumer action) {
+        for (int group = 0; group < summary.length; group++) {
+            long groupBits = summary[group];
+            while (groupBits != 0) {
+                int word = (group << 6) + Long.numberOfTrailingZeros(groupBits);
+                groupBits &= groupBits - 1;
+                long bits = words[word];
+                while (bits != 0) {
+                    action.accept((word << 6) + Long.numberOfTrailingZeros(bits));
+                    bits &= bits - 1;
+                }
+            }
+        }
+    }
+
+    public int[] toArray() {
+        int[] members = new int[count];
+        int[] next = new int[1];
+        forEach(index -> members[next[0]++] = index);
+        return members;
+    }
+
+    public List<Position> toPositions() {
+        List<Position> positions = new ArrayList<>(count);
+        forEach(index -> positions.add(new Position(index / boardSize, index % boardSize)));
+        return positions;
+    }
+
+    // ========== Updates (MinesweeperGridPlay only) ==========
+    void add(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((words[word] & bit) == 0) {
+            words[word] |= bit;
+            summary[word >>> 6] |= 1L << word;
+            count++;
+        }
+    }
+
+    void remove(int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        if ((words[word] & bit) != 0) {
+            words[word] &= ~bit;
+            if (words[word] == 0) {
+                summary[word >>> 6] &= ~(1L << word);
+            }
+            count--;
+        }
+    }
+
+    /**
+     * Empty the set, touching only the non-empty words
+     */
+    void clear() {
+        for (int group = 0; group < summary.length; group++) {
+            long groupBits = summary[group];
+            while (groupBits != 0) {
+                words[(group << 6) + Long.numberOfTrailingZeros(groupBits)] = 0;
+                groupBits &= groupBits - 1;
+            }
+            summary[group] = 0;
+        }
+        count = 0;
+    }
+}
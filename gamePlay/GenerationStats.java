@@ -0,0 +1,79 @@
+package gamePlay;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Throughput counters of no-guess generation for one (size, mines) configuration
+ */
+public class GenerationStats {
+    private final int size;
+    private final int totalMines;
+    private final LongAdder boards = new LongAdder();          // Requests answered
+    private final LongAdder fallbacks = new LongAdder();       // Requests that found no no-guess board
+    private final LongAdder candidates = new LongAdder();      // Candidate layouts played out
+    private final LongAdder repairs = new LongAdder();         // Mines moved off a stalled frontier
+    private final LongAdder nanos = new LongAdder();           // Wall time spent generating
+
+    GenerationStats(int size, int totalMines) {
+        this.size = size;
+        this.totalMines = totalMines;
+    }
+
+    void record(boolean found, int candidateCount, int repairCount, long elapsedNanos) {
+        boards.increment();
+        if (!found) {
+            fallbacks.increment();
+        }
+        candidates.add(candidateCount);
+        repairs.add(repairCount);
+        nanos.add(elapsedNanos);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getTotalMines() {
+        return totalMines;
+    }
+
+    public long getBoards() {
+        return boards.sum();
+    }
+
+    /**
+     * Boards that passed the no-guess check (requests minus fallbacks)
+     */
+    public long getValidBoards() {
+        return boards.sum() - fallbacks.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    public long getCandidates() {
+        return candidates.sum();
+    }
+
+    public long getRepairs() {
+        return repairs.sum();
+    }
+
+    /**
+     * Valid boards per second of generation wall time
+     */
+    public double getValidBoardsPerSecond() {
+        long elapsed = nanos.sum();
+        return elapsed == 0 ? 0 : getValidBoards() * 1e9 / elapsed;
+    }
+
+    public String toText() {
+        long count = Math.max(1, getBoards());
+        return String.format(Locale.ROOT,
+                "size=%d mines=%d: %.1f valid boards/s, %.2f candidates and %.2f repairs per board, %d fallbacks",
+                size, totalMines, getValidBoardsPerSecond(), (double) getCandidates() / count,
+                (double) getRepairs() / count, getFallbacks());
+    }
+}
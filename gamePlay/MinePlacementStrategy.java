@@ -0,0 +1,28 @@
+package gamePlay;
+
+import dto.PackedBoard;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Strategy for placing mines on an empty board
+ */
+public interface MinePlacementStrategy {
+
+    /**
+     * Place exactly mineCount mines on the board using the given generator
+     *
+     * @return number of random draws consumed
+     */
+    default int placeMines(PackedBoard board, int mineCount, RandomGenerator random) {
+        return placeMines(board, mineCount, random, new int[0]);
+    }
+
+    /**
+     * Place exactly mineCount mines, never on one of the excluded cells
+     *
+     * @param excludedCells cell indices that must stay mine-free, sorted ascending
+     * @return number of random draws consumed
+     */
+    int placeMines(PackedBoard board, int mineCount, RandomGenerator random, int[] excludedCells);
+}
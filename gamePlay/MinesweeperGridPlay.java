@@ -1,86 +1,221 @@
 package gamePlay;
 
 import dto.*;
+import gameMetrics.BoardGenerationEvent;
+import gameMetrics.CascadeEvent;
+import gameMetrics.EngineMetrics;
+import gameMetrics.RevealEvent;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
 
 public class MinesweeperGridPlay extends MinesweeperGrid {
-    private Random random;
+    private static final AdjacentMineCounter MINE_COUNTER = new AdjacentMineCounter();
+    private static final NoGuessBoardGenerator NO_GUESS_GENERATOR = new NoGuessBoardGenerator();
+
+    private final BoardGenerationMode generationMode;
+    private final MinePlacementStrategy placementStrategy;
+    private final LongFunction<RandomGenerator> generatorFactory;
+    private long seed;                  // Seed the current board was generated from
+    private boolean boardGenerated;     // False until mines are placed (lazy modes)
+    private boolean noGuessGuaranteed;  // NO_GUESS board passed the solver check (not a fallback)
+    private FloodFill floodFill;        // Reusable cascade workspace, created on first use
+    private int[] revealedBuffer = new int[16];   // Cells revealed by the current call, reused
+    private int revealedCount;
+    private RevealedCellVisitor revealVisitor;    // Streaming target of the current call, or null
+    private boolean runLengthResults;             // Encode results as runs instead of index lists
+    private byte[] flaggedNeighbors;    // Flags around each cell, allocated on the first flag
+    private int flagCount;
+    private FrontierSet frontier;       // Maintained once first requested, null before
 
     public MinesweeperGridPlay(int size, int totalMines) {
-        super(size, totalMines);
-        this.random = new Random();
+        this(size, totalMines, ThreadLocalRandom.current().nextLong());
+    }
 
-        initializeGame();
+    /**
+     * Regenerate the board a BoardId names
+     */
+    public MinesweeperGridPlay(BoardId boardId) {
+        this(boardId.getSize(), boardId.getTotalMines(), boardId.getSeed(), boardId.getGenerationMode());
     }
 
     /**
-     * Initialize the game with mines and adjacent counts
+     * Create a game whose board is fully determined by the seed
      */
-    private void initializeGame() {
-        placeMines();
-        calculateAdjacentMineCounts();
+    public MinesweeperGridPlay(int size, int totalMines, long seed) {
+        this(size, totalMines, seed, BoardGenerationMode.EAGER);
     }
 
-    // ========== Mine Placement Logic ==========
     /**
-     * Randomly place mines on the grid
-     * Ensures no duplicate mine positions
+     * Create a game with the given generation mode
+     * FIRST_CLICK_SAFE and NO_GUESS only record size, mine count and seed until the first reveal.
+     * The board is fully determined by these four arguments (plus the first reveal in lazy modes).
      */
-    private void placeMines() {
-        Set<Position> placedMines = new HashSet<>();
+    public MinesweeperGridPlay(int size, int totalMines, long seed, BoardGenerationMode generationMode) {
+        this(size, totalMines, seed, generationMode, new FloydMinePlacement(), SplittableRandom::new);
+    }
 
-        while (placedMines.size() < getTotalMines()) {
-            int row = random.nextInt(getSize());
-            int col = random.nextInt(getSize());
-            Position position = new Position(row, col);
+    /**
+     * Create a game with a custom placement strategy and seeded generator factory
+     */
+    public MinesweeperGridPlay(int size, int totalMines, long seed,
+                               BoardGenerationMode generationMode,
+                               MinePlacementStrategy placementStrategy,
+                               LongFunction<RandomGenerator> generatorFactory) {
+        this(new PackedBoard(size), totalMines, seed, generationMode, placementStrategy, generatorFactory, true);
+    }
 
-            if (!placedMines.contains(position)) {
-                placedMines.add(position);
-                getCell(row, col).setHasMine(true);
-                addMinePosition(position);
-            }
+    /**
+     * Create an EAGER game on a board generated ahead of time (see BoardPool)
+     * The board is adopted, not copied, so it must not be shared with another game.
+     */
+    public MinesweeperGridPlay(PooledBoard pooledBoard) {
+        this(pooledBoard.getBoard(), pooledBoard.getTotalMines(), pooledBoard.getSeed(), BoardGenerationMode.EAGER,
+                new FloydMinePlacement(), SplittableRandom::new, false);
+        boardGenerated = true;
+    }
+
+    private MinesweeperGridPlay(PackedBoard board, int totalMines, long seed,
+                                BoardGenerationMode generationMode,
+                                MinePlacementStrategy placementStrategy,
+                                LongFunction<RandomGenerator> generatorFactory,
+                                boolean generate) {
+        super(board, totalMines);
+        this.generationMode = generationMode;
+        this.placementStrategy = placementStrategy;
+        this.generatorFactory = generatorFactory;
+        this.seed = seed;
+
+        if (generate) {
+            initializeGame();
         }
     }
 
     /**
-     * Calculate and set adjacent mine counts for all cells
+     * Rebuild a saved game without regenerating anything
+     * The packed cells are bulk-copied from the buffer; state and counters are taken as saved.
      */
-    private void calculateAdjacentMineCounts() {
-        for (int row = 0; row < getSize(); row++) {
-            for (int col = 0; col < getSize(); col++) {
-                if (!getCell(row, col).hasMine()) {
-                    int count = countAdjacentMines(row, col);
-                    getCell(row, col).setAdjacentMineCount(count);
-                }
-            }
+    public static MinesweeperGridPlay restore(int size, int totalMines, long seed,
+                                              BoardGenerationMode generationMode, boolean boardGenerated,
+                                              boolean noGuessGuaranteed, GameState gameState, int revealedCells,
+                                              ByteBuffer cells) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(new PackedBoard(size), totalMines, seed, generationMode,
+                new FloydMinePlacement(), SplittableRandom::new, false);
+        game.getBoard().readFrom(cells);
+        game.rebuildFlagCounts();
+        game.boardGenerated = boardGenerated;
+        game.noGuessGuaranteed = noGuessGuaranteed;
+        game.setGameState(gameState);
+        game.addRevealedCells(revealedCells);
+        return game;
+    }
+
+    /**
+     * Initialize the game with mines and adjacent counts
+     * Lazy modes defer all generation work to the first reveal
+     */
+    private void initializeGame() {
+        boardGenerated = false;
+        noGuessGuaranteed = false;
+        if (generationMode == BoardGenerationMode.EAGER) {
+            placeMines(new int[0]);
+            calculateAdjacentMineCounts();
+            boardGenerated = true;
         }
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
     /**
-     * Count mines in the 8 adjacent cells (3x3 area around the cell)
+     * ID that regenerates this board, or null for NO_GUESS boards and seeds or sizes too large for one
      */
-    private int countAdjacentMines(int centerRow, int centerCol) {
-        int count = 0;
+    public BoardId getBoardId() {
+        return BoardId.isEncodable(getSize(), getTotalMines(), seed, generationMode)
+                ? BoardId.of(getSize(), getTotalMines(), seed, generationMode)
+                : null;
+    }
 
-        for (int deltaRow = -1; deltaRow <= 1; deltaRow++) {
-            for (int deltaCol = -1; deltaCol <= 1; deltaCol++) {
-                // Skip the center cell itself
-                if (deltaRow == 0 && deltaCol == 0) {
-                    continue;
-                }
+    public BoardGenerationMode getGenerationMode() {
+        return generationMode;
+    }
 
-                int adjacentRow = centerRow + deltaRow;
-                int adjacentCol = centerCol + deltaCol;
+    public boolean isBoardGenerated() {
+        return boardGenerated;
+    }
 
-                if (isValidPosition(adjacentRow, adjacentCol) &&
-                        getCell(adjacentRow, adjacentCol).hasMine()) {
-                    count++;
-                }
+    /**
+     * Whether the board is proven clearable without guessing
+     * False before generation, in other modes, and when NO_GUESS fell back to a plain layout.
+     */
+    public boolean isNoGuessGuaranteed() {
+        return noGuessGuaranteed;
+    }
+
+    /**
+     * Generator behind NO_GUESS games, shared so its throughput stats cover every game
+     */
+    public static NoGuessBoardGenerator getNoGuessGenerator() {
+        return NO_GUESS_GENERATOR;
+    }
+
+    // ========== Mine Placement Logic ==========
+    /**
+     * Place mines on the grid with the configured strategy
+     * The same seed and exclusions always produce the same mine layout
+     */
+    private void placeMines(int[] excludedCells) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        BoardGenerationEvent event = new BoardGenerationEvent();
+        event.begin();
+        int draws = placementStrategy.placeMines(getBoard(), getTotalMines(), generatorFactory.apply(seed),
+                excludedCells);
+        event.commit(getSize(), getTotalMines(), generationMode.name(), draws, 1);
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordMinePlacement(startNanos);
+        }
+    }
+
+    /**
+     * Place mines on first reveal, keeping the clicked square and (room permitting)
+     * its neighbours clear; counts are then computed on demand and memoised by the board
+     */
+    private void generateBoardAround(int row, int col) {
+        int cellCount = getSize() * getSize();
+        int[] excludedCells = new int[]{cellIndex(row, col)};
+
+        List<Position> neighbors = getAdjacentPositions(row, col);
+        if (cellCount - neighbors.size() - 1 >= getTotalMines()) {
+            excludedCells = new int[neighbors.size() + 1];
+            excludedCells[0] = cellIndex(row, col);
+            for (int i = 0; i < neighbors.size(); i++) {
+                excludedCells[i + 1] = cellIndex(neighbors.get(i).getRow(), neighbors.get(i).getColumn());
             }
+            Arrays.sort(excludedCells);
         }
 
-        return count;
+        if (generationMode == BoardGenerationMode.NO_GUESS) {
+            long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+            noGuessGuaranteed = NO_GUESS_GENERATOR.generate(getBoard(), getTotalMines(), seed, cellIndex(row, col),
+                    excludedCells, placementStrategy, generatorFactory);
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.recordMinePlacement(startNanos);
+            }
+        } else {
+            placeMines(excludedCells);
+        }
+        boardGenerated = true;
+    }
+
+    /**
+     * Calculate and set adjacent mine counts for all cells
+     */
+    private void calculateAdjacentMineCounts() {
+        MINE_COUNTER.countAll(getBoard());
     }
 
     // ========== Cell Reveal Logic ==========
@@ -93,129 +228,500 @@ public class MinesweeperGridPlay extends MinesweeperGrid {
 
     /**
      * Reveal a cell at the specified coordinates
-     * Handles mine detection, auto-reveal, and win condition checking
+     * Handles mine detection, auto-reveal, and win condition checking; once the game
+     * is won or lost nothing changes and the result is GAME_OVER
      */
     public RevealResult revealCell(int row, int col) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        long startBytes = EngineMetrics.ENABLED ? EngineMetrics.allocatedBytes() : 0;
+        RevealEvent event = new RevealEvent();
+        event.begin();
+
         // Validate position
-        if (!isValidPosition(row, col)) {
-            throw new IllegalArgumentException("Invalid position: " + row + "," + col);
+        int index = cellIndex(row, col);
+
+        revealedCount = 0;
+        RevealResultType type = revealIndex(index);
+        if (type == RevealResultType.ALREADY_REVEALED) {
+            recordRevealed(index);
+        }
+
+        RevealResult result = new RevealResult(type, resultMineCount(type, index), collectRevealed());
+        event.commit(row, col, type.name(), revealedCount, 1);
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordReveal(startNanos, startBytes, revealedCount);
+        }
+        return result;
+    }
+
+    /**
+     * Reveal a cell, streaming every newly revealed cell index to the visitor as the
+     * cascade runs instead of collecting them; the result only carries the count
+     */
+    public RevealResult revealCell(int row, int col, RevealedCellVisitor visitor) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        long startBytes = EngineMetrics.ENABLED ? EngineMetrics.allocatedBytes() : 0;
+        RevealEvent event = new RevealEvent();
+        event.begin();
+        int index = cellIndex(row, col);
+
+        revealedCount = 0;
+        revealVisitor = visitor;
+        try {
+            RevealResultType type = revealIndex(index);
+            if (type == RevealResultType.ALREADY_REVEALED) {
+                recordRevealed(index);      // Same cells as revealCell(row, col) reports
+            }
+            RevealResult result = new RevealResult(type, resultMineCount(type, index),
+                    RevealedCells.streamed(getSize(), revealedCount));
+            event.commit(row, col, type.name(), revealedCount, 1);
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.recordReveal(startNanos, startBytes, revealedCount);
+            }
+            return result;
+        } finally {
+            revealVisitor = null;
+        }
+    }
+
+    /**
+     * Reveal a batch of cells in order in a single engine call
+     * Stops at the first mine hit or once the game is won; moves on already
+     * revealed or flagged cells are applied as no-ops. All coordinates are validated first,
+     * so an invalid move leaves the board untouched. A finished game applies nothing (GAME_OVER).
+     */
+    public BatchRevealResult revealCells(int[] rows, int[] cols) {
+        return revealCells(rows, cols, null);
+    }
+
+    public BatchRevealResult revealCells(List<Position> positions) {
+        int[] rows = new int[positions.size()];
+        int[] cols = new int[positions.size()];
+        for (int move = 0; move < positions.size(); move++) {
+            rows[move] = positions.get(move).getRow();
+            cols[move] = positions.get(move).getColumn();
         }
+        return revealCells(rows, cols);
+    }
 
-        Cell cell = getCell(row, col);
+    /**
+     * Batch reveal that streams revealed cell indices to the visitor (when not null)
+     */
+    public BatchRevealResult revealCells(int[] rows, int[] cols, RevealedCellVisitor visitor) {
+        if (rows.length != cols.length) {
+            throw new IllegalArgumentException("Row and column counts differ: "
+                    + rows.length + " vs " + cols.length);
+        }
+
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        long startBytes = EngineMetrics.ENABLED ? EngineMetrics.allocatedBytes() : 0;
+        RevealEvent event = new RevealEvent();
+        event.begin();
+        int[] indices = new int[rows.length];
+        for (int move = 0; move < rows.length; move++) {
+            indices[move] = cellIndex(rows[move], cols[move]);
+        }
+
+        revealedCount = 0;
+        revealVisitor = visitor;
+        try {
+            RevealResultType type = RevealResultType.ALREADY_REVEALED;
+            int mineCount = 0;
+            int appliedMoves = 0;
+
+            for (int index : indices) {
+                RevealResultType moveType = revealIndex(index);
+                if (moveType == RevealResultType.GAME_OVER) {
+                    type = moveType;
+                    break;
+                }
+                appliedMoves++;
+
+                if (moveType != RevealResultType.ALREADY_REVEALED && moveType != RevealResultType.FLAGGED) {
+                    type = moveType;
+                    mineCount = resultMineCount(moveType, index);
+                }
+                if (moveType == RevealResultType.MINE_HIT || moveType == RevealResultType.GAME_WON) {
+                    break;
+                }
+            }
+
+            RevealedCells revealedCells = visitor != null
+                    ? RevealedCells.streamed(getSize(), revealedCount)
+                    : collectRevealed();
+            BatchRevealResult result = new BatchRevealResult(type, mineCount, revealedCells, appliedMoves, rows.length);
+            if (appliedMoves > 0) {
+                event.commit(rows[appliedMoves - 1], cols[appliedMoves - 1], type.name(), revealedCount, appliedMoves);
+            }
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.recordReveal(startNanos, startBytes, revealedCount);
+            }
+            return result;
+        } finally {
+            revealVisitor = null;
+        }
+    }
+
+    /**
+     * Encode reveal results as sorted (start, length) runs instead of index lists
+     */
+    public void setRunLengthResults(boolean runLengthResults) {
+        this.runLengthResults = runLengthResults;
+    }
+
+    /**
+     * Core reveal of one validated cell; newly revealed cells are appended to the reveal buffer
+     */
+    private RevealResultType revealIndex(int index) {
+        PackedBoard board = getBoard();
+
+        // A finished game is frozen
+        if (getGameState() != GameState.PLAYING) {
+            return RevealResultType.GAME_OVER;
+        }
+
+        // Flagged cells are protected until the flag is removed
+        if (board.isFlagged(index)) {
+            return RevealResultType.FLAGGED;
+        }
+
+        // Lazy boards get their mines on the first reveal
+        if (!boardGenerated) {
+            generateBoardAround(board.rowOf(index), board.columnOf(index));
+        }
 
         // If cell is already revealed, do nothing
-        if (cell.isRevealed()) {
-            return new RevealResult(RevealResultType.ALREADY_REVEALED,
-                    cell.getAdjacentMineCount(),
-                    Collections.singletonList(new Position(row, col)));
+        if (board.isRevealed(index)) {
+            return RevealResultType.ALREADY_REVEALED;
         }
 
         // Reveal the cell
-        cell.setRevealed(true);
-        incrementRevealedCells();
+        board.setRevealed(index, true);
+        recordRevealed(index);
 
-        // Check if it's a mine
-        if (cell.hasMine()) {
+        // Check if it's a mine; only safe cells count toward the win
+        if (board.hasMine(index)) {
+            if (frontier != null) {
+                frontier.remove(index);
+            }
             setGameState(GameState.LOST);
-            return new RevealResult(RevealResultType.MINE_HIT,
-                    0,
-                    Collections.singletonList(new Position(row, col)));
+            return RevealResultType.MINE_HIT;
         }
-
-        // Get the mine count for this cell
-        int mineCount = cell.getAdjacentMineCount();
-        List<Position> revealedPositions = new ArrayList<>();
-        revealedPositions.add(new Position(row, col));
+        incrementRevealedCells();
 
         // If no adjacent mines, auto-reveal adjacent cells
-        if (mineCount == 0) {
-            List<Position> autoRevealed = autoRevealAdjacentCells(row, col);
-            revealedPositions.addAll(autoRevealed);
+        if (board.getAdjacentMineCount(index) == 0) {
+            autoRevealAdjacentCells(index);
+        }
+        if (frontier != null) {
+            updateFrontier(index);
         }
 
         // Check win condition
         if (isGameWon()) {
             setGameState(GameState.WON);
-            return new RevealResult(RevealResultType.GAME_WON,
-                    mineCount,
-                    revealedPositions);
+            return RevealResultType.GAME_WON;
         }
 
-        return new RevealResult(RevealResultType.NORMAL_REVEAL,
-                mineCount,
-                revealedPositions);
+        return RevealResultType.NORMAL_REVEAL;
     }
 
     /**
      * Auto-reveal adjacent cells when a cell with 0 adjacent mines is revealed
      */
-    private List<Position> autoRevealAdjacentCells(int startRow, int startCol) {
-        List<Position> revealedPositions = new ArrayList<>();
-        Queue<Position> toProcess = new LinkedList<>();
-        Set<Position> processed = new HashSet<>();
-
-        // Start with the initial position's adjacent cells
-        List<Position> initialAdjacent = getAdjacentPositions(startRow, startCol);
-        for (Position pos : initialAdjacent) {
-            if (!processed.contains(pos)) {
-                toProcess.offer(pos);
-                processed.add(pos);
+    private void autoRevealAdjacentCells(int startIndex) {
+        if (floodFill == null) {
+            floodFill = new FloodFill(getBoard());
+        }
+
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        CascadeEvent event = new CascadeEvent();
+        event.begin();
+        int cascadeCount = floodFill.fill(startIndex, revealVisitor);
+        event.commit(cascadeCount, floodFill.getQueuePeak());
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordFloodFill(startNanos, cascadeCount);
+        }
+        addRevealedCells(cascadeCount);
+        if (frontier != null) {
+            for (int i = 0; i < cascadeCount; i++) {
+                updateFrontier(floodFill.getRevealedIndex(i));
+            }
+        }
+
+        if (revealVisitor != null) {
+            revealedCount += cascadeCount;
+            return;
+        }
+        for (int i = 0; i < cascadeCount; i++) {
+            recordRevealed(floodFill.getRevealedIndex(i));
+        }
+    }
+
+    // ========== Frontier ==========
+    /**
+     * Hidden squares next to a revealed safe square (flagged ones included)
+     *
+     * Built by one board scan on the first call; from then on every reveal and
+     * cascade updates it in time proportional to the squares it opens.
+     */
+    public FrontierSet getFrontier() {
+        if (frontier == null) {
+            frontier = new FrontierSet(getSize());
+            PackedBoard board = getBoard();
+            for (int index = 0; index < board.getCellCount(); index++) {
+                if (board.isRevealed(index) && !board.hasMine(index)) {
+                    updateFrontier(index);
+                }
+            }
+        }
+        return frontier;
+    }
+
+    /**
+     * A safe square was opened: it leaves the frontier and its hidden neighbours join
+     */
+    private void updateFrontier(int index) {
+        PackedBoard board = getBoard();
+        int size = board.getSize();
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+
+        frontier.remove(index);
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                int neighbor = row * size + col;
+                if (!board.isRevealed(neighbor)) {
+                    frontier.add(neighbor);
+                }
             }
         }
+    }
+
+    // ========== Flags and Chords ==========
+    /**
+     * Flag or unflag a hidden cell, keeping the flag counts of its neighbours in step
+     *
+     * @return whether the flag changed (revealed cells cannot be flagged)
+     */
+    public boolean setFlagged(int row, int col, boolean flagged) {
+        int index = cellIndex(row, col);
+        PackedBoard board = getBoard();
+        if (board.isRevealed(index) || board.isFlagged(index) == flagged) {
+            return false;
+        }
+
+        if (flaggedNeighbors == null) {
+            flaggedNeighbors = new byte[board.getCellCount()];
+        }
+        board.setFlagged(index, flagged);
+        flagCount += flagged ? 1 : -1;
+        addToNeighborFlagCounts(index, flagged ? 1 : -1);
+        return true;
+    }
+
+    /**
+     * Flip the flag on a hidden cell
+     *
+     * @return whether the cell is flagged afterwards
+     */
+    public boolean toggleFlag(Position position) {
+        boolean flagged = !isFlagged(position.getRow(), position.getColumn());
+        setFlagged(position.getRow(), position.getColumn(), flagged);
+        return isFlagged(position.getRow(), position.getColumn());
+    }
+
+    public int getFlagCount() {
+        return flagCount;
+    }
+
+    /**
+     * Number of flagged cells around a cell
+     */
+    public int getFlaggedNeighborCount(int row, int col) {
+        int index = cellIndex(row, col);
+        return flaggedNeighbors == null ? 0 : flaggedNeighbors[index];
+    }
+
+    /**
+     * Chord a revealed number: once as many neighbours are flagged as the number
+     * shows, reveal every other hidden neighbour, cascading from any zeros
+     *
+     * A hidden cell is simply revealed. Chording a number whose flags do not yet
+     * match changes nothing and reports ALREADY_REVEALED; a wrong flag makes the
+     * chord hit a mine.
+     */
+    public RevealResult chordCell(Position position) {
+        return chordCell(position.getRow(), position.getColumn());
+    }
+
+    public RevealResult chordCell(int row, int col) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        long startBytes = EngineMetrics.ENABLED ? EngineMetrics.allocatedBytes() : 0;
+        RevealEvent event = new RevealEvent();
+        event.begin();
+        int index = cellIndex(row, col);
+        PackedBoard board = getBoard();
+
+        revealedCount = 0;
+        RevealResultType type;
+        if (getGameState() != GameState.PLAYING || !board.isRevealed(index)) {
+            type = revealIndex(index);
+        } else {
+            type = chordNeighbors(index);
+        }
 
-        while (!toProcess.isEmpty()) {
-            Position current = toProcess.poll();
-            int row = current.getRow();
-            int col = current.getColumn();
+        RevealResult result = new RevealResult(type, resultMineCount(type, index), collectRevealed());
+        event.commit(row, col, type.name(), revealedCount, 1);
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordReveal(startNanos, startBytes, revealedCount);
+        }
+        return result;
+    }
 
-            Cell cell = getCell(row, col);
+    private RevealResultType chordNeighbors(int index) {
+        PackedBoard board = getBoard();
+        int mineCount = board.getAdjacentMineCount(index);
+        if (board.hasMine(index) || mineCount == 0 || flaggedNeighbors == null
+                || flaggedNeighbors[index] != mineCount) {
+            return RevealResultType.ALREADY_REVEALED;
+        }
 
-            // Skip if already revealed or is a mine
-            if (cell.isRevealed() || cell.hasMine()) {
-                continue;
+        int size = board.getSize();
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+        RevealResultType type = RevealResultType.ALREADY_REVEALED;
+
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                int neighbor = row * size + col;
+                if (board.isRevealed(neighbor) || board.isFlagged(neighbor)) {
+                    continue;
+                }
+                type = revealIndex(neighbor);
+                if (type == RevealResultType.MINE_HIT || type == RevealResultType.GAME_WON) {
+                    return type;
+                }
             }
+        }
+        return type;
+    }
 
-            // Reveal this cell
-            cell.setRevealed(true);
-            incrementRevealedCells();
-            revealedPositions.add(current);
-
-            // If this cell also has 0 adjacent mines, add its neighbors to the queue
-            if (cell.getAdjacentMineCount() == 0) {
-                List<Position> neighbors = getAdjacentPositions(row, col);
-                for (Position neighbor : neighbors) {
-                    if (!processed.contains(neighbor)) {
-                        toProcess.offer(neighbor);
-                        processed.add(neighbor);
-                    }
+    private void addToNeighborFlagCounts(int index, int delta) {
+        int size = getSize();
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                int neighbor = row * size + col;
+                if (neighbor != index) {
+                    flaggedNeighbors[neighbor] += delta;
+                }
+            }
+        }
+    }
+
+    /**
+     * Recount flags from the board's flag bits (after its cells are replaced wholesale)
+     */
+    private void rebuildFlagCounts() {
+        PackedBoard board = getBoard();
+        clearFlagCounts();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.isFlagged(index)) {
+                if (flaggedNeighbors == null) {
+                    flaggedNeighbors = new byte[board.getCellCount()];
                 }
+                flagCount++;
+                addToNeighborFlagCounts(index, 1);
             }
         }
+    }
+
+    // ========== Reveal Buffer ==========
+    /**
+     * Stream a revealed cell to the current visitor, or buffer it for the result
+     */
+    private void recordRevealed(int index) {
+        if (revealVisitor != null) {
+            revealVisitor.visit(index);
+            revealedCount++;
+            return;
+        }
+        if (revealedCount == revealedBuffer.length) {
+            revealedBuffer = Arrays.copyOf(revealedBuffer, revealedBuffer.length * 2);
+        }
+        revealedBuffer[revealedCount++] = index;
+    }
 
-        return revealedPositions;
+    private RevealedCells collectRevealed() {
+        return runLengthResults
+                ? RevealedCells.runLengthOf(getSize(), revealedBuffer, revealedCount)
+                : RevealedCells.of(getSize(), revealedBuffer, revealedCount);
+    }
+
+    private int resultMineCount(RevealResultType type, int index) {
+        return type == RevealResultType.MINE_HIT || type == RevealResultType.FLAGGED
+                || type == RevealResultType.GAME_OVER ? 0 : getBoard().getAdjacentMineCount(index);
     }
 
     // ========== Game Management ==========
     /**
      * Reset the game with new mine placement
+     * The next seed is derived from the current one, so reset sequences are reproducible
      */
     public void resetGame() {
+        resetGame(SeedMixer.next(seed));
+    }
+
+    /**
+     * Reset the game with the board generated from the given seed
+     */
+    public void resetGame(long seed) {
         // Clear existing state
-        clearMinePositions();
         resetRevealedCells();
         setGameState(GameState.PLAYING);
+        this.seed = seed;
 
         // Reset all cells
-        for (int row = 0; row < getSize(); row++) {
-            for (int col = 0; col < getSize(); col++) {
-                Cell cell = getCell(row, col);
-                cell.setHasMine(false);
-                cell.setRevealed(false);
-                cell.setAdjacentMineCount(0);
-            }
-        }
+        getBoard().clear();
+        clearFlagCounts();
+        clearFrontier();
 
         // Reinitialize game
         initializeGame();
     }
-}
\ No newline at end of file
+
+    /**
+     * Reset an EAGER game onto a board generated ahead of time; its cells are copied in
+     */
+    public void resetGame(PooledBoard pooledBoard) {
+        if (generationMode != BoardGenerationMode.EAGER) {
+            throw new IllegalStateException("Pooled boards only replace EAGER boards");
+        }
+        if (pooledBoard.getSize() != getSize() || pooledBoard.getTotalMines() != getTotalMines()) {
+            throw new IllegalArgumentException("Pooled board does not match this game's size and mine count");
+        }
+        resetRevealedCells();
+        setGameState(GameState.PLAYING);
+        this.seed = pooledBoard.getSeed();
+        getBoard().copyFrom(pooledBoard.getBoard());
+        clearFlagCounts();
+        clearFrontier();
+        boardGenerated = true;
+    }
+
+    private void clearFrontier() {
+        if (frontier != null) {
+            frontier.clear();
+        }
+    }
+
+    private void clearFlagCounts() {
+        flagCount = 0;
+        if (flaggedNeighbors != null) {
+            Arrays.fill(flaggedNeighbors, (byte) 0);
+        }
+    }
+}
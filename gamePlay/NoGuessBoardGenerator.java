@@ -0,0 +1,319 @@
+package gamePlay;
+
+import dto.BoardGenerationMode;
+import dto.PackedBoard;
+import gameMetrics.BoardGenerationEvent;
+import gameSolver.DeterministicSolver;
+import gameSolver.SolverResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.random.RandomGenerator;
+
+/**
+ * Places mines so the board can be cleared from a known opening without guessing
+ *
+ * Candidate i is an ordinary seeded layout (candidate 0 uses the game seed itself).
+ * Each candidate is played out from the opening with DeterministicSolver; when the
+ * solver stalls, an undecided frontier mine is moved into the untouched interior
+ * and the play-out restarts, up to MAX_REPAIRS times.
+ *
+ * Candidates are tried in parallel on the common fork-join pool. Workers take
+ * candidate numbers in order and the lowest successful number wins, so the board
+ * depends only on the seed and the opening, never on thread timing. Once a winner
+ * is known, workers drop every candidate above it.
+ *
+ * The work is bounded by counts, never by time: larger boards get fewer candidates
+ * (CANDIDATE_CELLS / cell count, at least MIN_CANDIDATES), so the result, and the
+ * fallback, stay a pure function of size, mines, seed and opening. Callers cap the
+ * board size at MAX_SIZE to keep that bounded work affordable.
+ */
+public class NoGuessBoardGenerator {
+    public static final int DEFAULT_MAX_CANDIDATES = 512;
+    // Measured on one core: a dense 64x64 board exhausts all 16 candidates in under 1 s
+    public static final int MAX_SIZE = 64;
+    private static final int CANDIDATE_CELLS = 64 * 64 * 16;     // Candidates times cells per search
+    private static final int MIN_CANDIDATES = 4;
+    private static final int MAX_REPAIRS = 8;
+
+    private final int parallelism;
+    private final int maxCandidates;
+    private final Map<Long, GenerationStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Generator using every common-pool worker and DEFAULT_MAX_CANDIDATES candidates
+     */
+    public NoGuessBoardGenerator() {
+        this(ForkJoinPool.getCommonPoolParallelism(), DEFAULT_MAX_CANDIDATES);
+    }
+
+    public NoGuessBoardGenerator(int parallelism, int maxCandidates) {
+        if (parallelism < 1 || maxCandidates < 1) {
+            throw new IllegalArgumentException("Parallelism and candidate limit must be positive");
+        }
+        this.parallelism = parallelism;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * Candidates tried for a board of this size: fewer as the board grows
+     */
+    public int candidateLimit(int size) {
+        int byArea = CANDIDATE_CELLS / (size * size);
+        return Math.min(maxCandidates, Math.max(MIN_CANDIDATES, byArea));
+    }
+
+    /**
+     * Place mineCount mines on an empty board so it can be solved from the opening
+     * If no candidate passes, candidate 0 (a plain first-click-safe layout) is placed.
+     *
+     * @param excludedCells cells that must stay mine-free, including the opening, sorted ascending
+     * @return whether the placed board is guaranteed solvable without guessing
+     */
+    public boolean generate(PackedBoard board, int mineCount, long seed, int openingIndex, int[] excludedCells,
+                            MinePlacementStrategy placementStrategy,
+                            LongFunction<RandomGenerator> generatorFactory) {
+        long start = System.nanoTime();
+        BoardGenerationEvent event = new BoardGenerationEvent();
+        event.begin();
+        int candidates = candidateLimit(board.getSize());
+        Search search = new Search(board.getSize(), mineCount, seed, openingIndex, excludedCells,
+                placementStrategy, generatorFactory, candidates);
+
+        int workers = Math.min(parallelism, candidates);
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(workers - 1);
+        for (int i = 1; i < workers; i++) {
+            tasks.add(ForkJoinPool.commonPool().submit(search::work));
+        }
+        search.work();
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        boolean found = search.winnerMines != null;
+        int[] mines = found ? search.winnerMines : search.fallbackMines();
+        for (int mine : mines) {
+            board.setMine(mine, true);
+        }
+
+        statsFor(board.getSize(), mineCount).record(found, search.tried.intValue(), search.repairs.intValue(),
+                System.nanoTime() - start);
+        event.commit(board.getSize(), mineCount, BoardGenerationMode.NO_GUESS.name(), search.draws.sum(),
+                search.tried.intValue());
+        return found;
+    }
+
+    /**
+     * Candidate seed; candidate 0 keeps the game seed so the fallback matches FIRST_CLICK_SAFE
+     */
+    static long candidateSeed(long seed, int candidate) {
+        return candidate == 0 ? seed : SeedMixer.mix(seed + candidate);
+    }
+
+    // ========== Statistics ==========
+    /**
+     * Counters for one configuration, created on first use
+     */
+    public GenerationStats statsFor(int size, int totalMines) {
+        return stats.computeIfAbsent(((long) size << 32) | totalMines, key -> new GenerationStats(size, totalMines));
+    }
+
+    /**
+     * One line per configuration generated so far, smallest boards first
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        stats.keySet().stream().sorted().forEach(key -> report.append(stats.get(key).toText()).append('\n'));
+        return report.toString();
+    }
+
+    // ========== Candidate Search ==========
+    /**
+     * Shared state of one generate() call; work() runs on every worker
+     */
+    private final class Search {
+        private final int size;
+        private final int mineCount;
+        private final long seed;
+        private final int openingIndex;
+        private final int[] excludedCells;
+        private final MinePlacementStrategy placementStrategy;
+        private final LongFunction<RandomGenerator> generatorFactory;
+        private final int candidateLimit;
+        private final AtomicInteger nextCandidate = new AtomicInteger();
+        private final AtomicInteger winner = new AtomicInteger(Integer.MAX_VALUE);
+        private final LongAdder tried = new LongAdder();
+        private final LongAdder repairs = new LongAdder();
+        private final LongAdder draws = new LongAdder();
+        private int[] winnerMines;           // Guarded by this
+
+        Search(int size, int mineCount, long seed, int openingIndex, int[] excludedCells,
+               MinePlacementStrategy placementStrategy, LongFunction<RandomGenerator> generatorFactory,
+               int candidateLimit) {
+            this.size = size;
+            this.mineCount = mineCount;
+            this.seed = seed;
+            this.openingIndex = openingIndex;
+            this.excludedCells = excludedCells;
+            this.placementStrategy = placementStrategy;
+            this.generatorFactory = generatorFactory;
+            this.candidateLimit = candidateLimit;
+        }
+
+        void work() {
+            PackedBoard scratch = new PackedBoard(size);
+            FloodFill floodFill = new FloodFill(scratch);
+            DeterministicSolver solver = new DeterministicSolver();
+
+            while (true) {
+                int candidate = nextCandidate.getAndIncrement();
+                if (candidate >= candidateLimit || candidate > winner.get()) {
+                    return;
+                }
+                tried.increment();
+                scratch.clear();
+                RandomGenerator random = generatorFactory.apply(candidateSeed(seed, candidate));
+                draws.add(placementStrategy.placeMines(scratch, mineCount, random, excludedCells));
+                if (solveWithRepairs(scratch, floodFill, solver, random, candidate)) {
+                    accept(candidate, mineIndices(scratch));
+                }
+            }
+        }
+
+        private synchronized void accept(int candidate, int[] mines) {
+            if (candidate < winner.get()) {
+                winner.set(candidate);
+                winnerMines = mines;
+            }
+        }
+
+        int[] fallbackMines() {
+            PackedBoard scratch = new PackedBoard(size);
+            draws.add(placementStrategy.placeMines(scratch, mineCount,
+                    generatorFactory.apply(candidateSeed(seed, 0)), excludedCells));
+            return mineIndices(scratch);
+        }
+
+        /**
+         * Play the layout out from the opening, moving a stuck frontier mine and
+         * restarting whenever the solver stalls
+         */
+        private boolean solveWithRepairs(PackedBoard scratch, FloodFill floodFill, DeterministicSolver solver,
+                                         RandomGenerator random, int candidate) {
+            for (int attempt = 0; attempt <= MAX_REPAIRS; attempt++) {
+                SolverResult stalled = playOut(scratch, floodFill, solver, candidate);
+                if (stalled == null) {
+                    return true;
+                }
+                if (candidate > winner.get() || attempt == MAX_REPAIRS || !repair(scratch, stalled, random)) {
+                    return false;
+                }
+                repairs.increment();
+            }
+            return false;
+        }
+
+        /**
+         * @return null if every safe cell gets revealed, otherwise the stalled solver result
+         */
+        private SolverResult playOut(PackedBoard scratch, FloodFill floodFill, DeterministicSolver solver,
+                                     int candidate) {
+            int cellCount = scratch.getCellCount();
+            for (int index = 0; index < cellCount; index++) {
+                scratch.setRevealed(index, false);
+            }
+
+            int safeCells = cellCount - mineCount;
+            int revealed = reveal(scratch, floodFill, openingIndex);
+            while (revealed < safeCells) {
+                SolverResult result = solver.solve(scratch);
+                if (result.getSafeCount() == 0 || candidate > winner.get()) {
+                    return result;
+                }
+                BitSet safe = result.getSafeCells();
+                for (int index = safe.nextSetBit(0); index >= 0; index = safe.nextSetBit(index + 1)) {
+                    revealed += reveal(scratch, floodFill, index);
+                }
+            }
+            return null;
+        }
+
+        private int reveal(PackedBoard scratch, FloodFill floodFill, int index) {
+            if (scratch.isRevealed(index)) {
+                return 0;
+            }
+            scratch.setRevealed(index, true);
+            return scratch.getAdjacentMineCount(index) == 0 ? 1 + floodFill.fill(index) : 1;
+        }
+
+        /**
+         * Move one undecided frontier mine to a hidden square away from every revealed square
+         */
+        private boolean repair(PackedBoard scratch, SolverResult stalled, RandomGenerator random) {
+            int cellCount = scratch.getCellCount();
+            BitSet frontierMines = new BitSet(cellCount);
+            BitSet interiorFree = new BitSet(cellCount);
+            for (int index = 0; index < cellCount; index++) {
+                if (scratch.isRevealed(index)) {
+                    continue;
+                }
+                boolean frontier = touchesRevealed(scratch, index);
+                if (frontier && scratch.hasMine(index) && !stalled.getMineCells().get(index)) {
+                    frontierMines.set(index);
+                } else if (!frontier && !scratch.hasMine(index)) {
+                    interiorFree.set(index);
+                }
+            }
+            if (frontierMines.isEmpty() || interiorFree.isEmpty()) {
+                return false;
+            }
+
+            int from = nthSetBit(frontierMines, random.nextInt(frontierMines.cardinality()));
+            int to = nthSetBit(interiorFree, random.nextInt(interiorFree.cardinality()));
+            scratch.setMine(from, false);
+            scratch.setMine(to, true);
+            return true;
+        }
+
+        private boolean touchesRevealed(PackedBoard scratch, int index) {
+            int centerRow = index / size;
+            int centerCol = index - centerRow * size;
+            for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+                for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                    if (scratch.isRevealed(row * size + col)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    private static int nthSetBit(BitSet bits, int n) {
+        int index = bits.nextSetBit(0);
+        for (int i = 0; i < n; i++) {
+            index = bits.nextSetBit(index + 1);
+        }
+        return index;
+    }
+
+    private static int[] mineIndices(PackedBoard board) {
+        int[] mines = new int[board.getCellCount()];
+        int count = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (board.hasMine(index)) {
+                mines[count++] = index;
+            }
+        }
+        return Arrays.copyOf(mines, count);
+    }
+}
@@ -0,0 +1,29 @@
+package gamePlay;
+
+/**
+ * Deterministic seed derivation helpers (SplitMix64 finaliser)
+ */
+public class SeedMixer {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Scramble a 64-bit value into a well-distributed seed
+     */
+    public static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Next seed in the deterministic sequence that starts at the given seed
+     */
+    public static long next(long seed) {
+        return mix(seed + GOLDEN_GAMMA);
+    }
+
+    private SeedMixer() {
+
+    }
+}
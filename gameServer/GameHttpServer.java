@@ -0,0 +1,305 @@
+package gameServer;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import config.GameConfiguration;
+import dto.*;
+import exception.GameException;
+import gameMetrics.EngineMetrics;
+import gamePlay.MinesweeperGridPlay;
+import gamePlay.NoGuessBoardGenerator;
+import gameSession.BoardPool;
+import gameSession.GameSessionManager;
+import gameSession.TaskExecutors;
+import gameSolver.DeterministicSolver;
+import gameSolver.ProbabilisticSolver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Embedded HTTP/JSON front end for the game engine
+ *
+ * Endpoints (all responses are JSON):
+ * POST   /games?size=&mines=[&seed=&mode=&shareable=]  create a game; shareable=true draws
+ *                                         a seed small enough for a board ID
+ * POST   /games?board=                      create a game on the board a shared board ID names
+ *                                         (no NO_GUESS boards; boardId is only sent when seed is)
+ * GET    /games/{id}                       board state
+ * POST   /games/{id}/reveal?row=&col=      reveal a cell (409 once the game is won or lost)
+ * POST   /games/{id}/reveal-batch?moves=r,c;r,c  reveal many cells in one call (409 likewise)
+ * GET    /games/{id}/hint                  squares the visible numbers prove safe or mined
+ * GET    /games/{id}/guess                 safest square to guess and its mine probability
+ * POST   /games/{id}/reset                 reset with a new board
+ * DELETE /games/{id}                       end the session
+ * GET    /metrics                          plain-text engine metrics (see EngineMetrics)
+ *
+ * Each request runs on its own (virtual, where available) thread and works on
+ * its game under the session lock, so requests for different games run in parallel.
+ */
+public class GameHttpServer implements AutoCloseable {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int MAX_GRID_SIZE = 2000;
+    private static final String GAMES_PATH = "/games";
+    private static final String METRICS_PATH = "/metrics";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final GameSessionManager sessionManager;
+
+    public GameHttpServer(int port, GameSessionManager sessionManager) throws IOException {
+        this.sessionManager = sessionManager;
+        this.executor = TaskExecutors.newPerTaskExecutor("http-request");
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext(GAMES_PATH, this::handle);
+        server.createContext(METRICS_PATH, this::handleMetrics);
+        server.setExecutor(executor);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameHttpServer gameServer = new GameHttpServer(port, new GameSessionManager(new BoardPool()));
+        gameServer.start();
+        System.out.println("Minesweeper API listening on port " + gameServer.getPort());
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    // ========== Routing ==========
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            String[] segments = path.substring(GAMES_PATH.length()).split("/");
+
+            // segments[0] is always empty: "/games/{id}/action" -> ["", id, action]
+            if (!path.equals(GAMES_PATH) && !path.startsWith(GAMES_PATH + "/")) {
+                sendError(exchange, 404, "Not found: " + path);
+            } else if (segments.length <= 1) {
+                requireMethod(method, "POST");
+                sendJson(exchange, 201, createGame(query));
+            } else if (segments.length == 2) {
+                String sessionId = segments[1];
+                if (method.equals("DELETE")) {
+                    if (!sessionManager.removeGame(sessionId)) {
+                        throw new GameException("Unknown session: " + sessionId);
+                    }
+                    sendJson(exchange, 200, new JsonWriter(32).beginObject()
+                            .name("removed").value(sessionId).endObject().toJson());
+                } else {
+                    requireMethod(method, "GET");
+                    sendJson(exchange, 200, sessionManager.callLocked(sessionId,
+                            game -> encodeBoard(sessionId, game)));
+                }
+            } else if (segments.length == 3 && segments[2].equals("reveal")) {
+                requireMethod(method, "POST");
+                int row = intParameter(query, "row");
+                int col = intParameter(query, "col");
+                sendRevealResult(exchange, sessionManager.revealNow(sessionId(segments), row, col));
+            } else if (segments.length == 3 && segments[2].equals("reveal-batch")) {
+                requireMethod(method, "POST");
+                int[][] moves = parseMoves(query.get("moves"));
+                sendRevealResult(exchange, sessionManager.revealAllNow(sessionId(segments), moves[0], moves[1]));
+            } else if (segments.length == 3 && segments[2].equals("hint")) {
+                requireMethod(method, "GET");
+                sendJson(exchange, 200, sessionManager.callLocked(sessionId(segments),
+                        game -> new JsonWriter(256).solverResult(new DeterministicSolver().solve(game)).toJson()));
+            } else if (segments.length == 3 && segments[2].equals("guess")) {
+                requireMethod(method, "GET");
+                sendJson(exchange, 200, sessionManager.callLocked(sessionId(segments),
+                        game -> new JsonWriter(128).bestGuess(new ProbabilisticSolver().solve(game)).toJson()));
+            } else if (segments.length == 3 && segments[2].equals("reset")) {
+                requireMethod(method, "POST");
+                String sessionId = sessionId(segments);
+                sessionManager.resetNow(sessionId);
+                sendJson(exchange, 200, sessionManager.callLocked(sessionId,
+                        game -> encodeBoard(sessionId, game)));
+            } else {
+                sendError(exchange, 404, "Not found: " + path);
+            }
+        } catch (GameException e) {
+            sendError(exchange, 404, e.getMessage());
+        } catch (UnsupportedOperationException e) {
+            sendError(exchange, 405, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, "Internal error: " + e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private String createGame(Map<String, String> query) {
+        if (query.containsKey("board")) {
+            BoardId boardId = BoardId.parse(query.get("board"));
+            if (boardId.getSize() < 2 || boardId.getSize() > MAX_GRID_SIZE
+                    || !GameConfiguration.isValidMineCount(boardId.getSize(), boardId.getTotalMines())) {
+                throw new IllegalArgumentException("Board ID outside the allowed sizes and mine counts");
+            }
+            MinesweeperGridPlay game = sessionManager.newGame(boardId);
+            return encodeBoard(sessionManager.register(game), game, true);      // The client sent the board ID
+        }
+
+        int size = intParameter(query, "size");
+        int mines = intParameter(query, "mines");
+        if (size < 2 || size > MAX_GRID_SIZE) {
+            throw new IllegalArgumentException("Grid size must be between 2 and " + MAX_GRID_SIZE);
+        }
+        if (!GameConfiguration.isValidMineCount(size, mines)) {
+            throw new IllegalArgumentException("Invalid number of mines. Please enter between 1 and "
+                    + GameConfiguration.getMaxMines(size) + " mines.");
+        }
+
+        BoardGenerationMode mode = query.containsKey("mode")
+                ? BoardGenerationMode.valueOf(query.get("mode"))
+                : BoardGenerationMode.EAGER;
+        requireGeneratable(size, mode);
+
+        boolean seeded = query.containsKey("seed");
+        boolean shareable = Boolean.parseBoolean(query.get("shareable"));
+        MinesweeperGridPlay game;
+        if (!seeded && !shareable && mode == BoardGenerationMode.EAGER) {
+            game = sessionManager.newRandomGame(size, mines);     // Pooled when the manager has a pool
+        } else {
+            long seed = seeded ? Long.parseLong(query.get("seed"))
+                    : shareable ? BoardId.randomSeed()
+                    : ThreadLocalRandom.current().nextLong();
+            game = new MinesweeperGridPlay(size, mines, seed, mode);
+        }
+        String sessionId = sessionManager.register(game);
+
+        // No other request can know the new ID yet, so the snapshot needs no lock
+        return encodeBoard(sessionId, game, seeded || shareable);
+    }
+
+    // ========== Helpers ==========
+    /**
+     * NO_GUESS generation runs under the session lock on the first reveal, so its boards are capped
+     */
+    private static void requireGeneratable(int size, BoardGenerationMode mode) {
+        if (mode == BoardGenerationMode.NO_GUESS && size > NoGuessBoardGenerator.MAX_SIZE) {
+            throw new IllegalArgumentException("NO_GUESS boards can be at most " + NoGuessBoardGenerator.MAX_SIZE
+                    + " squares wide");
+        }
+    }
+
+    private static String encodeBoard(String sessionId, MinesweeperGridPlay game) {
+        return encodeBoard(sessionId, game, false);
+    }
+
+    /**
+     * @param discloseSeed whether a game still being played may show its seed (see JsonWriter.board)
+     */
+    private static String encodeBoard(String sessionId, MinesweeperGridPlay game, boolean discloseSeed) {
+        return new JsonWriter(128 + game.getSize() * (game.getSize() + 3)).board(sessionId, game, discloseSeed)
+                .toJson();
+    }
+
+    private static String sessionId(String[] segments) {
+        return segments[1];
+    }
+
+    private static void requireMethod(String method, String expected) {
+        if (!method.equals(expected)) {
+            throw new UnsupportedOperationException("Method " + method + " not allowed");
+        }
+    }
+
+    private static int intParameter(Map<String, String> query, String name) {
+        String value = query.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return Integer.parseInt(value);
+    }
+
+    /**
+     * Parse "r,c;r,c;..." into {rows, cols}
+     */
+    private static int[][] parseMoves(String moves) {
+        if (moves == null || moves.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: moves");
+        }
+        String[] pairs = moves.split(";");
+        int[][] parsed = new int[2][pairs.length];
+        for (int move = 0; move < pairs.length; move++) {
+            int separator = pairs[move].indexOf(',');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid move: " + pairs[move]);
+            }
+            parsed[0][move] = Integer.parseInt(pairs[move].substring(0, separator).trim());
+            parsed[1][move] = Integer.parseInt(pairs[move].substring(separator + 1).trim());
+        }
+        return parsed;
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> parameters = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return parameters;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                parameters.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return parameters;
+    }
+
+    private void handleMetrics(HttpExchange exchange) throws IOException {
+        byte[] body = EngineMetrics.dump().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * A finished game changes nothing, so reveals on it are a 409 conflict
+     */
+    private static void sendRevealResult(HttpExchange exchange, RevealResult result) throws IOException {
+        if (result.getType() == RevealResultType.GAME_OVER) {
+            sendError(exchange, 409, "Game is over");
+        } else {
+            sendJson(exchange, 200, new JsonWriter(256).revealResult(result).toJson());
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, new JsonWriter(64).beginObject()
+                .name("error").value(message).endObject().toJson());
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
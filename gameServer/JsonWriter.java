@@ -0,0 +1,283 @@
+package gameServer;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSolver.ProbabilityMap;
+import gameSolver.SolverResult;
+
+import java.util.BitSet;
+
+/**
+ * Minimal streaming JSON encoder for game responses
+ *
+ * Writes straight into one StringBuilder without building intermediate maps,
+ * strings or reflection metadata. Commas are tracked with a small nesting stack.
+ */
+public class JsonWriter {
+    private static final int MAX_DEPTH = 16;
+
+    private final StringBuilder out;
+    private final boolean[] needsComma;      // Per nesting level: has a value been written?
+    private int depth;
+
+    public JsonWriter(int capacity) {
+        this.out = new StringBuilder(capacity);
+        this.needsComma = new boolean[MAX_DEPTH];
+        this.depth = 0;
+    }
+
+    // ========== Structure ==========
+    public JsonWriter beginObject() {
+        separate();
+        out.append('{');
+        push();
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        depth--;
+        out.append('}');
+        return this;
+    }
+
+    public JsonWriter beginArray() {
+        separate();
+        out.append('[');
+        push();
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        depth--;
+        out.append(']');
+        return this;
+    }
+
+    /**
+     * Write an object member name; the next value belongs to it
+     */
+    public JsonWriter name(String name) {
+        separate();
+        writeString(name);
+        out.append(':');
+        needsComma[depth] = false;
+        return this;
+    }
+
+    // ========== Values ==========
+    public JsonWriter value(String value) {
+        separate();
+        if (value == null) {
+            out.append("null");
+        } else {
+            writeString(value);
+        }
+        return this;
+    }
+
+    public JsonWriter value(long value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    /**
+     * Finite numbers only; NaN and infinities are written as null
+     */
+    public JsonWriter value(double value) {
+        separate();
+        if (Double.isFinite(value)) {
+            out.append(value);
+        } else {
+            out.append("null");
+        }
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        separate();
+        out.append(value);
+        return this;
+    }
+
+    public String toJson() {
+        return out.toString();
+    }
+
+    // ========== Game Encoders ==========
+    /**
+     * {"type":..,"adjacentMineCount":..,"gameOver":..,"revealedCount":..,"revealed":[[row,col],..]}
+     */
+    public JsonWriter revealResult(RevealResult result) {
+        beginObject();
+        name("type").value(result.getType().name());
+        name("adjacentMineCount").value(result.getAdjacentMineCount());
+        name("gameOver").value(result.isGameOver());
+        name("revealedCount").value(result.getRevealedCount());
+        if (result instanceof BatchRevealResult) {
+            name("appliedMoves").value(((BatchRevealResult) result).getAppliedMoves());
+        }
+        name("revealed").beginArray();
+        RevealedCells cells = result.getRevealedCells();
+        if (cells != null) {
+            // Encode straight from the packed indices without building Position objects
+            int size = cells.getBoardSize();
+            cells.forEach(index -> beginArray().value(index / size).value(index % size).endArray());
+        } else {
+            for (Position position : result.getRevealedPositions()) {
+                beginArray().value(position.getRow()).value(position.getColumn()).endArray();
+            }
+        }
+        endArray();
+        return endObject();
+    }
+
+    /**
+     * {"safeCount":..,"mineCount":..,"safe":[[row,col],..],"mines":[[row,col],..]}
+     */
+    public JsonWriter solverResult(SolverResult result) {
+        beginObject();
+        name("safeCount").value(result.getSafeCount());
+        name("mineCount").value(result.getMineCount());
+        name("safe");
+        cellArray(result.getSafeCells(), result.getBoardSize());
+        name("mines");
+        cellArray(result.getMineCells(), result.getBoardSize());
+        return endObject();
+    }
+
+    /**
+     * {"row":..,"col":..,"probability":..,"exact":..,"components":..}; row and col are null
+     * when nothing is hidden
+     */
+    public JsonWriter bestGuess(ProbabilityMap map) {
+        Position guess = map.getBestGuess();
+        beginObject();
+        name("row");
+        if (guess != null) {
+            value(guess.getRow());
+        } else {
+            value((String) null);
+        }
+        name("col");
+        if (guess != null) {
+            value(guess.getColumn());
+        } else {
+            value((String) null);
+        }
+        name("probability").value(map.getBestGuessProbability());
+        name("exact").value(map.isExact());
+        name("components").value(map.getComponentCount());
+        return endObject();
+    }
+
+    /**
+     * Board snapshot; each row is a string with '_' hidden, '0'-'8' revealed counts and
+     * '*' mines (mines only once the game is over)
+     */
+    public JsonWriter board(String sessionId, MinesweeperGridPlay game) {
+        return board(sessionId, game, false);
+    }
+
+    /**
+     * Board snapshot that may disclose the seed while the game is still being played
+     * The seed and board ID regenerate every mine, so they are gated like the mines: they are written
+     * once the game is over, or when discloseSeed says the client already knows them or asked to share them.
+     */
+    public JsonWriter board(String sessionId, MinesweeperGridPlay game, boolean discloseSeed) {
+        int size = game.getSize();
+        PackedBoard board = game.getBoard();
+        boolean showMines = game.getGameState() != GameState.PLAYING;
+
+        beginObject();
+        if (sessionId != null) {
+            name("sessionId").value(sessionId);
+        }
+        name("size").value(size);
+        name("totalMines").value(game.getTotalMines());
+        if (showMines || discloseSeed) {
+            name("seed").value(game.getSeed());
+            BoardId boardId = game.getBoardId();
+            if (boardId != null) {
+                name("boardId").value(boardId.toString());
+            }
+        }
+        if (game.getGenerationMode() == BoardGenerationMode.NO_GUESS) {
+            name("noGuessGuaranteed").value(game.isNoGuessGuaranteed());
+        }
+        name("state").value(game.getGameState().name());
+        name("rows").beginArray();
+        for (int row = 0; row < size; row++) {
+            separate();
+            out.append('"');
+            for (int col = 0; col < size; col++) {
+                int index = board.indexOf(row, col);
+                if (board.hasMine(index) && (showMines || board.isRevealed(index))) {
+                    out.append('*');
+                } else if (board.isRevealed(index)) {
+                    out.append((char) ('0' + board.getAdjacentMineCount(index)));
+                } else {
+                    out.append('_');
+                }
+            }
+            out.append('"');
+        }
+        endArray();
+        return endObject();
+    }
+
+    // ========== Helpers ==========
+    private void cellArray(BitSet cells, int size) {
+        beginArray();
+        for (int index = cells.nextSetBit(0); index >= 0; index = cells.nextSetBit(index + 1)) {
+            beginArray().value(index / size).value(index % size).endArray();
+        }
+        endArray();
+    }
+
+    private void push() {
+        depth++;
+        if (depth >= MAX_DEPTH) {
+            throw new IllegalStateException("JSON nesting too deep");
+        }
+        needsComma[depth] = false;
+    }
+
+    private void separate() {
+        if (needsComma[depth]) {
+            out.append(',');
+        }
+        needsComma[depth] = true;
+    }
+
+    private void writeString(String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+            }
+        }
+        out.append('"');
+    }
+}
@@ -0,0 +1,100 @@
+package gameSession;
+
+import dto.BoardGenerationMode;
+import dto.BoardId;
+import dto.PackedBoard;
+import dto.PooledBoard;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Small LRU cache of boards recently regenerated from their BoardId
+ *
+ * Shared boards and daily challenges are opened by many players, so the first
+ * request generates the EAGER layout and later ones copy it in a single array
+ * copy. The cache is bounded by the bytes of the boards it holds, evicting the
+ * least recently used first. Lazy modes depend on the first click and are
+ * simply regenerated.
+ */
+public class BoardCache {
+    public static final long DEFAULT_MAX_BYTES = 16L << 20;
+
+    private final long maxBytes;
+    private final LinkedHashMap<BoardId, PackedBoard> boards = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;                    // Guarded by this
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public BoardCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    public BoardCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("Invalid cache size: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * A new game on the board the ID names
+     */
+    public MinesweeperGridPlay newGame(BoardId boardId) {
+        if (boardId.getGenerationMode() != BoardGenerationMode.EAGER) {
+            return new MinesweeperGridPlay(boardId);
+        }
+
+        PackedBoard cached = get(boardId);
+        if (cached != null) {
+            hits.increment();
+            return new MinesweeperGridPlay(new PooledBoard(boardId.getSeed(), boardId.getTotalMines(), copyOf(cached)));
+        }
+
+        misses.increment();
+        MinesweeperGridPlay game = new MinesweeperGridPlay(boardId);
+        put(boardId, copyOf(game.getBoard()));
+        return game;
+    }
+
+    private synchronized PackedBoard get(BoardId boardId) {
+        return boards.get(boardId);
+    }
+
+    private synchronized void put(BoardId boardId, PackedBoard board) {
+        long footprint = board.getFootprintBytes();
+        if (footprint > maxBytes) {
+            return;
+        }
+        PackedBoard previous = boards.put(boardId, board);
+        bytes += footprint - (previous != null ? previous.getFootprintBytes() : 0);
+
+        Iterator<Map.Entry<BoardId, PackedBoard>> eldest = boards.entrySet().iterator();
+        while (bytes > maxBytes) {
+            bytes -= eldest.next().getValue().getFootprintBytes();
+            eldest.remove();
+        }
+    }
+
+    private static PackedBoard copyOf(PackedBoard board) {
+        PackedBoard copy = new PackedBoard(board.getSize());
+        copy.copyFrom(board);
+        return copy;
+    }
+
+    // ========== Statistics ==========
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public synchronized int size() {
+        return boards.size();
+    }
+}
@@ -0,0 +1,298 @@
+package gameSession;
+
+import dto.PooledBoard;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps ready-made EAGER boards for popular (size, mines) configurations
+ *
+ * Each configuration has a bounded queue that background producer threads keep
+ * filled, so starting a game is a queue poll instead of mine placement and
+ * counting. The fill target follows demand: about REFILL_HORIZON_SECONDS of the
+ * smoothed request rate, between MIN_DEPTH and the queue capacity, and it decays
+ * back to MIN_DEPTH while nobody asks. Producers refill short configurations one
+ * board at a time in turn. Configurations are registered on first request, up to
+ * maxConfigurations; others, and any empty queue, generate on the caller's thread.
+ *
+ * Requests for unpooled configurations are still counted. Once one has a higher
+ * recent rate than the quietest pooled configuration (rates decay while a
+ * configuration sits idle), it takes that configuration's place and the evicted
+ * queue is dropped.
+ *
+ * Pooled boards carry random seeds, exactly like createGame(size, mines).
+ */
+public class BoardPool implements AutoCloseable {
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final int DEFAULT_MAX_CONFIGURATIONS = 16;
+    private static final int MIN_DEPTH = 2;
+    private static final double REFILL_HORIZON_SECONDS = 2.0;
+    private static final double RATE_SMOOTHING = 0.2;
+
+    private final ConcurrentHashMap<Long, Configuration> configurations = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<Configuration> refills = new LinkedBlockingQueue<>();
+    private final Map<Long, Demand> contenders = new HashMap<>();     // Unpooled demand, guarded by this
+    private final ExecutorService producers;
+    private final int capacity;
+    private final int maxConfigurations;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private volatile boolean closed;
+
+    /**
+     * Pool with one producer per four cores and default limits
+     */
+    public BoardPool() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 4), DEFAULT_CAPACITY,
+                DEFAULT_MAX_CONFIGURATIONS);
+    }
+
+    public BoardPool(int producerThreads, int capacity, int maxConfigurations) {
+        if (producerThreads < 1 || capacity < MIN_DEPTH || maxConfigurations < 1) {
+            throw new IllegalArgumentException("Invalid board pool limits");
+        }
+        this.capacity = capacity;
+        this.maxConfigurations = maxConfigurations;
+        this.producers = TaskExecutors.newDaemonPool("board-pool", producerThreads);
+        for (int i = 0; i < producerThreads; i++) {
+            producers.execute(this::produce);
+        }
+    }
+
+    // ========== Boards ==========
+    /**
+     * Start filling a configuration before its first request
+     */
+    public void prewarm(int size, int totalMines) {
+        Configuration configuration = configuration(size, totalMines);
+        if (configuration != null) {
+            scheduleRefill(configuration);
+        }
+    }
+
+    /**
+     * A ready board for the configuration, generated on this thread if none is waiting
+     */
+    public PooledBoard take(int size, int totalMines) {
+        long now = System.nanoTime();
+        Configuration configuration = configuration(size, totalMines);
+        if (configuration != null) {
+            configuration.demand.record(now);
+        } else {
+            configuration = contend(size, totalMines, now);
+        }
+        if (configuration != null) {
+            PooledBoard board = configuration.boards.poll();
+            scheduleRefill(configuration);
+            if (board != null) {
+                hits.increment();
+                return board;
+            }
+        }
+        misses.increment();
+        return generate(size, totalMines);
+    }
+
+    /**
+     * A new EAGER game on a pooled board
+     */
+    public MinesweeperGridPlay newGame(int size, int totalMines) {
+        return new MinesweeperGridPlay(take(size, totalMines));
+    }
+
+    private static PooledBoard generate(int size, int totalMines) {
+        long seed = ThreadLocalRandom.current().nextLong();
+        return new PooledBoard(seed, totalMines, new MinesweeperGridPlay(size, totalMines, seed).getBoard());
+    }
+
+    private Configuration configuration(int size, int totalMines) {
+        if (size < 1 || totalMines < 0 || totalMines > size * size) {
+            throw new IllegalArgumentException("Invalid board: size " + size + ", mines " + totalMines);
+        }
+        long key = key(size, totalMines);
+        Configuration existing = configurations.get(key);
+        if (existing != null || configurations.size() >= maxConfigurations) {
+            return existing;
+        }
+        return configurations.computeIfAbsent(key, unused -> new Configuration(size, totalMines, new Demand()));
+    }
+
+    /**
+     * Count a request for an unpooled configuration and swap it in for the quietest
+     * pooled one once it is busier
+     *
+     * @return the configuration now pooled for the request, or null if it stays unpooled
+     */
+    private synchronized Configuration contend(int size, int totalMines, long now) {
+        long key = key(size, totalMines);
+        Configuration existing = configurations.get(key);     // Promoted by a concurrent request
+        if (existing != null) {
+            existing.demand.record(now);
+            return existing;
+        }
+        Demand demand = contenders.get(key);
+        if (demand == null) {
+            if (contenders.size() >= maxConfigurations) {
+                contenders.values().remove(quietest(contenders.values(), now));
+            }
+            demand = new Demand();
+            contenders.put(key, demand);
+        }
+        demand.record(now);
+
+        Configuration quietest = null;
+        double quietestRate = Double.MAX_VALUE;
+        for (Configuration configuration : configurations.values()) {
+            double rate = configuration.demand.rate(now);
+            if (rate < quietestRate) {
+                quietest = configuration;
+                quietestRate = rate;
+            }
+        }
+        if (quietest == null || demand.rate(now) <= quietestRate) {
+            return null;
+        }
+
+        configurations.remove(key(quietest.size, quietest.totalMines), quietest);
+        quietest.retired = true;
+        contenders.remove(key);
+        evictions.increment();
+        Configuration promoted = new Configuration(size, totalMines, demand);
+        configurations.put(key, promoted);
+        return promoted;
+    }
+
+    private static Demand quietest(Iterable<Demand> demands, long now) {
+        Demand quietest = null;
+        for (Demand demand : demands) {
+            if (quietest == null || demand.rate(now) < quietest.rate(now)) {
+                quietest = demand;
+            }
+        }
+        return quietest;
+    }
+
+    private static long key(int size, int totalMines) {
+        return ((long) size << 32) | totalMines;
+    }
+
+    // ========== Producers ==========
+    private void produce() {
+        try {
+            while (!closed) {
+                Configuration configuration = refills.take();
+                configuration.scheduled.set(false);
+                if (!configuration.retired && configuration.boards.size() < configuration.targetDepth()) {
+                    configuration.boards.offer(generate(configuration.size, configuration.totalMines));
+                    scheduleRefill(configuration);      // Back of the line if still short
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void scheduleRefill(Configuration configuration) {
+        if (!closed && !configuration.retired && configuration.boards.size() < configuration.targetDepth()
+                && configuration.scheduled.compareAndSet(false, true)) {
+            refills.offer(configuration);
+        }
+    }
+
+    // ========== Statistics ==========
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Pooled configurations replaced by busier ones
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Boards waiting for a configuration (0 if it is not pooled)
+     */
+    public int getReadyCount(int size, int totalMines) {
+        Configuration configuration = configurations.get(key(size, totalMines));
+        return configuration == null ? 0 : configuration.boards.size();
+    }
+
+    /**
+     * Depth the producers currently keep for a configuration (0 if it is not pooled)
+     */
+    public int getTargetDepth(int size, int totalMines) {
+        Configuration configuration = configurations.get(key(size, totalMines));
+        return configuration == null ? 0 : configuration.targetDepth();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        producers.shutdownNow();
+    }
+
+    /**
+     * Queue and demand estimate of one pooled (size, mines) pair
+     */
+    private final class Configuration {
+        private final int size;
+        private final int totalMines;
+        private final Demand demand;
+        private final ArrayBlockingQueue<PooledBoard> boards = new ArrayBlockingQueue<>(capacity);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean retired;    // Evicted; producers skip it
+
+        Configuration(int size, int totalMines, Demand demand) {
+            this.size = size;
+            this.totalMines = totalMines;
+            this.demand = demand;
+        }
+
+        int targetDepth() {
+            long depth = (long) Math.ceil(demand.rate(System.nanoTime()) * REFILL_HORIZON_SECONDS);
+            return (int) Math.max(MIN_DEPTH, Math.min(capacity, depth));
+        }
+    }
+
+    /**
+     * Smoothed request rate of one (size, mines) pair, pooled or not
+     */
+    private static final class Demand {
+        private long lastDemandNanos;        // Guarded by this; 0 before the first request
+        private double demandPerSecond;      // Guarded by this
+
+        synchronized void record(long now) {
+            if (lastDemandNanos != 0) {
+                double instantRate = 1e9 / Math.max(1, now - lastDemandNanos);
+                demandPerSecond += RATE_SMOOTHING * (instantRate - demandPerSecond);
+            }
+            lastDemandNanos = now;
+        }
+
+        /**
+         * Requests per second; a quiet spell caps it at one request per elapsed interval
+         */
+        synchronized double rate(long now) {
+            if (lastDemandNanos == 0) {
+                return demandPerSecond;
+            }
+            return Math.min(demandPerSecond, 1e9 / Math.max(1, now - lastDemandNanos));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package gameSession;
+
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One hosted game together with its lock and idle bookkeeping
+ *
+ * All access to the game must happen while holding the session lock;
+ * sessions never share a lock, so independent games never contend.
+ */
+public class GameSession {
+    private final String sessionId;
+    private final MinesweeperGridPlay game;
+    private final ReentrantLock lock;
+    private volatile long lastAccessNanos;    // Updated on every operation
+    private long journalGameId;               // Journal ID of the current round, -1 if not journaled
+
+    public GameSession(String sessionId, MinesweeperGridPlay game) {
+        this.sessionId = sessionId;
+        this.game = game;
+        this.lock = new ReentrantLock();
+        this.lastAccessNanos = System.nanoTime();
+        this.journalGameId = -1;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Game of this session; callers must hold the session lock
+     */
+    MinesweeperGridPlay getGame() {
+        return game;
+    }
+
+    ReentrantLock getLock() {
+        return lock;
+    }
+
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    long getJournalGameId() {
+        return journalGameId;
+    }
+
+    void setJournalGameId(long journalGameId) {
+        this.journalGameId = journalGameId;
+    }
+
+    void touch() {
+        this.lastAccessNanos = System.nanoTime();
+    }
+}
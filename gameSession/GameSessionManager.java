@@ -0,0 +1,384 @@
+package gameSession;
+
+import dto.*;
+import exception.GameException;
+import gameMetrics.EngineMetrics;
+import gamePlay.MinesweeperGridPlay;
+import gameStorage.GameSnapshotStore;
+import gameStorage.MoveJournal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+/**
+ * Hosts many concurrent games keyed by session ID
+ *
+ * Every operation runs on its own (virtual, where available) thread and returns a
+ * CompletableFuture, so controllers never block. Each session has its own lock,
+ * so only operations on the same game are serialised. Idle sessions are expired
+ * by a timer wheel that re-checks the last access time before removing anything.
+ * With a MoveJournal attached, every game round and reveal made through the
+ * manager's reveal/reset operations is journaled (generic withGame calls are not).
+ * With a BoardPool attached, random-seed games and resets of EAGER games take
+ * ready-made boards instead of generating them on the request thread.
+ */
+public class GameSessionManager implements AutoCloseable {
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final long TICK_MILLIS = 1000;
+    private static final int WHEEL_SIZE = 512;
+
+    private final ConcurrentHashMap<String, GameSession> sessions;
+    private final ExecutorService executor;
+    private final TimerWheel<String> expiryWheel;
+    private final long idleTimeoutNanos;
+    private final MoveJournal journal;          // Null when moves are not journaled
+    private final BoardPool boardPool;          // Null when boards are generated on demand
+    private final BoardCache boardCache = new BoardCache();
+
+    public GameSessionManager() {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS, TICK_MILLIS);
+    }
+
+    public GameSessionManager(long idleTimeoutMillis, long tickMillis) {
+        this(idleTimeoutMillis, tickMillis, null);
+    }
+
+    public GameSessionManager(long idleTimeoutMillis, long tickMillis, MoveJournal journal) {
+        this(idleTimeoutMillis, tickMillis, journal, null);
+    }
+
+    public GameSessionManager(BoardPool boardPool) {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS, TICK_MILLIS, null, boardPool);
+    }
+
+    public GameSessionManager(long idleTimeoutMillis, long tickMillis, MoveJournal journal, BoardPool boardPool) {
+        this.journal = journal;
+        this.boardPool = boardPool;
+        this.sessions = new ConcurrentHashMap<>();
+        this.executor = TaskExecutors.newPerTaskExecutor("game-session");
+        this.expiryWheel = new TimerWheel<>(tickMillis, WHEEL_SIZE, this::expireIfIdle);
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMillis);
+    }
+
+    // ========== Session Lifecycle ==========
+    /**
+     * Create a new game and return its session ID
+     */
+    public CompletableFuture<String> createGame(int size, int totalMines) {
+        return CompletableFuture.supplyAsync(() -> register(newRandomGame(size, totalMines)), executor);
+    }
+
+    public CompletableFuture<String> createGame(int size, int totalMines, long seed,
+                                                BoardGenerationMode generationMode) {
+        return CompletableFuture.supplyAsync(
+                () -> register(new MinesweeperGridPlay(size, totalMines, seed, generationMode)), executor);
+    }
+
+    /**
+     * A new EAGER game with a random seed, from the board pool when one is attached
+     * The game is not registered.
+     */
+    public MinesweeperGridPlay newRandomGame(int size, int totalMines) {
+        return boardPool != null
+                ? boardPool.newGame(size, totalMines)
+                : new MinesweeperGridPlay(size, totalMines, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * A new game on the board a BoardId names, copied from recently used boards where possible
+     * The game is not registered.
+     */
+    public MinesweeperGridPlay newGame(BoardId boardId) {
+        return boardCache.newGame(boardId);
+    }
+
+    /**
+     * Host an existing game under a new session ID
+     * Games that have not been played yet are journaled from their first move.
+     */
+    public String register(MinesweeperGridPlay game) {
+        String sessionId;
+        GameSession session;
+        do {
+            sessionId = UUID.randomUUID().toString();
+            session = host(sessionId, game);
+        } while (session == null);
+        if (journal != null && game.getRevealedCells() == 0 && game.getGameState() == GameState.PLAYING) {
+            session.setJournalGameId(journal.startGame(game));
+        }
+        return sessionId;
+    }
+
+    /**
+     * Add a session and start its expiry timer; returns null, changing nothing, if the ID is taken
+     */
+    private GameSession host(String sessionId, MinesweeperGridPlay game) {
+        GameSession session = new GameSession(sessionId, game);
+        if (sessions.putIfAbsent(sessionId, session) != null) {
+            return null;
+        }
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.gameOpened();
+        }
+        expiryWheel.schedule(sessionId, idleTimeoutNanos, TimeUnit.NANOSECONDS);
+        return session;
+    }
+
+    /**
+     * Remove a session; returns false if it did not exist
+     */
+    public boolean removeGame(String sessionId) {
+        GameSession session = sessions.remove(sessionId);
+        if (session != null) {
+            endJournaledRound(session);
+            if (EngineMetrics.ENABLED) {
+                EngineMetrics.gameClosed();
+            }
+        }
+        return session != null;
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public boolean hasSession(String sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    // ========== Game Operations ==========
+    public CompletableFuture<RevealResult> reveal(String sessionId, int row, int col) {
+        return withSession(sessionId, session -> revealLocked(session, row, col));
+    }
+
+    /**
+     * Apply a batch of moves in one engine call under a single lock acquisition
+     */
+    public CompletableFuture<BatchRevealResult> revealAll(String sessionId, int[] rows, int[] cols) {
+        return withSession(sessionId, session -> revealAllLocked(session, rows, cols));
+    }
+
+    public CompletableFuture<GameState> getGameState(String sessionId) {
+        return withGame(sessionId, MinesweeperGridPlay::getGameState);
+    }
+
+    public CompletableFuture<Void> resetGame(String sessionId) {
+        return withSession(sessionId, session -> {
+            resetLocked(session);
+            return null;
+        });
+    }
+
+    /**
+     * Reveal on the calling thread; same as reveal() without the hand-off
+     */
+    public RevealResult revealNow(String sessionId, int row, int col) throws GameException {
+        return callLockedSession(sessionId, session -> revealLocked(session, row, col));
+    }
+
+    public BatchRevealResult revealAllNow(String sessionId, int[] rows, int[] cols) throws GameException {
+        return callLockedSession(sessionId, session -> revealAllLocked(session, rows, cols));
+    }
+
+    public void resetNow(String sessionId) throws GameException {
+        callLockedSession(sessionId, session -> {
+            resetLocked(session);
+            return null;
+        });
+    }
+
+    /**
+     * Run an operation against a session's game while holding that session's lock
+     */
+    public <T> CompletableFuture<T> withGame(String sessionId, Function<MinesweeperGridPlay, T> operation) {
+        return withSession(sessionId, session -> operation.apply(session.getGame()));
+    }
+
+    /**
+     * Run an operation on the calling thread while holding the session's lock
+     */
+    public <T> T callLocked(String sessionId, Function<MinesweeperGridPlay, T> operation) throws GameException {
+        return callLockedSession(sessionId, session -> operation.apply(session.getGame()));
+    }
+
+    private <T> CompletableFuture<T> withSession(String sessionId, Function<GameSession, T> operation) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            return CompletableFuture.failedFuture(new GameException("Unknown session: " + sessionId));
+        }
+        return CompletableFuture.supplyAsync(() -> callLocked(session, operation), executor);
+    }
+
+    private <T> T callLockedSession(String sessionId, Function<GameSession, T> operation) throws GameException {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new GameException("Unknown session: " + sessionId);
+        }
+        return callLocked(session, operation);
+    }
+
+    private <T> T callLocked(GameSession session, Function<GameSession, T> operation) {
+        session.getLock().lock();
+        try {
+            session.touch();
+            return operation.apply(session);
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    // ========== Journaled Operations (session lock held) ==========
+    // A finished game answers GAME_OVER without changing, so nothing is journaled for it
+    private RevealResult revealLocked(GameSession session, int row, int col) {
+        MinesweeperGridPlay game = session.getGame();
+        if (game.getGameState() != GameState.PLAYING) {
+            return game.revealCell(row, col);
+        }
+        RevealResult result = game.revealCell(row, col);
+        if (session.getJournalGameId() >= 0) {
+            journal.recordMove(session.getJournalGameId(), game.getBoard().indexOf(row, col));
+            journalGameOver(session, result);
+        }
+        return result;
+    }
+
+    private BatchRevealResult revealAllLocked(GameSession session, int[] rows, int[] cols) {
+        MinesweeperGridPlay game = session.getGame();
+        if (game.getGameState() != GameState.PLAYING) {
+            return game.revealCells(rows, cols);
+        }
+        BatchRevealResult result = game.revealCells(rows, cols);
+        if (session.getJournalGameId() >= 0) {
+            for (int move = 0; move < result.getAppliedMoves(); move++) {
+                journal.recordMove(session.getJournalGameId(), game.getBoard().indexOf(rows[move], cols[move]));
+            }
+            journalGameOver(session, result);
+        }
+        return result;
+    }
+
+    private void resetLocked(GameSession session) {
+        MinesweeperGridPlay game = session.getGame();
+        if (session.getJournalGameId() >= 0) {
+            journal.recordEnd(session.getJournalGameId(), game.getGameState());
+        }
+        if (boardPool != null && game.getGenerationMode() == BoardGenerationMode.EAGER) {
+            game.resetGame(boardPool.take(game.getSize(), game.getTotalMines()));
+        } else {
+            game.resetGame();
+        }
+        if (journal != null) {
+            session.setJournalGameId(journal.startGame(game));
+        }
+    }
+
+    private void journalGameOver(GameSession session, RevealResult result) {
+        if (result.isGameOver()) {
+            journal.recordEnd(session.getJournalGameId(), session.getGame().getGameState());
+            session.setJournalGameId(-1);
+        }
+    }
+
+    /**
+     * Close the journal round of a session that is going away (abandoned if still playing)
+     */
+    private void endJournaledRound(GameSession session) {
+        if (journal == null) {
+            return;
+        }
+        session.getLock().lock();
+        try {
+            if (session.getJournalGameId() >= 0) {
+                journal.recordEnd(session.getJournalGameId(), session.getGame().getGameState());
+                session.setJournalGameId(-1);
+            }
+        } finally {
+            session.getLock().unlock();
+        }
+    }
+
+    // ========== Checkpoints ==========
+    /**
+     * Snapshot every live session into one file
+     * Each game is copied under its own lock, so other sessions keep playing meanwhile;
+     * sessions removed while the checkpoint runs are skipped.
+     *
+     * @return number of sessions written
+     */
+    public int checkpoint(Path file) throws IOException {
+        List<GameSession> live = new ArrayList<>(sessions.values());
+
+        // Board size and session ID never change, so the file can be sized up front
+        long capacity = GameSnapshotStore.CHECKPOINT_HEADER_BYTES;
+        for (GameSession session : live) {
+            capacity += GameSnapshotStore.entryBytes(session.getSessionId(), session.getGame());
+        }
+
+        try (GameSnapshotStore.CheckpointWriter writer = GameSnapshotStore.openCheckpoint(file, capacity)) {
+            for (GameSession session : live) {
+                if (sessions.get(session.getSessionId()) != session) {
+                    continue;
+                }
+                session.getLock().lock();
+                try {
+                    writer.append(session.getSessionId(), session.getGame());
+                } finally {
+                    session.getLock().unlock();
+                }
+            }
+            return writer.getEntryCount();
+        }
+    }
+
+    /**
+     * Host every game of a checkpoint under its saved session ID
+     * A saved session whose ID is already live is skipped: the live session, its lock and
+     * its expiry timer are left as they are.
+     *
+     * @return number of sessions restored
+     */
+    public int restoreCheckpoint(Path file) throws IOException {
+        int restored = 0;
+        for (Map.Entry<String, MinesweeperGridPlay> entry : GameSnapshotStore.readCheckpoint(file).entrySet()) {
+            if (host(entry.getKey(), entry.getValue()) != null) {
+                restored++;
+            }
+        }
+        return restored;
+    }
+
+    // ========== Expiry ==========
+    /**
+     * Timer wheel callback: drop the session if it stayed idle, otherwise check again later
+     */
+    private void expireIfIdle(String sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+
+        long idleNanos = System.nanoTime() - session.getLastAccessNanos();
+        if (idleNanos >= idleTimeoutNanos) {
+            if (sessions.remove(sessionId, session)) {
+                endJournaledRound(session);
+                if (EngineMetrics.ENABLED) {
+                    EngineMetrics.gameClosed();
+                }
+            }
+        } else {
+            expiryWheel.schedule(sessionId, idleTimeoutNanos - idleNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void close() {
+        expiryWheel.close();
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,58 @@
+package gameSession;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the executors that run session and request work
+ */
+public class TaskExecutors {
+
+    /**
+     * Executor that starts a new virtual thread per task when the runtime supports it
+     * (Java 21+), falling back to a cached pool of daemon platform threads on older JDKs
+     */
+    public static ExecutorService newPerTaskExecutor(String threadNamePrefix) {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, threadNamePrefix + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Fixed pool of daemon platform threads for CPU-bound background work
+     */
+    public static ExecutorService newDaemonPool(String threadNamePrefix, int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Whether newPerTaskExecutor hands out virtual threads on this runtime
+     */
+    public static boolean isVirtualThreadSupported() {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private TaskExecutors() {
+
+    }
+}
@@ -0,0 +1,122 @@
+package gameSession;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel for coarse-grained timeouts
+ *
+ * Scheduling is O(1): a timeout is dropped into the slot its deadline hashes to
+ * and carries the number of full wheel rotations still to wait. A single daemon
+ * thread advances one slot per tick and fires the timeouts that are due.
+ * Scheduling and advancing share one lock, so a new timeout never lands in a
+ * slot the ticker has just drained; handlers run outside it.
+ */
+public class TimerWheel<T> implements AutoCloseable {
+    private final long tickNanos;
+    private final Object tickLock = new Object();
+    private final Queue<Timeout<T>>[] slots;     // Guarded by tickLock
+    private final Consumer<T> expiryHandler;
+    private final ScheduledExecutorService ticker;
+    private final long startNanos;
+    private long currentTick;                    // Last tick processed; guarded by tickLock
+
+    public TimerWheel(long tickMillis, int wheelSize, Consumer<T> expiryHandler) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick and wheel size must be positive");
+        }
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.slots = newSlots(wheelSize);
+        this.expiryHandler = expiryHandler;
+        this.startNanos = System.nanoTime();
+        this.currentTick = 0;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "timer-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fire the expiry handler for the item once the delay has elapsed (rounded up to a tick)
+     */
+    public void schedule(T item, long delay, TimeUnit unit) {
+        long elapsedNanos = System.nanoTime() - startNanos + unit.toNanos(delay);
+        synchronized (tickLock) {
+            long deadlineTick = Math.max(currentTick + 1, (elapsedNanos + tickNanos - 1) / tickNanos);
+
+            // The slot is visited once per rotation before the deadline tick comes round
+            long rounds = (deadlineTick - currentTick - 1) / slots.length;
+            int slot = (int) (deadlineTick % slots.length);
+
+            slots[slot].add(new Timeout<>(item, rounds));
+        }
+    }
+
+    /**
+     * Advance the wheel to the current time, firing every due timeout on the way
+     */
+    private void advance() {
+        long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+        List<T> due = new ArrayList<>();
+        synchronized (tickLock) {
+            while (currentTick < targetTick) {
+                long tick = ++currentTick;
+                Queue<Timeout<T>> slot = slots[(int) (tick % slots.length)];
+
+                // Drain only the entries present now; rescheduled ones wait a full rotation
+                for (int pending = slot.size(); pending > 0; pending--) {
+                    Timeout<T> timeout = slot.poll();
+                    if (timeout.remainingRounds > 0) {
+                        timeout.remainingRounds--;
+                        slot.add(timeout);
+                    } else {
+                        due.add(timeout.item);
+                    }
+                }
+            }
+        }
+
+        for (T item : due) {
+            try {
+                expiryHandler.accept(item);
+            } catch (RuntimeException e) {
+                System.err.println("Timer wheel handler failed: " + e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Queue<Timeout<T>>[] newSlots(int wheelSize) {
+        Queue<Timeout<T>>[] slots = (Queue<Timeout<T>>[]) new Queue<?>[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+        return slots;
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+
+    /**
+     * Pending timeout entry inside a slot
+     */
+    private static class Timeout<T> {
+        private final T item;
+        private long remainingRounds;
+
+        Timeout(T item, long remainingRounds) {
+            this.item = item;
+            this.remainingRounds = remainingRounds;
+        }
+    }
+}
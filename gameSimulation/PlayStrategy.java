@@ -0,0 +1,30 @@
+package gameSimulation;
+
+import gamePlay.MinesweeperGridPlay;
+
+/**
+ * Chooses the next square to reveal in a simulated game
+ *
+ * Instances are used by one simulation thread only and may keep state between
+ * moves; gameStarted() is called before the first move of every game.
+ */
+public interface PlayStrategy {
+
+    /**
+     * Forget everything about the previous game
+     */
+    default void gameStarted(MinesweeperGridPlay game, long seed) {
+    }
+
+    /**
+     * Cell index of the next hidden square to reveal
+     */
+    int nextMove(MinesweeperGridPlay game);
+
+    /**
+     * Whether the last move returned by nextMove was a guess rather than a deduction
+     */
+    default boolean lastMoveWasGuess() {
+        return true;
+    }
+}
@@ -0,0 +1,50 @@
+package gameSimulation;
+
+import dto.PackedBoard;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.SplittableRandom;
+
+/**
+ * Reveals a uniformly random hidden square every move
+ */
+public class RandomStrategy implements PlayStrategy {
+    private static final int MAX_RANDOM_PROBES = 64;     // Then fall back to a scan
+
+    private SplittableRandom random = new SplittableRandom(0);
+
+    @Override
+    public void gameStarted(MinesweeperGridPlay game, long seed) {
+        random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int nextMove(MinesweeperGridPlay game) {
+        return randomHidden(game.getBoard(), random);
+    }
+
+    /**
+     * A random hidden square: rejection sampling while most squares are hidden,
+     * then a uniform pick among the remaining ones
+     */
+    static int randomHidden(PackedBoard board, SplittableRandom random) {
+        int cellCount = board.getCellCount();
+        for (int probe = 0; probe < MAX_RANDOM_PROBES; probe++) {
+            int index = random.nextInt(cellCount);
+            if (!board.isRevealed(index)) {
+                return index;
+            }
+        }
+
+        int hidden = 0;
+        for (int index = 0; index < cellCount; index++) {
+            hidden += board.isRevealed(index) ? 0 : 1;
+        }
+        int pick = random.nextInt(hidden);
+        for (int index = 0; ; index++) {
+            if (!board.isRevealed(index) && pick-- == 0) {
+                return index;
+            }
+        }
+    }
+}
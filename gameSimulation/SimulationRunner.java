@@ -0,0 +1,170 @@
+package gameSimulation;
+
+import dto.BoardGenerationMode;
+import dto.GameState;
+import dto.RevealResult;
+import gamePlay.MinesweeperGridPlay;
+import gamePlay.SeedMixer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Plays complete games headlessly on every core and merges their statistics
+ *
+ * Each thread owns one engine and one strategy and reuses them for all of its
+ * games. Game i is always played on the board of seed SeedMixer.mix(baseSeed + i)
+ * with the strategy seeded the same way, so totals do not depend on the thread
+ * count. Threads claim games in chunks and keep private statistics, which are
+ * merged once at the end, so there is no shared state on the hot path.
+ *
+ * Usage: SimulationRunner [--games n] [--size n] [--mines n] [--mode EAGER|FIRST_CLICK_SAFE|NO_GUESS]
+ *                         [--strategy random|solver|probability] [--threads n] [--seed n]
+ */
+public class SimulationRunner {
+    private static final int GAMES_PER_CLAIM = 64;
+
+    private final int size;
+    private final int totalMines;
+    private final BoardGenerationMode generationMode;
+    private final Supplier<PlayStrategy> strategyFactory;
+    private final int threads;
+
+    public SimulationRunner(int size, int totalMines, BoardGenerationMode generationMode,
+                            Supplier<PlayStrategy> strategyFactory, int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("At least one simulation thread is needed");
+        }
+        this.size = size;
+        this.totalMines = totalMines;
+        this.generationMode = generationMode;
+        this.strategyFactory = strategyFactory;
+        this.threads = threads;
+    }
+
+    /**
+     * Play games 0 to games - 1 and return the merged statistics
+     */
+    public SimulationStats run(long games, long baseSeed) {
+        AtomicLong nextGame = new AtomicLong();
+        List<Callable<SimulationStats>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(() -> play(nextGame, games, baseSeed));
+        }
+
+        long start = System.nanoTime();
+        SimulationStats total = new SimulationStats();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<SimulationStats> result : executor.invokeAll(workers)) {
+                total.merge(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        total.setElapsedNanos(System.nanoTime() - start);
+        return total;
+    }
+
+    /**
+     * One thread's share: claim chunks of game numbers until none are left
+     */
+    private SimulationStats play(AtomicLong nextGame, long games, long baseSeed) {
+        SimulationStats stats = new SimulationStats();
+        PlayStrategy strategy = strategyFactory.get();
+        MinesweeperGridPlay game = null;
+        int maxMoves = size * size;
+
+        for (long first = nextGame.getAndAdd(GAMES_PER_CLAIM); first < games;
+             first = nextGame.getAndAdd(GAMES_PER_CLAIM)) {
+            for (long gameNumber = first; gameNumber < Math.min(games, first + GAMES_PER_CLAIM); gameNumber++) {
+                long seed = SeedMixer.mix(baseSeed + gameNumber);
+                if (game == null) {
+                    game = new MinesweeperGridPlay(size, totalMines, seed, generationMode);
+                } else {
+                    game.resetGame(seed);
+                }
+                strategy.gameStarted(game, seed);
+
+                for (int move = 0; move < maxMoves && game.getGameState() == GameState.PLAYING; move++) {
+                    int index = strategy.nextMove(game);
+                    RevealResult result = game.revealCell(index / size, index % size);
+                    stats.recordMove(result.getRevealedCount(), strategy.lastMoveWasGuess());
+                }
+                stats.recordGame(game.getGameState() == GameState.WON);
+            }
+        }
+        return stats;
+    }
+
+    /**
+     * Strategy factory by command-line name
+     */
+    public static Supplier<PlayStrategy> strategy(String name) {
+        switch (name) {
+            case "random":
+                return RandomStrategy::new;
+            case "solver":
+                return SolverStrategy::new;
+            case "probability":
+                return () -> new SolverStrategy(20);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+
+    public static void main(String[] args) {
+        long games = 100_000;
+        int size = 16;
+        int mines = 40;
+        BoardGenerationMode mode = BoardGenerationMode.FIRST_CLICK_SAFE;
+        String strategy = "solver";
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 1;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--games":
+                    games = Long.parseLong(args[++i]);
+                    break;
+                case "--size":
+                    size = Integer.parseInt(args[++i]);
+                    break;
+                case "--mines":
+                    mines = Integer.parseInt(args[++i]);
+                    break;
+                case "--mode":
+                    mode = BoardGenerationMode.valueOf(args[++i]);
+                    break;
+                case "--strategy":
+                    strategy = args[++i];
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        SimulationRunner runner = new SimulationRunner(size, mines, mode, strategy(strategy), threads);
+        System.out.printf("Simulating %d games of %dx%d with %d mines (%s, %s strategy, %d threads)%n",
+                games, size, size, mines, mode, strategy, threads);
+        System.out.print(runner.run(games, seed).toText());
+    }
+}
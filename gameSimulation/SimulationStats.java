@@ -0,0 +1,103 @@
+package gameSimulation;
+
+import java.util.Locale;
+
+/**
+ * Results of a batch of simulated games
+ *
+ * Every simulation thread fills its own instance without synchronisation; the
+ * runner merges them once all threads are done. Cascade sizes (squares opened by
+ * one move) are kept in power-of-two buckets: bucket b counts sizes in [2^b, 2^(b+1)).
+ */
+public class SimulationStats {
+    public static final int CASCADE_BUCKETS = 32;
+
+    private long games;
+    private long wins;
+    private long moves;
+    private long guesses;
+    private long squaresOpened;
+    private final long[] cascadeHistogram = new long[CASCADE_BUCKETS];
+    private long elapsedNanos;                   // Wall time of the whole run, set by the runner
+
+    void recordMove(int squaresOpened, boolean guess) {
+        moves++;
+        guesses += guess ? 1 : 0;
+        this.squaresOpened += squaresOpened;
+        cascadeHistogram[31 - Integer.numberOfLeadingZeros(Math.max(1, squaresOpened))]++;
+    }
+
+    void recordGame(boolean won) {
+        games++;
+        wins += won ? 1 : 0;
+    }
+
+    void merge(SimulationStats other) {
+        games += other.games;
+        wins += other.wins;
+        moves += other.moves;
+        guesses += other.guesses;
+        squaresOpened += other.squaresOpened;
+        for (int bucket = 0; bucket < CASCADE_BUCKETS; bucket++) {
+            cascadeHistogram[bucket] += other.cascadeHistogram[bucket];
+        }
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    public long getMoves() {
+        return moves;
+    }
+
+    public long getGuesses() {
+        return guesses;
+    }
+
+    public long getSquaresOpened() {
+        return squaresOpened;
+    }
+
+    /**
+     * Moves that opened between 2^bucket and 2^(bucket+1) - 1 squares
+     */
+    public long getCascadeCount(int bucket) {
+        return cascadeHistogram[bucket];
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    public String toText() {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT,
+                "%d games in %.2f s: %.0f games/s, win rate %.2f%%, %.1f moves and %.2f guesses per game%n",
+                games, elapsedNanos / 1e9, getGamesPerSecond(), getWinRate() * 100,
+                (double) moves / Math.max(1, games), (double) guesses / Math.max(1, games)));
+        text.append("Squares opened per move:\n");
+        for (int bucket = 0; bucket < CASCADE_BUCKETS; bucket++) {
+            if (cascadeHistogram[bucket] > 0) {
+                text.append(String.format(Locale.ROOT, "  %8d-%-8d %12d%n",
+                        1L << bucket, (1L << (bucket + 1)) - 1, cascadeHistogram[bucket]));
+            }
+        }
+        return text.toString();
+    }
+}
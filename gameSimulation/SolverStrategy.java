@@ -0,0 +1,104 @@
+package gameSimulation;
+
+import dto.PackedBoard;
+import dto.Position;
+import gamePlay.MinesweeperGridPlay;
+import gameSolver.DeterministicSolver;
+import gameSolver.ProbabilisticSolver;
+import gameSolver.SolverResult;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * Plays every square DeterministicSolver proves safe and guesses only when it stalls
+ *
+ * The opening move is the centre square. Proven safe squares are queued and
+ * played one per move; the solver runs again only once the queue is empty.
+ * Guesses are either a random square not proven to be a mine, or, with a
+ * probability budget, the safest square according to ProbabilisticSolver.
+ */
+public class SolverStrategy implements PlayStrategy {
+    private final DeterministicSolver solver = new DeterministicSolver();
+    private final ProbabilisticSolver guesser;           // Null for random guesses
+    private SplittableRandom random = new SplittableRandom(0);
+    private BitSet safeQueue = new BitSet();
+    private BitSet knownMines = new BitSet();
+    private boolean guessed;
+
+    /**
+     * Random guesses; fast enough for millions of games
+     */
+    public SolverStrategy() {
+        this(0);
+    }
+
+    /**
+     * @param guessBudgetMillis time budget of each probabilistic guess, or 0 for random guesses
+     */
+    public SolverStrategy(long guessBudgetMillis) {
+        this.guesser = guessBudgetMillis > 0 ? new ProbabilisticSolver(guessBudgetMillis) : null;
+    }
+
+    @Override
+    public void gameStarted(MinesweeperGridPlay game, long seed) {
+        random = new SplittableRandom(seed);
+        safeQueue.clear();
+        knownMines.clear();
+    }
+
+    @Override
+    public int nextMove(MinesweeperGridPlay game) {
+        PackedBoard board = game.getBoard();
+        if (game.getRevealedCells() == 0) {
+            guessed = true;
+            return board.indexOf(game.getSize() / 2, game.getSize() / 2);
+        }
+
+        int next = nextQueued(board);
+        if (next < 0) {
+            SolverResult result = solver.solve(board);
+            safeQueue = result.getSafeCells();
+            knownMines = result.getMineCells();
+            next = nextQueued(board);
+        }
+        if (next >= 0) {
+            guessed = false;
+            return next;
+        }
+
+        guessed = true;
+        if (guesser != null) {
+            Position best = guesser.solve(game).getBestGuess();
+            return board.indexOf(best.getRow(), best.getColumn());
+        }
+        return randomGuess(board);
+    }
+
+    @Override
+    public boolean lastMoveWasGuess() {
+        return guessed;
+    }
+
+    /**
+     * Next queued safe square that a cascade has not already opened, or -1
+     */
+    private int nextQueued(PackedBoard board) {
+        for (int index = safeQueue.nextSetBit(0); index >= 0; index = safeQueue.nextSetBit(index + 1)) {
+            safeQueue.clear(index);
+            if (!board.isRevealed(index)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int randomGuess(PackedBoard board) {
+        while (true) {
+            int index = RandomStrategy.randomHidden(board, random);
+            if (!knownMines.get(index)) {
+                return index;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package gameSolver;
+
+/**
+ * Solution counts of one frontier component, split by how many mines it holds
+ *
+ * Exact counts keep, for every local cell, the number of solutions with k mines
+ * in which that cell is a mine. Sampled counts only keep per-cell frequencies.
+ * Counts are scaled so the largest entry is 1; only ratios matter.
+ */
+class ComponentCounts {
+    final double[] solutions;            // Solutions (or sample share) by mine count
+    final double[][] cellMines;          // [cell][k] for exact counts, null when sampled
+    final double[] cellFrequency;        // Sampled mine frequency per cell, null when exact
+
+    ComponentCounts(double[] solutions, double[][] cellMines, double[] cellFrequency) {
+        this.solutions = solutions;
+        this.cellMines = cellMines;
+        this.cellFrequency = cellFrequency;
+    }
+
+    boolean isExact() {
+        return cellMines != null;
+    }
+
+    boolean hasSolutions() {
+        for (double count : solutions) {
+            if (count > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rescale so the largest solution count is 1
+     */
+    ComponentCounts normalised() {
+        double max = 0;
+        for (double count : solutions) {
+            max = Math.max(max, count);
+        }
+        if (max == 0 || max == 1) {
+            return this;
+        }
+        double[] scaled = new double[solutions.length];
+        for (int k = 0; k < solutions.length; k++) {
+            scaled[k] = solutions[k] / max;
+        }
+        double[][] scaledCells = null;
+        if (cellMines != null) {
+            scaledCells = new double[cellMines.length][];
+            for (int cell = 0; cell < cellMines.length; cell++) {
+                scaledCells[cell] = new double[cellMines[cell].length];
+                for (int k = 0; k < cellMines[cell].length; k++) {
+                    scaledCells[cell][k] = cellMines[cell][k] / max;
+                }
+            }
+        }
+        return new ComponentCounts(scaled, scaledCells, cellFrequency);
+    }
+}
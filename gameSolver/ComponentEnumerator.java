@@ -0,0 +1,160 @@
+package gameSolver;
+
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Counts every valid mine assignment of a frontier component by backtracking
+ *
+ * Cells are assigned in board order with forward checking on each constraint
+ * (never too many mines, never too few cells left to reach the count). The
+ * first few levels of the search tree are forked as separate fork-join tasks;
+ * below that the search runs sequentially in place. The search gives up as soon
+ * as the deadline passes, setting the shared expired flag.
+ */
+class ComponentEnumerator extends RecursiveTask<ComponentCounts> {
+    private static final long serialVersionUID = 1L;
+    private static final int SPLIT_DEPTH = 6;            // Tree levels forked as tasks
+    private static final int MIN_SPLIT_REMAINING = 12;   // Don't fork small subtrees
+    private static final int DEADLINE_CHECK_NODES = 4096;
+
+    private final FrontierComponent component;
+    private final long deadlineNanos;
+    private final AtomicBoolean expired;
+    private final byte[] assignment;                     // 0 safe, 1 mine for cells before next
+    private final int[] placed;                          // Mines assigned per constraint
+    private final int[] open;                            // Unassigned cells per constraint
+    private final int next;                              // Next local cell to assign
+    private final int mineCount;                         // Mines assigned so far
+
+    private double[] solutions;
+    private double[][] cellMines;
+    private int nodes;
+
+    ComponentEnumerator(FrontierComponent component, long deadlineNanos, AtomicBoolean expired) {
+        this(component, deadlineNanos, expired, new byte[component.size()],
+                new int[component.constraintCells.length], initialOpen(component), 0, 0);
+    }
+
+    private ComponentEnumerator(FrontierComponent component, long deadlineNanos, AtomicBoolean expired,
+                                byte[] assignment, int[] placed, int[] open, int next, int mineCount) {
+        this.component = component;
+        this.deadlineNanos = deadlineNanos;
+        this.expired = expired;
+        this.assignment = assignment;
+        this.placed = placed;
+        this.open = open;
+        this.next = next;
+        this.mineCount = mineCount;
+    }
+
+    @Override
+    protected ComponentCounts compute() {
+        if (next < SPLIT_DEPTH && component.size() - next > MIN_SPLIT_REMAINING) {
+            ComponentEnumerator mine = child(1);
+            ComponentEnumerator safe = child(0);
+            if (mine == null || safe == null) {
+                return mine != null ? mine.compute() : safe != null ? safe.compute() : empty();
+            }
+            mine.fork();
+            ComponentCounts counts = safe.compute();
+            add(counts, mine.join());
+            return counts;
+        }
+
+        ComponentCounts counts = empty();
+        solutions = counts.solutions;
+        cellMines = counts.cellMines;
+        search(next, mineCount);
+        return counts;
+    }
+
+    private ComponentCounts empty() {
+        int cellCount = component.size();
+        return new ComponentCounts(new double[cellCount + 1], new double[cellCount][cellCount + 1], null);
+    }
+
+    /**
+     * Subtask with the next cell fixed to value, or null if that breaks a constraint
+     */
+    private ComponentEnumerator child(int value) {
+        byte[] childAssignment = assignment.clone();
+        int[] childPlaced = placed.clone();
+        int[] childOpen = open.clone();
+        if (!assign(next, value, childAssignment, childPlaced, childOpen)) {
+            return null;
+        }
+        return new ComponentEnumerator(component, deadlineNanos, expired, childAssignment,
+                childPlaced, childOpen, next + 1, mineCount + value);
+    }
+
+    private void search(int cell, int mines) {
+        if (expired.get() || (++nodes % DEADLINE_CHECK_NODES == 0 && System.nanoTime() > deadlineNanos)) {
+            expired.set(true);
+            return;
+        }
+        if (cell == component.size()) {
+            recordSolution(mines);
+            return;
+        }
+
+        for (int value = 1; value >= 0; value--) {
+            if (assign(cell, value, assignment, placed, open)) {
+                search(cell + 1, mines + value);
+            }
+            unassign(cell, value, placed, open);
+        }
+    }
+
+    /**
+     * Assign a cell and check every constraint touching it; always undo with unassign
+     */
+    private boolean assign(int cell, int value, byte[] assignment, int[] placed, int[] open) {
+        assignment[cell] = (byte) value;
+        boolean feasible = true;
+        for (int constraint : component.cellConstraints[cell]) {
+            placed[constraint] += value;
+            open[constraint]--;
+            int needed = component.constraintMines[constraint];
+            if (placed[constraint] > needed || placed[constraint] + open[constraint] < needed) {
+                feasible = false;
+            }
+        }
+        return feasible;
+    }
+
+    private void unassign(int cell, int value, int[] placed, int[] open) {
+        for (int constraint : component.cellConstraints[cell]) {
+            placed[constraint] -= value;
+            open[constraint]++;
+        }
+    }
+
+    private void recordSolution(int mines) {
+        solutions[mines]++;
+        for (int cell = 0; cell < assignment.length; cell++) {
+            if (assignment[cell] != 0) {
+                cellMines[cell][mines]++;
+            }
+        }
+    }
+
+    private static void add(ComponentCounts target, ComponentCounts source) {
+        for (int k = 0; k < target.solutions.length; k++) {
+            target.solutions[k] += source.solutions[k];
+        }
+        for (int cell = 0; cell < target.cellMines.length; cell++) {
+            for (int k = 0; k < target.solutions.length; k++) {
+                target.cellMines[cell][k] += source.cellMines[cell][k];
+            }
+        }
+    }
+
+    private static int[] initialOpen(FrontierComponent component) {
+        int[] open = new int[component.constraintCells.length];
+        for (int constraint = 0; constraint < open.length; constraint++) {
+            open[constraint] = component.constraintCells[constraint].length;
+        }
+        return open;
+    }
+}
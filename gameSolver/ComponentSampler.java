@@ -0,0 +1,93 @@
+package gameSolver;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Monte-Carlo fallback for frontier components too large to enumerate in time
+ *
+ * Each sample assigns the cells in order, choosing a mine with the density its
+ * first constraint still needs and flipping the choice when forward checking
+ * rejects it. Samples that reach a dead end are discarded. The result is only
+ * an estimate: samples are not exactly uniform over the solutions.
+ */
+final class ComponentSampler {
+    private static final int MIN_SAMPLES = 256;          // Always tried, even past the deadline
+    private static final int MAX_SAMPLES = 200_000;
+    private static final int DEADLINE_CHECK_SAMPLES = 64;
+
+    private ComponentSampler() {
+    }
+
+    static ComponentCounts sample(FrontierComponent component, long deadlineNanos, long seed) {
+        int cellCount = component.size();
+        int constraintCount = component.constraintCells.length;
+        SplittableRandom random = new SplittableRandom(seed);
+        byte[] assignment = new byte[cellCount];
+        int[] placed = new int[constraintCount];
+        int[] open = new int[constraintCount];
+        double[] solutions = new double[cellCount + 1];
+        double[] mineHits = new double[cellCount];
+        int accepted = 0;
+
+        for (int attempt = 0; attempt < MAX_SAMPLES; attempt++) {
+            if (attempt >= MIN_SAMPLES && attempt % DEADLINE_CHECK_SAMPLES == 0
+                    && System.nanoTime() > deadlineNanos) {
+                break;
+            }
+            Arrays.fill(placed, 0);
+            for (int constraint = 0; constraint < constraintCount; constraint++) {
+                open[constraint] = component.constraintCells[constraint].length;
+            }
+
+            int mines = 0;
+            boolean valid = true;
+            for (int cell = 0; cell < cellCount && valid; cell++) {
+                int[] constraints = component.cellConstraints[cell];
+                int first = constraints[0];
+                double density = (double) (component.constraintMines[first] - placed[first]) / open[first];
+                int value = random.nextDouble() < density ? 1 : 0;
+                if (!fits(component, cell, value, placed, open)) {
+                    value ^= 1;
+                    valid = fits(component, cell, value, placed, open);
+                }
+                for (int constraint : constraints) {
+                    placed[constraint] += value;
+                    open[constraint]--;
+                }
+                assignment[cell] = (byte) value;
+                mines += value;
+            }
+            if (!valid) {
+                continue;
+            }
+
+            accepted++;
+            solutions[mines]++;
+            for (int cell = 0; cell < cellCount; cell++) {
+                mineHits[cell] += assignment[cell];
+            }
+        }
+
+        if (accepted > 0) {
+            for (int cell = 0; cell < cellCount; cell++) {
+                mineHits[cell] /= accepted;
+            }
+        }
+        return new ComponentCounts(solutions, null, mineHits).normalised();
+    }
+
+    /**
+     * Whether giving a cell this value keeps every constraint around it satisfiable
+     */
+    private static boolean fits(FrontierComponent component, int cell, int value, int[] placed, int[] open) {
+        for (int constraint : component.cellConstraints[cell]) {
+            int needed = component.constraintMines[constraint];
+            int mines = placed[constraint] + value;
+            if (mines > needed || mines + open[constraint] - 1 < needed) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,334 @@
+package gameSolver;
+
+import dto.PackedBoard;
+import gamePlay.FrontierSet;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Finds every square that the visible numbers prove safe or prove to be a mine
+ *
+ * Only the revealed squares and their counts are read, never the hidden mines.
+ * Each revealed number next to hidden squares is a constraint "these hidden
+ * squares hold exactly N mines". Constraints are reduced with the single-point
+ * rules (N == 0: all safe, N == hidden count: all mines) and with pairwise
+ * subset/superset reduction between overlapping constraints (centres at most two
+ * squares apart). Deductions are kept in two bitsets over the cell indices; every
+ * new deduction shrinks the constraints around it, which are re-queued until
+ * nothing changes. Work is proportional to the frontier, not the board: games
+ * hand over their maintained FrontierSet, and a bare board is scanned once.
+ *
+ * Not thread-safe: workspace arrays are reused between solves of equal-size boards.
+ */
+public class DeterministicSolver {
+    private static final int MAX_CELLS = 8;              // A constraint covers at most 8 neighbours
+    private static final long[][] WINDOW_MASKS = buildWindowMasks();
+
+    private int size;
+    private int[] constraintOf;                          // Constraint ID of each revealed cell, or -1
+    private int[] candidates = new int[16];              // Numbers found around the frontier
+    private int[] centers;                               // Revealed cell behind each constraint
+    private int[] masks;                                 // Hidden cells of each constraint as a 3x3 bitmask
+    private int[] mines;                                 // Mines still to place in each constraint
+    private int constraintCount;
+    private int[] queue;                                 // Constraints waiting to be (re)examined
+    private boolean[] queued;
+    private int queueHead;
+    private int queueTail;
+    private BitSet safeCells;
+    private BitSet mineCells;
+
+    private final int[] found = new int[MAX_CELLS];
+
+    /**
+     * Solve the visible state of a game
+     */
+    public SolverResult solve(MinesweeperGridPlay game) {
+        PackedBoard board = game.getBoard();
+        prepare(board.getSize());
+        buildConstraints(board, game.getFrontier());
+        return reduce();
+    }
+
+    public SolverResult solve(PackedBoard board) {
+        prepare(board.getSize());
+        buildConstraints(board);
+        return reduce();
+    }
+
+    private SolverResult reduce() {
+        while (queueHead != queueTail) {
+            int constraint = queue[queueHead];
+            queueHead = (queueHead + 1) % queue.length;
+            queued[constraint] = false;
+            examine(constraint);
+        }
+
+        return new SolverResult(size, safeCells, mineCells);
+    }
+
+    // ========== Constraint Building ==========
+    private void prepare(int boardSize) {
+        int cellCount = boardSize * boardSize;
+        if (constraintOf == null || size != boardSize) {
+            size = boardSize;
+            constraintOf = new int[cellCount];
+            Arrays.fill(constraintOf, -1);
+            centers = new int[16];
+            masks = new int[16];
+            mines = new int[16];
+        } else {
+            // Only the previous solve's centres were marked
+            for (int constraint = 0; constraint < constraintCount; constraint++) {
+                constraintOf[centers[constraint]] = -1;
+            }
+        }
+        constraintCount = 0;
+        safeCells = new BitSet(cellCount);
+        mineCells = new BitSet(cellCount);
+    }
+
+    private void buildConstraints(PackedBoard board) {
+        int cellCount = size * size;
+        for (int index = 0; index < cellCount; index++) {
+            addConstraint(board, index);
+        }
+        startQueue();
+    }
+
+    /**
+     * Build the constraints from the numbers touching the frontier, in index order
+     * so the reduction runs exactly as it does after a full scan
+     */
+    private void buildConstraints(PackedBoard board, FrontierSet frontier) {
+        int candidateCount = 0;
+        for (int hidden = frontier.nextIndex(0); hidden >= 0; hidden = frontier.nextIndex(hidden + 1)) {
+            int hiddenRow = hidden / size;
+            int hiddenCol = hidden - hiddenRow * size;
+            for (int row = Math.max(0, hiddenRow - 1); row <= Math.min(size - 1, hiddenRow + 1); row++) {
+                for (int col = Math.max(0, hiddenCol - 1); col <= Math.min(size - 1, hiddenCol + 1); col++) {
+                    int neighbor = row * size + col;
+                    if (constraintOf[neighbor] == -1 && board.isRevealed(neighbor)) {
+                        constraintOf[neighbor] = -2;        // Seen; replaced by addConstraint below
+                        if (candidateCount == candidates.length) {
+                            candidates = Arrays.copyOf(candidates, candidateCount * 2);
+                        }
+                        candidates[candidateCount++] = neighbor;
+                    }
+                }
+            }
+        }
+
+        Arrays.sort(candidates, 0, candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            constraintOf[candidates[i]] = -1;
+            addConstraint(board, candidates[i]);
+        }
+        startQueue();
+    }
+
+    private void addConstraint(PackedBoard board, int index) {
+        if (!board.isRevealed(index)) {
+            return;
+        }
+        int count = board.getAdjacentMineCount(index);
+        if (count == 0) {
+            return;                 // Every neighbour of a zero is safe
+        }
+
+        int mask = 0;
+        int centerRow = index / size;
+        int centerCol = index - centerRow * size;
+        for (int row = Math.max(0, centerRow - 1); row <= Math.min(size - 1, centerRow + 1); row++) {
+            for (int col = Math.max(0, centerCol - 1); col <= Math.min(size - 1, centerCol + 1); col++) {
+                if (!board.isRevealed(row * size + col)) {
+                    mask |= 1 << ((row - centerRow + 1) * 3 + (col - centerCol + 1));
+                }
+            }
+        }
+        if (mask == 0) {
+            return;
+        }
+
+        int constraint = constraintCount++;
+        ensureConstraintCapacity(constraintCount);
+        centers[constraint] = index;
+        masks[constraint] = mask;
+        mines[constraint] = count;
+        constraintOf[index] = constraint;
+    }
+
+    private void startQueue() {
+        queue = new int[constraintCount + 1];
+        queued = new boolean[constraintCount];
+        queueHead = 0;
+        queueTail = 0;
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            enqueue(constraint);
+        }
+    }
+
+    private void ensureConstraintCapacity(int capacity) {
+        if (capacity > centers.length) {
+            int grown = Math.max(capacity, centers.length * 2);
+            centers = Arrays.copyOf(centers, grown);
+            masks = Arrays.copyOf(masks, grown);
+            mines = Arrays.copyOf(mines, grown);
+        }
+    }
+
+    // ========== Reduction ==========
+    private void examine(int a) {
+        int hidden = Integer.bitCount(masks[a]);
+        if (hidden == 0) {
+            return;
+        }
+
+        // Single-point rules
+        if (mines[a] == 0 || mines[a] == hidden) {
+            markAll(centers[a], masks[a], mines[a] != 0);
+            return;
+        }
+
+        // Pairwise reduction with every overlapping constraint, in a 7x7 window around a
+        int centerRow = centers[a] / size;
+        int centerCol = centers[a] % size;
+        long windowA = WINDOW_MASKS[12][masks[a]];
+        for (int row = Math.max(0, centerRow - 2); row <= Math.min(size - 1, centerRow + 2); row++) {
+            for (int col = Math.max(0, centerCol - 2); col <= Math.min(size - 1, centerCol + 2); col++) {
+                int b = constraintOf[row * size + col];
+                if (b < 0 || b == a || masks[b] == 0) {
+                    continue;
+                }
+
+                long windowB = WINDOW_MASKS[(row - centerRow + 2) * 5 + (col - centerCol + 2)][masks[b]];
+                if ((windowA & windowB) == 0) {
+                    continue;
+                }
+
+                // If the mines b has beyond a exactly fill b's cells outside a, those are
+                // mines and a's cells outside b are safe (this also covers plain subsets)
+                long onlyA = windowA & ~windowB;
+                long onlyB = windowB & ~windowA;
+                if (mines[b] - mines[a] == Long.bitCount(onlyB) && (onlyA | onlyB) != 0) {
+                    markWindow(centers[a], onlyB, true);
+                    markWindow(centers[a], onlyA, false);
+                    return;
+                }
+                if (mines[a] - mines[b] == Long.bitCount(onlyA) && (onlyA | onlyB) != 0) {
+                    markWindow(centers[a], onlyA, true);
+                    markWindow(centers[a], onlyB, false);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Mark every cell of a 3x3 mask around a centre
+     */
+    private void markAll(int center, int mask, boolean mine) {
+        int count = 0;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            found[count++] = center + (bit / 3 - 1) * size + (bit % 3 - 1);
+        }
+        for (int i = 0; i < count; i++) {
+            markKnown(found[i], mine);
+        }
+    }
+
+    /**
+     * Mark every cell of a 7x7 window mask around a centre
+     */
+    private void markWindow(int center, long window, boolean mine) {
+        for (long bits = window; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            markKnown(center + (bit / 7 - 3) * size + (bit % 7 - 3), mine);
+        }
+    }
+
+    /**
+     * Record a deduction and remove the cell from every constraint around it
+     */
+    private void markKnown(int cell, boolean mine) {
+        if (safeCells.get(cell) || mineCells.get(cell)) {
+            return;
+        }
+        (mine ? mineCells : safeCells).set(cell);
+
+        int cellRow = cell / size;
+        int cellCol = cell - cellRow * size;
+        for (int row = Math.max(0, cellRow - 1); row <= Math.min(size - 1, cellRow + 1); row++) {
+            for (int col = Math.max(0, cellCol - 1); col <= Math.min(size - 1, cellCol + 1); col++) {
+                int constraint = constraintOf[row * size + col];
+                if (constraint < 0) {
+                    continue;
+                }
+                masks[constraint] &= ~(1 << ((cellRow - row + 1) * 3 + (cellCol - col + 1)));
+                if (mine) {
+                    mines[constraint]--;
+                }
+                enqueue(constraint);
+            }
+        }
+    }
+
+    private void enqueue(int constraint) {
+        if (!queued[constraint] && masks[constraint] != 0) {
+            queued[constraint] = true;
+            queue[queueTail] = constraint;
+            queueTail = (queueTail + 1) % queue.length;
+        }
+    }
+
+    /**
+     * Map the 9-bit mask of a 3x3 box centred at each offset within two squares of
+     * the origin into a 7x7 window mask around the origin (bit (row + 3) * 7 + col + 3)
+     */
+    private static long[][] buildWindowMasks() {
+        long[][] table = new long[25][512];
+        for (int offset = 0; offset < 25; offset++) {
+            int offsetRow = offset / 5 - 2;
+            int offsetCol = offset % 5 - 2;
+            for (int mask = 0; mask < 512; mask++) {
+                long window = 0;
+                for (int bit = 0; bit < 9; bit++) {
+                    if ((mask & (1 << bit)) != 0) {
+                        int row = offsetRow + bit / 3 - 1;
+                        int col = offsetCol + bit % 3 - 1;
+                        window |= 1L << ((row + 3) * 7 + (col + 3));
+                    }
+                }
+                table[offset][mask] = window;
+            }
+        }
+        return table;
+    }
+
+    // ========== Reduced Constraints (for the probabilistic solver) ==========
+    int getConstraintCount() {
+        return constraintCount;
+    }
+
+    /**
+     * Copy the hidden, still undecided cells of a constraint into out
+     *
+     * @return number of cells copied
+     */
+    int getConstraintCells(int constraint, int[] out) {
+        int count = 0;
+        int center = centers[constraint];
+        for (int bits = masks[constraint]; bits != 0; bits &= bits - 1) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            out[count++] = center + (bit / 3 - 1) * size + (bit % 3 - 1);
+        }
+        return count;
+    }
+
+    int getConstraintMines(int constraint) {
+        return mines[constraint];
+    }
+}
@@ -0,0 +1,56 @@
+package gameSolver;
+
+/**
+ * An independent group of frontier squares: no constraint links it to another group
+ *
+ * Cells are numbered locally in board order; every constraint lists local cells.
+ */
+class FrontierComponent {
+    final int[] cells;                   // Board index of each local cell, ascending
+    final int[][] constraintCells;       // Local cells of each constraint
+    final int[] constraintMines;         // Mines each constraint still needs
+    final int[][] cellConstraints;       // Constraints touching each local cell
+
+    FrontierComponent(int[] cells, int[][] constraintCells, int[] constraintMines) {
+        this.cells = cells;
+        this.constraintCells = constraintCells;
+        this.constraintMines = constraintMines;
+
+        int[] degree = new int[cells.length];
+        for (int[] constraint : constraintCells) {
+            for (int cell : constraint) {
+                degree[cell]++;
+            }
+        }
+        this.cellConstraints = new int[cells.length][];
+        for (int cell = 0; cell < cells.length; cell++) {
+            cellConstraints[cell] = new int[degree[cell]];
+            degree[cell] = 0;
+        }
+        for (int constraint = 0; constraint < constraintCells.length; constraint++) {
+            for (int cell : constraintCells[constraint]) {
+                cellConstraints[cell][degree[cell]++] = constraint;
+            }
+        }
+    }
+
+    int size() {
+        return cells.length;
+    }
+
+    /**
+     * Shape key: components with equal keys have the same solutions wherever they sit on the board
+     */
+    String shapeKey() {
+        StringBuilder key = new StringBuilder(8 + constraintCells.length * 12);
+        key.append(cells.length).append('|');
+        for (int constraint = 0; constraint < constraintCells.length; constraint++) {
+            key.append(constraintMines[constraint]).append(':');
+            for (int cell : constraintCells[constraint]) {
+                key.append(cell).append(',');
+            }
+            key.append(';');
+        }
+        return key.toString();
+    }
+}
@@ -0,0 +1,474 @@
+package gameSolver;
+
+import dto.PackedBoard;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Mine probability of every hidden square, for positions where no square is provably safe
+ *
+ * The deterministic solver runs first; its deductions are fixed at 0 or 1 and
+ * its reduced constraints are split into independent frontier components. Each
+ * component's solutions are counted by mine total on the fork-join common pool;
+ * counts of components with the same shape are memoised across solves. The
+ * components are then combined with the unconstrained interior: a split of k
+ * frontier mines leaves C(interior, remaining - k) ways to place the rest, so
+ * totals are weighted by that binomial (kept in log space).
+ *
+ * Latency is bounded by the time budget: enumeration stops at three quarters of
+ * it and any unfinished component is estimated by sampling for the remainder.
+ * The map then reports isExact() == false.
+ */
+public class ProbabilisticSolver {
+    public static final long DEFAULT_BUDGET_MILLIS = 250;
+    private static final int MAX_EXACT_CELLS = 200;           // Larger components are sampled straight away
+    private static final long MAX_EXACT_WEIGHT_TERMS = 1L << 22;   // Beyond this, weight with the mean field
+    private static final int MEMO_LIMIT = 4096;
+    private static final Map<String, ComponentCounts> MEMO = new ConcurrentHashMap<>();
+    private static final double[] SMALL_LOG_FACTORIALS = buildLogFactorials(256);
+
+    private final long budgetNanos;
+
+    public ProbabilisticSolver() {
+        this(DEFAULT_BUDGET_MILLIS);
+    }
+
+    public ProbabilisticSolver(long budgetMillis) {
+        if (budgetMillis <= 0) {
+            throw new IllegalArgumentException("Time budget must be positive");
+        }
+        this.budgetNanos = budgetMillis * 1_000_000L;
+    }
+
+    /**
+     * Solve the visible state of a game
+     */
+    public ProbabilityMap solve(MinesweeperGridPlay game) {
+        long start = System.nanoTime();
+        PackedBoard board = game.getBoard();
+        DeterministicSolver deterministic = new DeterministicSolver();
+        SolverResult deduced = deterministic.solve(board);
+
+        List<FrontierComponent> components = split(deterministic, board.getCellCount());
+        ComponentCounts[] counts = new ComponentCounts[components.size()];
+        boolean exact = count(components, counts, start);
+
+        float[] probabilities = new float[board.getCellCount()];
+        int hiddenUndecided = 0;
+        for (int index = 0; index < probabilities.length; index++) {
+            if (board.isRevealed(index)) {
+                probabilities[index] = Float.NaN;
+            } else if (deduced.getSafeCells().get(index)) {
+                probabilities[index] = 0f;
+            } else if (deduced.getMineCells().get(index)) {
+                probabilities[index] = 1f;
+            } else {
+                probabilities[index] = -1f;        // Interior until a component claims it
+                hiddenUndecided++;
+            }
+        }
+
+        int remainingMines = game.getTotalMines() - deduced.getMineCount();
+        exact &= combine(components, counts, probabilities, hiddenUndecided, remainingMines);
+
+        return new ProbabilityMap(board.getSize(), probabilities, bestGuess(probabilities), exact,
+                components.size(), System.nanoTime() - start);
+    }
+
+    // ========== Component Splitting ==========
+    /**
+     * Group the reduced constraints into components that share no frontier square
+     */
+    private List<FrontierComponent> split(DeterministicSolver deterministic, int cellCount) {
+        int constraintCount = deterministic.getConstraintCount();
+        int[] cells = new int[8];
+        BitSet frontier = new BitSet(cellCount);
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            int count = deterministic.getConstraintCells(constraint, cells);
+            for (int i = 0; i < count; i++) {
+                frontier.set(cells[i]);
+            }
+        }
+
+        // Frontier squares are numbered in board order, then joined through their constraints
+        int[] frontierCells = frontier.stream().toArray();
+        int[] frontierId = new int[cellCount];
+        int[] parent = new int[frontierCells.length];
+        for (int id = 0; id < frontierCells.length; id++) {
+            frontierId[frontierCells[id]] = id;
+            parent[id] = id;
+        }
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            int count = deterministic.getConstraintCells(constraint, cells);
+            for (int i = 1; i < count; i++) {
+                union(parent, frontierId[cells[0]], frontierId[cells[i]]);
+            }
+        }
+
+        int[] componentOfRoot = new int[frontierCells.length];
+        Arrays.fill(componentOfRoot, -1);
+        int[] localId = new int[frontierCells.length];
+        List<int[]> componentCells = new ArrayList<>();
+        int[] sizes = new int[frontierCells.length];
+        int componentCount = 0;
+        for (int id = 0; id < frontierCells.length; id++) {
+            int root = find(parent, id);
+            if (componentOfRoot[root] < 0) {
+                componentOfRoot[root] = componentCount++;
+            }
+            localId[id] = sizes[componentOfRoot[root]]++;
+        }
+        for (int component = 0; component < componentCount; component++) {
+            componentCells.add(new int[sizes[component]]);
+        }
+        for (int id = 0; id < frontierCells.length; id++) {
+            int component = componentOfRoot[find(parent, id)];
+            componentCells.get(component)[localId[id]] = frontierCells[id];
+        }
+
+        List<List<int[]>> constraintCells = new ArrayList<>();
+        List<List<Integer>> constraintMines = new ArrayList<>();
+        for (int component = 0; component < componentCount; component++) {
+            constraintCells.add(new ArrayList<>());
+            constraintMines.add(new ArrayList<>());
+        }
+        for (int constraint = 0; constraint < constraintCount; constraint++) {
+            int count = deterministic.getConstraintCells(constraint, cells);
+            if (count == 0) {
+                continue;
+            }
+            int component = componentOfRoot[find(parent, frontierId[cells[0]])];
+            int[] local = new int[count];
+            for (int i = 0; i < count; i++) {
+                local[i] = localId[frontierId[cells[i]]];
+            }
+            constraintCells.get(component).add(local);
+            constraintMines.get(component).add(deterministic.getConstraintMines(constraint));
+        }
+
+        List<FrontierComponent> components = new ArrayList<>(componentCount);
+        for (int component = 0; component < componentCount; component++) {
+            int[] mines = constraintMines.get(component).stream().mapToInt(Integer::intValue).toArray();
+            components.add(new FrontierComponent(componentCells.get(component),
+                    constraintCells.get(component).toArray(new int[0][]), mines));
+        }
+        return components;
+    }
+
+    private static int find(int[] parent, int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    // ========== Counting ==========
+    /**
+     * Fill counts for every component: memoised, enumerated, or sampled after the deadline
+     *
+     * @return whether every component was counted exactly
+     */
+    private boolean count(List<FrontierComponent> components, ComponentCounts[] counts, long start) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        long enumerationDeadline = start + budgetNanos * 3 / 4;
+        String[] keys = new String[counts.length];
+        AtomicBoolean[] expired = new AtomicBoolean[counts.length];
+        List<ForkJoinTask<ComponentCounts>> tasks = new ArrayList<>(counts.length);
+
+        for (int i = 0; i < counts.length; i++) {
+            FrontierComponent component = components.get(i);
+            tasks.add(null);
+            if (component.size() > MAX_EXACT_CELLS) {
+                continue;
+            }
+            keys[i] = component.shapeKey();
+            counts[i] = MEMO.get(keys[i]);
+            if (counts[i] == null) {
+                expired[i] = new AtomicBoolean();
+                tasks.set(i, pool.submit(new ComponentEnumerator(component, enumerationDeadline, expired[i])));
+            }
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (tasks.get(i) == null) {
+                continue;
+            }
+            ComponentCounts enumerated = tasks.get(i).join();
+            if (!expired[i].get()) {
+                counts[i] = enumerated.normalised();
+                if (MEMO.size() >= MEMO_LIMIT) {
+                    MEMO.clear();
+                }
+                MEMO.put(keys[i], counts[i]);
+            }
+        }
+
+        // Monte-Carlo fallback for whatever did not finish
+        long samplingDeadline = start + budgetNanos;
+        boolean exact = true;
+        List<ForkJoinTask<ComponentCounts>> samplers = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            samplers.add(null);
+            if (counts[i] == null) {
+                FrontierComponent component = components.get(i);
+                samplers.set(i, pool.submit(
+                        () -> ComponentSampler.sample(component, samplingDeadline, component.cells[0])));
+                exact = false;
+            }
+        }
+        for (int i = 0; i < counts.length; i++) {
+            if (samplers.get(i) != null) {
+                counts[i] = samplers.get(i).join();
+            }
+        }
+        return exact;
+    }
+
+    // ========== Combination ==========
+    /**
+     * Weight every component by the ways to place the remaining mines elsewhere and
+     * write frontier and interior probabilities
+     *
+     * @return whether the weighting was exact
+     */
+    private boolean combine(List<FrontierComponent> components, ComponentCounts[] counts,
+                            float[] probabilities, int hiddenUndecided, int remainingMines) {
+        // Components whose sampling found no solution are treated as interior
+        List<Integer> live = new ArrayList<>();
+        int frontierCells = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i].hasSolutions()) {
+                live.add(i);
+                frontierCells += components.get(i).size();
+            }
+        }
+        boolean exact = live.size() == counts.length;
+        int interior = hiddenUndecided - frontierCells;
+        double[] weights = interiorWeights(interior, remainingMines, frontierCells);
+
+        double[][] others;
+        if ((long) live.size() * (frontierCells + 1) <= MAX_EXACT_WEIGHT_TERMS) {
+            others = othersExact(live, counts, weights, frontierCells);
+        } else {
+            others = othersMeanField(live, counts, weights);
+            exact = false;
+        }
+
+        double expectedFrontierMines = 0;
+        for (int j = 0; j < live.size(); j++) {
+            ComponentCounts componentCounts = counts[live.get(j)];
+            FrontierComponent component = components.get(live.get(j));
+            double[] solutions = componentCounts.solutions;
+            double total = 0;
+            double mineSum = 0;
+            double rawTotal = 0;
+            double rawMineSum = 0;
+            for (int k = 0; k < solutions.length; k++) {
+                total += solutions[k] * others[j][k];
+                mineSum += k * solutions[k] * others[j][k];
+                rawTotal += solutions[k];
+                rawMineSum += k * solutions[k];
+            }
+            if (total == 0) {
+                // The mine total rules every split out; fall back to the unweighted counts
+                total = rawTotal;
+                mineSum = rawMineSum;
+                Arrays.fill(others[j], 1.0);
+            }
+            expectedFrontierMines += mineSum / total;
+
+            for (int cell = 0; cell < component.size(); cell++) {
+                double probability;
+                if (componentCounts.isExact()) {
+                    double cellSum = 0;
+                    for (int k = 0; k < solutions.length; k++) {
+                        cellSum += componentCounts.cellMines[cell][k] * others[j][k];
+                    }
+                    probability = cellSum / total;
+                } else {
+                    // Rescale the sampled frequency by how the weighting moves the expected total
+                    double rawMean = rawMineSum / rawTotal;
+                    probability = rawMean == 0 ? 0 : componentCounts.cellFrequency[cell] * (mineSum / total) / rawMean;
+                }
+                probabilities[component.cells[cell]] = (float) Math.min(1.0, Math.max(0.0, probability));
+            }
+        }
+
+        float interiorProbability = interior > 0
+                ? (float) Math.min(1.0, Math.max(0.0, (remainingMines - expectedFrontierMines) / interior))
+                : 0f;
+        for (int index = 0; index < probabilities.length; index++) {
+            if (probabilities[index] < 0) {
+                probabilities[index] = interiorProbability;
+            }
+        }
+        return exact;
+    }
+
+    /**
+     * Relative C(interior, remaining - s) for every frontier mine total s, largest = 1
+     */
+    private static double[] interiorWeights(int interior, int remainingMines, int frontierCells) {
+        double[] logWeights = new double[frontierCells + 1];
+        double max = Double.NEGATIVE_INFINITY;
+        for (int s = 0; s <= frontierCells; s++) {
+            logWeights[s] = logChoose(interior, remainingMines - s);
+            max = Math.max(max, logWeights[s]);
+        }
+        double[] weights = new double[frontierCells + 1];
+        for (int s = 0; s <= frontierCells; s++) {
+            // An impossible mine total (every weight zero) leaves the counts unweighted
+            weights[s] = max == Double.NEGATIVE_INFINITY ? 1.0 : Math.exp(logWeights[s] - max);
+        }
+        return weights;
+    }
+
+    /**
+     * others[j][k] = sum over the other components' mine totals t of their solution
+     * product times weights[k + t], via prefix products and a suffix correlation
+     */
+    private static double[][] othersExact(List<Integer> live, ComponentCounts[] counts,
+                                          double[] weights, int frontierCells) {
+        int m = live.size();
+        double[][] prefixes = new double[m + 1][];
+        prefixes[0] = new double[]{1.0};
+        for (int j = 0; j < m; j++) {
+            prefixes[j + 1] = normalise(convolve(prefixes[j], counts[live.get(j)].solutions));
+        }
+
+        double[][] others = new double[m][];
+        double[] suffix = weights.clone();         // suffix[u]: weight of u mines before the later components
+        for (int j = m - 1; j >= 0; j--) {
+            double[] solutions = counts[live.get(j)].solutions;
+            double[] prefix = prefixes[j];
+            others[j] = new double[solutions.length];
+            for (int k = 0; k < solutions.length; k++) {
+                double sum = 0;
+                for (int a = 0; a < prefix.length && k + a < suffix.length; a++) {
+                    sum += prefix[a] * suffix[k + a];
+                }
+                others[j][k] = sum;
+            }
+
+            double[] next = new double[frontierCells + 1];
+            for (int u = 0; u < next.length; u++) {
+                double sum = 0;
+                for (int x = 0; x < solutions.length && u + x < suffix.length; x++) {
+                    sum += solutions[x] * suffix[u + x];
+                }
+                next[u] = sum;
+            }
+            suffix = normalise(next);
+        }
+        return others;
+    }
+
+    /**
+     * Approximate others[j][k] by holding every other component at its mean mine total
+     */
+    private static double[][] othersMeanField(List<Integer> live, ComponentCounts[] counts, double[] weights) {
+        double[] means = new double[live.size()];
+        double totalMean = 0;
+        for (int j = 0; j < live.size(); j++) {
+            double[] solutions = counts[live.get(j)].solutions;
+            double total = 0;
+            double mineSum = 0;
+            for (int k = 0; k < solutions.length; k++) {
+                total += solutions[k];
+                mineSum += k * solutions[k];
+            }
+            means[j] = mineSum / total;
+            totalMean += means[j];
+        }
+
+        double[][] others = new double[live.size()][];
+        for (int j = 0; j < live.size(); j++) {
+            int rest = (int) Math.round(totalMean - means[j]);
+            others[j] = new double[counts[live.get(j)].solutions.length];
+            for (int k = 0; k < others[j].length; k++) {
+                others[j][k] = rest + k < weights.length ? weights[rest + k] : 0;
+            }
+        }
+        return others;
+    }
+
+    private static double[] convolve(double[] a, double[] b) {
+        double[] result = new double[a.length + b.length - 1];
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == 0) {
+                continue;
+            }
+            for (int j = 0; j < b.length; j++) {
+                result[i + j] += a[i] * b[j];
+            }
+        }
+        return result;
+    }
+
+    private static double[] normalise(double[] values) {
+        double max = 0;
+        for (double value : values) {
+            max = Math.max(max, value);
+        }
+        if (max > 0) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] /= max;
+            }
+        }
+        return values;
+    }
+
+    private static int bestGuess(float[] probabilities) {
+        int best = -1;
+        for (int index = 0; index < probabilities.length; index++) {
+            if (!Float.isNaN(probabilities[index]) && (best < 0 || probabilities[index] < probabilities[best])) {
+                best = index;
+            }
+        }
+        return best;
+    }
+
+    // ========== Combinatorics ==========
+    private static double logChoose(int n, int k) {
+        if (k < 0 || k > n) {
+            return Double.NEGATIVE_INFINITY;
+        }
+        return logFactorial(n) - logFactorial(k) - logFactorial(n - k);
+    }
+
+    /**
+     * ln(n!), from a table for small n and Stirling's series above it
+     */
+    private static double logFactorial(int n) {
+        if (n < SMALL_LOG_FACTORIALS.length) {
+            return SMALL_LOG_FACTORIALS[n];
+        }
+        double x = n;
+        return x * Math.log(x) - x + 0.5 * Math.log(2 * Math.PI * x) + 1 / (12 * x) - 1 / (360 * x * x * x);
+    }
+
+    private static double[] buildLogFactorials(int count) {
+        double[] table = new double[count];
+        for (int n = 1; n < count; n++) {
+            table[n] = table[n - 1] + Math.log(n);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,69 @@
+package gameSolver;
+
+import dto.Position;
+
+/**
+ * Mine probability of every hidden square, plus the safest square to guess
+ */
+public class ProbabilityMap {
+    private final int boardSize;
+    private final float[] probabilities;     // NaN for revealed squares
+    private final int bestGuess;             // Cell index, or -1 if nothing is hidden
+    private final boolean exact;             // False if any component was sampled
+    private final int componentCount;
+    private final long elapsedNanos;
+
+    ProbabilityMap(int boardSize, float[] probabilities, int bestGuess, boolean exact,
+                   int componentCount, long elapsedNanos) {
+        this.boardSize = boardSize;
+        this.probabilities = probabilities;
+        this.bestGuess = bestGuess;
+        this.exact = exact;
+        this.componentCount = componentCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Probability that a hidden square holds a mine; NaN for revealed squares
+     */
+    public double getProbability(int row, int col) {
+        return probabilities[row * boardSize + col];
+    }
+
+    public double getProbability(int cellIndex) {
+        return probabilities[cellIndex];
+    }
+
+    /**
+     * Hidden square with the lowest mine probability, or null if nothing is hidden
+     */
+    public Position getBestGuess() {
+        return bestGuess < 0 ? null : new Position(bestGuess / boardSize, bestGuess % boardSize);
+    }
+
+    public double getBestGuessProbability() {
+        return bestGuess < 0 ? Double.NaN : probabilities[bestGuess];
+    }
+
+    /**
+     * Whether every frontier component was counted exactly (no Monte-Carlo fallback)
+     */
+    public boolean isExact() {
+        return exact;
+    }
+
+    /**
+     * Number of independent frontier components
+     */
+    public int getComponentCount() {
+        return componentCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
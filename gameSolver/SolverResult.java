@@ -0,0 +1,87 @@
+package gameSolver;
+
+import dto.Position;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Squares the solver proved safe or proved to be mines, as bitsets of cell indices
+ */
+public class SolverResult {
+    private final int boardSize;
+    private final BitSet safeCells;
+    private final BitSet mineCells;
+
+    public SolverResult(int boardSize, BitSet safeCells, BitSet mineCells) {
+        this.boardSize = boardSize;
+        this.safeCells = safeCells;
+        this.mineCells = mineCells;
+    }
+
+    public int getBoardSize() {
+        return boardSize;
+    }
+
+    /**
+     * Hidden squares proven safe; must not be modified
+     */
+    public BitSet getSafeCells() {
+        return safeCells;
+    }
+
+    /**
+     * Hidden squares proven to hold a mine; must not be modified
+     */
+    public BitSet getMineCells() {
+        return mineCells;
+    }
+
+    public int getSafeCount() {
+        return safeCells.cardinality();
+    }
+
+    public int getMineCount() {
+        return mineCells.cardinality();
+    }
+
+    public boolean isSafe(int row, int col) {
+        return safeCells.get(row * boardSize + col);
+    }
+
+    public boolean isMine(int row, int col) {
+        return mineCells.get(row * boardSize + col);
+    }
+
+    /**
+     * Whether anything at all could be deduced
+     */
+    public boolean hasDeductions() {
+        return !safeCells.isEmpty() || !mineCells.isEmpty();
+    }
+
+    /**
+     * First proven safe square in row-major order, or null
+     */
+    public Position getHint() {
+        int index = safeCells.nextSetBit(0);
+        return index < 0 ? null : new Position(index / boardSize, index % boardSize);
+    }
+
+    public List<Position> getSafePositions() {
+        return toPositions(safeCells);
+    }
+
+    public List<Position> getMinePositions() {
+        return toPositions(mineCells);
+    }
+
+    private List<Position> toPositions(BitSet cells) {
+        List<Position> positions = new ArrayList<>(cells.cardinality());
+        for (int index = cells.nextSetBit(0); index >= 0; index = cells.nextSetBit(index + 1)) {
+            positions.add(new Position(index / boardSize, index % boardSize));
+        }
+        return positions;
+    }
+}
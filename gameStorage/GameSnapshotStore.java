@@ -0,0 +1,234 @@
+package gameStorage;
+
+import dto.BoardGenerationMode;
+import dto.GameState;
+import gamePlay.MinesweeperGridPlay;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Versioned binary snapshots of games, read and written through memory-mapped files
+ *
+ * Game record (little-endian):
+ *   int magic "MSWP", short version, short flags (bit 0: board generated,
+ *   bit 1: NO_GUESS board proven solvable),
+ *   int size, int totalMines, long seed, byte state, byte mode, short reserved,
+ *   int revealedCells, then size * size packed cell bytes exactly as in PackedBoard.
+ *
+ * Checkpoint file:
+ *   int magic "MSCK", short version, short reserved, int entryCount, int reserved,
+ *   then per entry: short sessionIdLength, UTF-8 session ID, game record.
+ *
+ * The cell bytes are copied straight between the board array and the mapping,
+ * so saving or restoring a large board is essentially one memcpy.
+ */
+public class GameSnapshotStore {
+    public static final int VERSION = 1;
+    public static final int GAME_HEADER_BYTES = 32;
+    public static final int CHECKPOINT_HEADER_BYTES = 16;
+
+    private static final int GAME_MAGIC = 0x5057534D;          // "MSWP" in file byte order
+    private static final int CHECKPOINT_MAGIC = 0x4B43534D;    // "MSCK" in file byte order
+    private static final int FLAG_BOARD_GENERATED = 0x1;
+    private static final int FLAG_NO_GUESS_GUARANTEED = 0x2;
+    private static final long WINDOW_BYTES = 64L << 20;        // Checkpoint mapping window
+
+    // ========== Single Game ==========
+    /**
+     * Write one game to its own snapshot file, replacing any existing file
+     */
+    public static void save(MinesweeperGridPlay game, Path file) throws IOException {
+        long length = gameBytes(game);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedWindow window = new MappedWindow(channel, FileChannel.MapMode.READ_WRITE, length, length);
+            writeGame(window.at(0, length), game);
+            window.force();
+        }
+    }
+
+    /**
+     * Read a game written by save()
+     */
+    public static MinesweeperGridPlay load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            MappedWindow window = new MappedWindow(channel, FileChannel.MapMode.READ_ONLY, length, length);
+            return readGame(window, 0);
+        }
+    }
+
+    /**
+     * Size of one game record in bytes
+     */
+    public static long gameBytes(MinesweeperGridPlay game) {
+        return GAME_HEADER_BYTES + (long) game.getSize() * game.getSize();
+    }
+
+    // ========== Checkpoints ==========
+    /**
+     * Size of one checkpoint entry in bytes; depends only on the session ID and board size
+     */
+    public static long entryBytes(String sessionId, MinesweeperGridPlay game) {
+        return Short.BYTES + sessionId.getBytes(StandardCharsets.UTF_8).length + gameBytes(game);
+    }
+
+    /**
+     * Create a checkpoint file with room for capacity bytes (header included)
+     * Entries that are never appended leave unused space at the end of the file.
+     */
+    public static CheckpointWriter openCheckpoint(Path file, long capacity) throws IOException {
+        return new CheckpointWriter(file, Math.max(capacity, CHECKPOINT_HEADER_BYTES));
+    }
+
+    /**
+     * Read every game of a checkpoint, keyed by session ID in file order
+     */
+    public static Map<String, MinesweeperGridPlay> readCheckpoint(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedWindow window = new MappedWindow(channel, FileChannel.MapMode.READ_ONLY,
+                    channel.size(), WINDOW_BYTES);
+
+            ByteBuffer header = window.at(0, CHECKPOINT_HEADER_BYTES);
+            checkHeader(header.getInt(), CHECKPOINT_MAGIC, header.getShort(), "checkpoint");
+            header.getShort();
+            int entryCount = header.getInt();
+
+            Map<String, MinesweeperGridPlay> games = new LinkedHashMap<>();
+            long offset = CHECKPOINT_HEADER_BYTES;
+            for (int entry = 0; entry < entryCount; entry++) {
+                int idLength = Short.toUnsignedInt(window.at(offset, Short.BYTES).getShort());
+                byte[] id = new byte[idLength];
+                window.at(offset + Short.BYTES, idLength).get(id);
+                offset += Short.BYTES + idLength;
+
+                MinesweeperGridPlay game = readGame(window, offset);
+                games.put(new String(id, StandardCharsets.UTF_8), game);
+                offset += gameBytes(game);
+            }
+            return games;
+        }
+    }
+
+    /**
+     * Appends games to a checkpoint file; the entry count is written on close
+     */
+    public static class CheckpointWriter implements Closeable {
+        private final FileChannel channel;
+        private final MappedWindow window;
+        private final long capacity;
+        private long offset;
+        private int entryCount;
+
+        private CheckpointWriter(Path file, long capacity) throws IOException {
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.window = new MappedWindow(channel, FileChannel.MapMode.READ_WRITE, capacity, WINDOW_BYTES);
+            this.capacity = capacity;
+            this.offset = CHECKPOINT_HEADER_BYTES;
+            this.entryCount = 0;
+        }
+
+        /**
+         * Append one game; the caller must keep the game unchanged for the duration
+         */
+        public void append(String sessionId, MinesweeperGridPlay game) throws IOException {
+            byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+            if (id.length > 0xFFFF) {
+                throw new IOException("Session ID too long: " + id.length + " bytes");
+            }
+            long length = Short.BYTES + id.length + gameBytes(game);
+            if (offset + length > capacity) {
+                throw new IOException("Checkpoint capacity of " + capacity + " bytes exceeded");
+            }
+
+            ByteBuffer buffer = window.at(offset, length);
+            buffer.putShort((short) id.length).put(id);
+            writeGame(buffer, game);
+            offset += length;
+            entryCount++;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                window.at(0, CHECKPOINT_HEADER_BYTES)
+                        .putInt(CHECKPOINT_MAGIC)
+                        .putShort((short) VERSION)
+                        .putShort((short) 0)
+                        .putInt(entryCount)
+                        .putInt(0);
+                window.force();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    // ========== Record Encoding ==========
+    private static void writeGame(ByteBuffer buffer, MinesweeperGridPlay game) {
+        buffer.putInt(GAME_MAGIC)
+                .putShort((short) VERSION)
+                .putShort((short) ((game.isBoardGenerated() ? FLAG_BOARD_GENERATED : 0)
+                        | (game.isNoGuessGuaranteed() ? FLAG_NO_GUESS_GUARANTEED : 0)))
+                .putInt(game.getSize())
+                .putInt(game.getTotalMines())
+                .putLong(game.getSeed())
+                .put((byte) game.getGameState().ordinal())
+                .put((byte) game.getGenerationMode().ordinal())
+                .putShort((short) 0)
+                .putInt(game.getRevealedCells());
+        game.getBoard().writeTo(buffer);
+    }
+
+    private static MinesweeperGridPlay readGame(MappedWindow window, long offset) throws IOException {
+        ByteBuffer header = window.at(offset, GAME_HEADER_BYTES);
+        checkHeader(header.getInt(), GAME_MAGIC, header.getShort(), "game");
+        int flags = header.getShort();
+        int size = header.getInt();
+        int totalMines = header.getInt();
+        long seed = header.getLong();
+        int state = header.get();
+        int mode = header.get();
+        header.getShort();
+        int revealedCells = header.getInt();
+
+        if (size < 1 || totalMines < 0 || totalMines > (long) size * size) {
+            throw new IOException("Corrupt game snapshot: size " + size + ", mines " + totalMines);
+        }
+        if (state < 0 || state >= GameState.values().length
+                || mode < 0 || mode >= BoardGenerationMode.values().length) {
+            throw new IOException("Corrupt game snapshot: state " + state + ", mode " + mode);
+        }
+
+        ByteBuffer cells = window.at(offset + GAME_HEADER_BYTES, (long) size * size);
+        return MinesweeperGridPlay.restore(size, totalMines, seed, BoardGenerationMode.values()[mode],
+                (flags & FLAG_BOARD_GENERATED) != 0, (flags & FLAG_NO_GUESS_GUARANTEED) != 0,
+                GameState.values()[state], revealedCells, cells);
+    }
+
+    private static void checkHeader(int magic, int expectedMagic, int version, String kind) throws IOException {
+        if (magic != expectedMagic) {
+            throw new IOException("Not a " + kind + " snapshot (bad magic 0x" + Integer.toHexString(magic) + ")");
+        }
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported " + kind + " snapshot version " + version);
+        }
+    }
+
+    private GameSnapshotStore() {
+
+    }
+}
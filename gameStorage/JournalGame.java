@@ -0,0 +1,128 @@
+package gameStorage;
+
+import dto.BoardGenerationMode;
+import dto.GameState;
+import gamePlay.MinesweeperGridPlay;
+
+import java.util.Arrays;
+
+/**
+ * History of one journaled game: its board parameters and every reveal in order
+ *
+ * The board parameters rebuild the board as MinesweeperGridPlay(size, mines, seed, mode)
+ * documents, so replaying the moves rebuilds the game exactly. Reveals after the game is
+ * over change nothing and are not journaled, so the replay of a finished round is its final board.
+ */
+public class JournalGame {
+    private final long gameId;
+    private final int size;
+    private final int totalMines;
+    private final long seed;
+    private final BoardGenerationMode generationMode;
+    private int[] moves;                     // Revealed cell indices (row * size + col)
+    private int moveCount;
+    private GameState finalState;            // Null while the game is unfinished
+
+    JournalGame(long gameId, int size, int totalMines, long seed, BoardGenerationMode generationMode) {
+        this.gameId = gameId;
+        this.size = size;
+        this.totalMines = totalMines;
+        this.seed = seed;
+        this.generationMode = generationMode;
+        this.moves = new int[16];
+        this.moveCount = 0;
+    }
+
+    // ========== Getters ==========
+    public long getGameId() {
+        return gameId;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getTotalMines() {
+        return totalMines;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public BoardGenerationMode getGenerationMode() {
+        return generationMode;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public int getMoveRow(int move) {
+        return moveAt(move) / size;
+    }
+
+    public int getMoveColumn(int move) {
+        return moveAt(move) % size;
+    }
+
+    /**
+     * Whether the journal recorded an end for this game
+     */
+    public boolean isFinished() {
+        return finalState != null;
+    }
+
+    /**
+     * State recorded when the game ended (PLAYING for abandoned games), or null
+     */
+    public GameState getFinalState() {
+        return finalState;
+    }
+
+    // ========== Replay ==========
+    /**
+     * Rebuild the game with every recorded move applied
+     */
+    public MinesweeperGridPlay replay() {
+        return replay(moveCount);
+    }
+
+    /**
+     * Rebuild the game as it was after the first moveCount moves
+     */
+    public MinesweeperGridPlay replay(int moveCount) {
+        if (moveCount < 0 || moveCount > this.moveCount) {
+            throw new IllegalArgumentException("Move " + moveCount + " out of range 0-" + this.moveCount);
+        }
+
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, totalMines, seed, generationMode);
+        for (int move = 0; move < moveCount; move++) {
+            game.revealCell(moves[move] / size, moves[move] % size);
+        }
+        return game;
+    }
+
+    // ========== Journal Building ==========
+    void addMove(int cellIndex) {
+        if (moveCount == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[moveCount++] = cellIndex;
+    }
+
+    int moveIndexAt(int move) {
+        return moves[move];
+    }
+
+    void finish(GameState state) {
+        this.finalState = state;
+    }
+
+    private int moveAt(int move) {
+        if (move < 0 || move >= moveCount) {
+            throw new IndexOutOfBoundsException("Move " + move + " of " + moveCount);
+        }
+        return moves[move];
+    }
+}
@@ -0,0 +1,59 @@
+package gameStorage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Sliding memory-mapped view over a snapshot file
+ *
+ * Maps the file in large windows and remaps only when a requested range falls
+ * outside the current one, so files bigger than a single mapping can be handled.
+ */
+class MappedWindow {
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private final long fileLength;
+    private final long windowBytes;
+    private MappedByteBuffer buffer;             // Current window, null until first use
+    private long start;                          // File offset of the current window
+
+    MappedWindow(FileChannel channel, FileChannel.MapMode mode, long fileLength, long windowBytes) {
+        this.channel = channel;
+        this.mode = mode;
+        this.fileLength = fileLength;
+        this.windowBytes = windowBytes;
+    }
+
+    /**
+     * Buffer positioned at the file offset with at least length bytes remaining
+     */
+    ByteBuffer at(long offset, long length) throws IOException {
+        if (offset < 0 || offset + length > fileLength) {
+            throw new IOException("Snapshot range " + offset + "+" + length
+                    + " is outside the file (" + fileLength + " bytes)");
+        }
+
+        if (buffer == null || offset < start || offset + length > start + buffer.capacity()) {
+            force();
+            long mapLength = Math.min(Math.max(length, windowBytes), fileLength - offset);
+            buffer = channel.map(mode, offset, mapLength);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            start = offset;
+        }
+
+        buffer.position((int) (offset - start));
+        return buffer;
+    }
+
+    /**
+     * Flush written pages of the current window to the storage device
+     */
+    void force() {
+        if (buffer != null && mode == FileChannel.MapMode.READ_WRITE) {
+            buffer.force();
+        }
+    }
+}
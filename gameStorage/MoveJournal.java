@@ -0,0 +1,532 @@
+package gameStorage;
+
+import dto.BoardGenerationMode;
+import dto.GameState;
+import gamePlay.MinesweeperGridPlay;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only, segmented write-ahead log of game moves
+ *
+ * A game is journaled as its board parameters (size, mines, seed, mode) followed
+ * by the cell index of every reveal, so durability costs a few bytes per move.
+ * Appends only copy into a memory buffer; a single flusher thread writes whatever
+ * has accumulated and fsyncs it once for the whole batch (group commit). Every
+ * append returns a future that completes when its record is durable.
+ *
+ * Record framing (little-endian): int payloadLength, byte type, payload,
+ * int CRC32C of type and payload. A torn record at the end of a segment ends
+ * that segment when reading. Segments roll over at a size limit; compaction
+ * folds finished games of sealed segments into single summary records.
+ */
+public class MoveJournal implements AutoCloseable {
+    public static final long DEFAULT_SEGMENT_BYTES = 64L << 20;
+    public static final long DEFAULT_COMMIT_DELAY_MICROS = 500;
+
+    static final byte GAME_START = 1;        // gameId, size, mines, seed, mode
+    static final byte MOVE = 2;              // gameId, cell index
+    static final byte GAME_END = 3;          // gameId, state
+    static final byte SUMMARY = 4;           // gameId, size, mines, seed, mode, state, moveCount, moves
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int FRAME_BYTES = Integer.BYTES + 1 + Integer.BYTES;
+    private static final int START_PAYLOAD_BYTES = 25;
+    private static final int MOVE_PAYLOAD_BYTES = 12;
+    private static final int END_PAYLOAD_BYTES = 9;
+    private static final int SUMMARY_HEADER_BYTES = 30;     // Summary payload before the moves
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long commitDelayNanos;     // How long the flusher waits for a batch to fill
+    private final Object appendLock;         // Guards pending, waiters and closed
+    private final Object segmentLock;        // Guards the segment channel
+    private final Object compactionLock;
+    private final CRC32C checksum;           // Used under appendLock
+    private final Thread flusher;
+
+    private ByteBuffer pending;              // Records not yet handed to the flusher
+    private ByteBuffer spare;                // Buffer the flusher writes from
+    private List<CompletableFuture<Void>> waiters;
+    private boolean closed;
+    private volatile IOException failure;
+
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentSize;
+    private long nextGameId;
+
+    public MoveJournal(Path directory) throws IOException {
+        this(directory, DEFAULT_SEGMENT_BYTES, DEFAULT_COMMIT_DELAY_MICROS);
+    }
+
+    public MoveJournal(Path directory, long segmentBytes, long commitDelayMicros) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.commitDelayNanos = TimeUnit.MICROSECONDS.toNanos(commitDelayMicros);
+        this.appendLock = new Object();
+        this.segmentLock = new Object();
+        this.compactionLock = new Object();
+        this.checksum = new CRC32C();
+        this.pending = newBuffer(4096);
+        this.spare = newBuffer(4096);
+        this.waiters = new ArrayList<>();
+
+        // Continue after the highest game ID on disk, always in a fresh segment
+        long maxGameId = 0;
+        for (JournalGame game : readGames(directory).values()) {
+            maxGameId = Math.max(maxGameId, game.getGameId());
+        }
+        this.nextGameId = maxGameId + 1;
+        List<Path> segments = listSegments(directory);
+        this.segmentNumber = segments.isEmpty() ? 0 : segmentNumberOf(segments.get(segments.size() - 1));
+        openNextSegment();
+
+        this.flusher = new Thread(this::flushLoop, "move-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // ========== Appends ==========
+    /**
+     * Start journaling a new game and return its journal game ID
+     * Must be called before any move is made on the game.
+     */
+    public long startGame(MinesweeperGridPlay game) {
+        synchronized (appendLock) {
+            long gameId = nextGameId++;
+            ByteBuffer record = beginRecord(GAME_START, START_PAYLOAD_BYTES);
+            record.putLong(gameId)
+                    .putInt(game.getSize())
+                    .putInt(game.getTotalMines())
+                    .putLong(game.getSeed())
+                    .put((byte) game.getGenerationMode().ordinal());
+            endRecord();
+            return gameId;
+        }
+    }
+
+    public CompletableFuture<Void> recordMove(long gameId, int cellIndex) {
+        synchronized (appendLock) {
+            beginRecord(MOVE, MOVE_PAYLOAD_BYTES).putLong(gameId).putInt(cellIndex);
+            return endRecord();
+        }
+    }
+
+    /**
+     * Mark a game as finished; PLAYING records a game that was abandoned
+     */
+    public CompletableFuture<Void> recordEnd(long gameId, GameState state) {
+        synchronized (appendLock) {
+            beginRecord(GAME_END, END_PAYLOAD_BYTES).putLong(gameId).put((byte) state.ordinal());
+            return endRecord();
+        }
+    }
+
+    /**
+     * Future that completes once everything appended so far is durable
+     */
+    public CompletableFuture<Void> flush() {
+        synchronized (appendLock) {
+            if (failure != null) {
+                return CompletableFuture.failedFuture(failure);
+            }
+            if (closed) {
+                return CompletableFuture.completedFuture(null);
+            }
+            // Batches are written in order, so this completes after any batch in flight
+            return addWaiter();
+        }
+    }
+
+    private ByteBuffer beginRecord(byte type, int payloadBytes) {
+        if (closed) {
+            throw new IllegalStateException("Move journal is closed");
+        }
+        int needed = FRAME_BYTES + payloadBytes;
+        if (pending.remaining() < needed) {
+            ByteBuffer larger = newBuffer(Math.max(pending.capacity() * 2, pending.position() + needed));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        pending.mark();
+        return pending.putInt(payloadBytes).put(type);
+    }
+
+    private CompletableFuture<Void> endRecord() {
+        int end = pending.position();
+        pending.reset();
+        int start = pending.position();
+        checksum.reset();
+        checksum.update(pending.duplicate().position(start + Integer.BYTES).limit(end));
+        pending.position(end);
+        pending.putInt((int) checksum.getValue());
+
+        if (failure != null) {
+            return CompletableFuture.failedFuture(failure);
+        }
+        return addWaiter();
+    }
+
+    /**
+     * Only the first waiter of a batch wakes the flusher, so later appends do not cut its delay short
+     */
+    private CompletableFuture<Void> addWaiter() {
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        if (waiters.isEmpty()) {
+            appendLock.notifyAll();
+        }
+        waiters.add(durable);
+        return durable;
+    }
+
+    // ========== Group Commit ==========
+    private void flushLoop() {
+        while (true) {
+            ByteBuffer batch;
+            List<CompletableFuture<Void>> batchWaiters;
+
+            synchronized (appendLock) {
+                try {
+                    while (waiters.isEmpty() && !closed) {
+                        appendLock.wait();
+                    }
+                    // Give concurrent writers the whole delay to join this batch
+                    long deadline = System.nanoTime() + commitDelayNanos;
+                    for (long remaining = commitDelayNanos; remaining > 0 && !closed;
+                         remaining = deadline - System.nanoTime()) {
+                        TimeUnit.NANOSECONDS.timedWait(appendLock, remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    closed = true;
+                }
+                if (waiters.isEmpty() && closed) {
+                    return;
+                }
+
+                batch = pending;
+                pending = spare;
+                spare = batch;
+                batchWaiters = waiters;
+                waiters = new ArrayList<>();
+            }
+
+            try {
+                batch.flip();
+                writeBatch(batch);
+                batchWaiters.forEach(waiter -> waiter.complete(null));
+            } catch (IOException e) {
+                failure = e;
+                batchWaiters.forEach(waiter -> waiter.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        if (!batch.hasRemaining()) {
+            return;
+        }
+        synchronized (segmentLock) {
+            if (segmentSize > 0 && segmentSize + batch.remaining() > segmentBytes) {
+                openNextSegment();
+            }
+            segmentSize += batch.remaining();
+            while (batch.hasRemaining()) {
+                segment.write(batch);
+            }
+            segment.force(false);
+        }
+    }
+
+    private void openNextSegment() throws IOException {
+        synchronized (segmentLock) {
+            if (segment != null) {
+                segment.force(true);
+                segment.close();
+            }
+            segmentNumber++;
+            segment = FileChannel.open(segmentPath(directory, segmentNumber),
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            segmentSize = 0;
+        }
+    }
+
+    // ========== Compaction ==========
+    /**
+     * Fold the finished games of all sealed segments into summary records
+     *
+     * The active segment is sealed first. Sealed segments are rewritten into one
+     * segment holding a summary per finished game and the normalised records of
+     * unfinished games, which then replaces them. Replay treats a repeated game
+     * start or summary as superseding earlier records, so a crash part-way
+     * through leaves a journal that still reads correctly.
+     *
+     * @return number of finished games folded into summaries
+     */
+    public int compact() throws IOException {
+        synchronized (compactionLock) {
+            try {
+                flush().join();
+            } catch (RuntimeException e) {
+                throw new IOException("Journal flush failed before compaction", e);
+            }
+
+            long lastSealed;
+            synchronized (segmentLock) {
+                openNextSegment();
+                lastSealed = segmentNumber - 1;
+            }
+
+            List<Path> sealed = new ArrayList<>();
+            for (Path path : listSegments(directory)) {
+                if (segmentNumberOf(path) <= lastSealed) {
+                    sealed.add(path);
+                }
+            }
+            if (sealed.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, JournalGame> games = new LinkedHashMap<>();
+            for (Path path : sealed) {
+                readSegment(path, games);
+            }
+
+            int folded = 0;
+            ByteBuffer out = newBuffer(4096);
+            CRC32C outChecksum = new CRC32C();
+            for (JournalGame game : games.values()) {
+                out = game.isFinished() ? writeSummary(out, game, outChecksum) : writeHistory(out, game, outChecksum);
+                folded += game.isFinished() ? 1 : 0;
+            }
+
+            // Replace the newest sealed segment first, then drop the older ones
+            Path target = sealed.get(sealed.size() - 1);
+            Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                out.flip();
+                while (out.hasRemaining()) {
+                    channel.write(out);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            for (Path path : sealed.subList(0, sealed.size() - 1)) {
+                Files.deleteIfExists(path);
+            }
+            return folded;
+        }
+    }
+
+    private static ByteBuffer writeSummary(ByteBuffer out, JournalGame game, CRC32C crc) {
+        int payload = SUMMARY_HEADER_BYTES + game.getMoveCount() * Integer.BYTES;
+        out = ensureRoom(out, FRAME_BYTES + payload);
+        int start = out.position();
+        out.putInt(payload).put(SUMMARY)
+                .putLong(game.getGameId())
+                .putInt(game.getSize())
+                .putInt(game.getTotalMines())
+                .putLong(game.getSeed())
+                .put((byte) game.getGenerationMode().ordinal())
+                .put((byte) game.getFinalState().ordinal())
+                .putInt(game.getMoveCount());
+        for (int move = 0; move < game.getMoveCount(); move++) {
+            out.putInt(game.moveIndexAt(move));
+        }
+        return sealRecord(out, start, crc);
+    }
+
+    private static ByteBuffer writeHistory(ByteBuffer out, JournalGame game, CRC32C crc) {
+        out = ensureRoom(out, FRAME_BYTES + START_PAYLOAD_BYTES + game.getMoveCount() * (FRAME_BYTES + MOVE_PAYLOAD_BYTES));
+        int start = out.position();
+        out.putInt(START_PAYLOAD_BYTES).put(GAME_START)
+                .putLong(game.getGameId())
+                .putInt(game.getSize())
+                .putInt(game.getTotalMines())
+                .putLong(game.getSeed())
+                .put((byte) game.getGenerationMode().ordinal());
+        sealRecord(out, start, crc);
+
+        for (int move = 0; move < game.getMoveCount(); move++) {
+            start = out.position();
+            out.putInt(MOVE_PAYLOAD_BYTES).put(MOVE).putLong(game.getGameId()).putInt(game.moveIndexAt(move));
+            sealRecord(out, start, crc);
+        }
+        return out;
+    }
+
+    private static ByteBuffer sealRecord(ByteBuffer out, int start, CRC32C crc) {
+        crc.reset();
+        crc.update(out.duplicate().position(start + Integer.BYTES).limit(out.position()));
+        return out.putInt((int) crc.getValue());
+    }
+
+    private static ByteBuffer ensureRoom(ByteBuffer out, int needed) {
+        if (out.remaining() >= needed) {
+            return out;
+        }
+        ByteBuffer larger = newBuffer(Math.max(out.capacity() * 2, out.position() + needed));
+        out.flip();
+        return larger.put(out);
+    }
+
+    // ========== Reading ==========
+    /**
+     * Read every game in a journal directory, keyed by journal game ID
+     */
+    public static Map<Long, JournalGame> readGames(Path directory) throws IOException {
+        Map<Long, JournalGame> games = new LinkedHashMap<>();
+        for (Path path : listSegments(directory)) {
+            readSegment(path, games);
+        }
+        return games;
+    }
+
+    private static void readSegment(Path path, Map<Long, JournalGame> games) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() == 0) {
+                return;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            CRC32C crc = new CRC32C();
+
+            while (buffer.remaining() >= FRAME_BYTES) {
+                int start = buffer.position();
+                int payload = buffer.getInt();
+                if (payload < 0 || buffer.remaining() < 1 + payload + Integer.BYTES) {
+                    return;     // Torn write at the tail
+                }
+                crc.reset();
+                crc.update(buffer.duplicate().limit(start + Integer.BYTES + 1 + payload));
+                int expected = buffer.getInt(start + Integer.BYTES + 1 + payload);
+                if ((int) crc.getValue() != expected) {
+                    return;     // Corrupt or partially written record
+                }
+
+                ByteBuffer record = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                byte type = record.get();
+                applyRecord(type, record, games);
+                buffer.position(start + FRAME_BYTES + payload);
+            }
+        }
+    }
+
+    private static void applyRecord(byte type, ByteBuffer record, Map<Long, JournalGame> games)
+            throws IOException {
+        long gameId = record.getLong();
+        JournalGame game;
+        switch (type) {
+            case GAME_START:
+                games.put(gameId, readGameStart(gameId, record));
+                break;
+            case MOVE:
+                game = games.get(gameId);
+                if (game != null) {
+                    game.addMove(record.getInt());
+                }
+                break;
+            case GAME_END:
+                game = games.get(gameId);
+                if (game != null) {
+                    game.finish(GameState.values()[record.get()]);
+                }
+                break;
+            case SUMMARY:
+                game = readGameStart(gameId, record);
+                GameState state = GameState.values()[record.get()];
+                int moveCount = record.getInt();
+                for (int move = 0; move < moveCount; move++) {
+                    game.addMove(record.getInt());
+                }
+                game.finish(state);
+                games.put(gameId, game);
+                break;
+            default:
+                throw new IOException("Unknown journal record type " + type);
+        }
+    }
+
+    private static JournalGame readGameStart(long gameId, ByteBuffer record) {
+        int size = record.getInt();
+        int totalMines = record.getInt();
+        long seed = record.getLong();
+        BoardGenerationMode mode = BoardGenerationMode.values()[record.get()];
+        return new JournalGame(gameId, size, totalMines, seed, mode);
+    }
+
+    // ========== Segment Files ==========
+    private static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).forEach(segments::add);
+        }
+        segments.sort((a, b) -> Long.compare(segmentNumberOf(a), segmentNumberOf(b)));
+        return segments;
+    }
+
+    private static long segmentNumberOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static Path segmentPath(Path directory, long number) {
+        return directory.resolve(String.format("%s%012d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    private static ByteBuffer newBuffer(int capacity) {
+        return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Number of segment files currently on disk
+     */
+    public int getSegmentCount() throws IOException {
+        return listSegments(directory).size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (appendLock) {
+            closed = true;
+            appendLock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (segmentLock) {
+            segment.force(true);
+            segment.close();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package test;
+
+import dto.PackedBoard;
+import gamePlay.AdjacentMineCounter;
+import gamePlay.FloydMinePlacement;
+import org.junit.jupiter.api.*;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for AdjacentMineCounter
+ */
+public class AdjacentMineCounterTest {
+
+    @Test
+    @DisplayName("Sliding box sum should match per-cell neighbour counting")
+    void testSequentialMatchesPerCellCount() {
+        for (int size = 1; size <= 40; size += 3) {
+            PackedBoard board = randomBoard(size, size * size / 4, size);
+
+            new AdjacentMineCounter(Integer.MAX_VALUE).countAll(board);
+
+            assertCountsCorrect(board);
+        }
+    }
+
+    @Test
+    @DisplayName("Row-striped parallel counting should match per-cell neighbour counting")
+    void testParallelMatchesPerCellCount() {
+        PackedBoard board = randomBoard(700, 700 * 700 / 5, 11L);
+
+        new AdjacentMineCounter(1).countAll(board);
+
+        assertCountsCorrect(board);
+    }
+
+    private PackedBoard randomBoard(int size, int mines, long seed) {
+        PackedBoard board = new PackedBoard(size);
+        new FloydMinePlacement().placeMines(board, mines, new SplittableRandom(seed));
+        return board;
+    }
+
+    private void assertCountsCorrect(PackedBoard board) {
+        for (int index = 0; index < board.getCellCount(); index++) {
+            int expected = board.hasMine(index) ? 0 : AdjacentMineCounter.countAt(board, index);
+            assertEquals(expected, board.getAdjacentMineCount(index), "cell " + index);
+        }
+    }
+}
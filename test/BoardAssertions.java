@@ -0,0 +1,37 @@
+package test;
+
+import dto.PackedBoard;
+import gamePlay.MinesweeperGridPlay;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Board comparisons shared by the board ID, pool, snapshot and journal tests
+ */
+final class BoardAssertions {
+
+    private BoardAssertions() {
+    }
+
+    /**
+     * Same parameters, state and counters, and the same mine, revealed and count in every cell
+     */
+    static void assertSameGame(MinesweeperGridPlay expected, MinesweeperGridPlay actual) {
+        assertEquals(expected.getSize(), actual.getSize());
+        assertEquals(expected.getTotalMines(), actual.getTotalMines());
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getRevealedCells(), actual.getRevealedCells());
+        assertSameCells(expected.getBoard(), actual.getBoard());
+    }
+
+    static void assertSameCells(PackedBoard expected, PackedBoard actual) {
+        assertEquals(expected.getCellCount(), actual.getCellCount());
+        for (int index = 0; index < expected.getCellCount(); index++) {
+            assertEquals(expected.hasMine(index), actual.hasMine(index), "mine at " + index);
+            assertEquals(expected.isRevealed(index), actual.isRevealed(index), "revealed at " + index);
+            assertEquals(expected.getAdjacentMineCount(index), actual.getAdjacentMineCount(index),
+                    "count at " + index);
+        }
+    }
+}
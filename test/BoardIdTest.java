@@ -0,0 +1,106 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSession.BoardCache;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.BoardAssertions.*;
+
+/**
+ * JUnit 5 tests for BoardId and BoardCache
+ */
+public class BoardIdTest {
+
+    @Test
+    @DisplayName("IDs should round-trip through their 64-bit and text forms")
+    void testRoundTrip() {
+        BoardId id = BoardId.of(2000, 1_400_000, BoardId.SEED_MASK, BoardGenerationMode.FIRST_CLICK_SAFE);
+
+        assertEquals(2000, id.getSize());
+        assertEquals(1_400_000, id.getTotalMines());
+        assertEquals(BoardId.SEED_MASK, id.getSeed());
+        assertEquals(BoardGenerationMode.FIRST_CLICK_SAFE, id.getGenerationMode());
+        assertEquals(id, BoardId.fromLong(id.toLong()));
+        assertEquals(id, BoardId.parse(id.toString()));
+        assertTrue(id.toString().length() <= 13);
+    }
+
+    @Test
+    @DisplayName("Fields that do not fit, and malformed IDs, should be rejected")
+    void testInvalidIds() {
+        assertThrows(IllegalArgumentException.class, () -> BoardId.of(10, 10, 1L << 30, BoardGenerationMode.EAGER));
+        assertThrows(IllegalArgumentException.class, () -> BoardId.of(4, 17, 1, BoardGenerationMode.EAGER));
+        assertThrows(IllegalArgumentException.class, () -> BoardId.of(2048, 10, 1, BoardGenerationMode.EAGER));
+        assertThrows(IllegalArgumentException.class, () -> BoardId.fromLong(-1L));
+        assertThrows(IllegalArgumentException.class, () -> BoardId.parse("not an id"));
+        assertNull(new MinesweeperGridPlay(10, 10, -5L).getBoardId());
+
+        // NO_GUESS boards are never shared by ID
+        long noGuess = BoardId.of(9, 10, 1, BoardGenerationMode.EAGER).toLong()
+                | ((long) BoardGenerationMode.NO_GUESS.ordinal() << 62);
+        assertThrows(IllegalArgumentException.class, () -> BoardId.of(9, 10, 1, BoardGenerationMode.NO_GUESS));
+        assertThrows(IllegalArgumentException.class, () -> BoardId.fromLong(noGuess));
+        assertNull(new MinesweeperGridPlay(9, 10, 1, BoardGenerationMode.NO_GUESS).getBoardId());
+    }
+
+    @Test
+    @DisplayName("A game rebuilt from its ID should have the same board")
+    void testRegenerateFromId() {
+        for (BoardGenerationMode mode : new BoardGenerationMode[] {BoardGenerationMode.EAGER,
+                BoardGenerationMode.FIRST_CLICK_SAFE}) {
+            MinesweeperGridPlay original = new MinesweeperGridPlay(16, 40, BoardId.randomSeed(), mode);
+            MinesweeperGridPlay rebuilt = new MinesweeperGridPlay(original.getBoardId());
+            original.revealCell(8, 8);
+            rebuilt.revealCell(8, 8);
+
+            assertEquals(original.getBoardId(), rebuilt.getBoardId());
+            assertSameGame(original, rebuilt);
+        }
+        assertNotNull(new MinesweeperGridPlay(BoardId.random(9, 10, BoardGenerationMode.EAGER)).getBoardId());
+    }
+
+    @Test
+    @DisplayName("The cache should serve copies of recently regenerated boards")
+    void testCacheHitsAndCopies() {
+        BoardCache cache = new BoardCache();
+        BoardId id = BoardId.of(12, 20, 77, BoardGenerationMode.EAGER);
+
+        MinesweeperGridPlay first = cache.newGame(id);
+        first.revealCell(0, 0);
+        MinesweeperGridPlay second = cache.newGame(id);
+
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(77, second.getSeed());
+        assertEquals(0, second.getRevealedCells());
+        assertFalse(second.isRevealed(0, 0));
+        assertSameGame(new MinesweeperGridPlay(12, 20, 77), second);
+
+        // Lazy boards depend on the first click and are never cached
+        cache.newGame(BoardId.of(12, 20, 77, BoardGenerationMode.FIRST_CLICK_SAFE));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("The cache should evict the least recently used boards past its byte budget")
+    void testCacheEviction() {
+        long boardBytes = new PackedBoard(20).getFootprintBytes();
+        BoardCache cache = new BoardCache(boardBytes * 2);
+        BoardId a = BoardId.of(20, 50, 1, BoardGenerationMode.EAGER);
+        BoardId b = BoardId.of(20, 50, 2, BoardGenerationMode.EAGER);
+        BoardId c = BoardId.of(20, 50, 3, BoardGenerationMode.EAGER);
+
+        cache.newGame(a);
+        cache.newGame(b);
+        cache.newGame(a);          // a is now the most recent
+        cache.newGame(c);          // evicts b
+        cache.newGame(a);
+        cache.newGame(b);
+
+        assertEquals(2, cache.size());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+    }
+}
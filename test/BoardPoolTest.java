@@ -0,0 +1,113 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSession.BoardPool;
+import gameSession.GameSessionManager;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.BoardAssertions.*;
+
+/**
+ * JUnit 5 tests for BoardPool and pooled games
+ */
+public class BoardPoolTest {
+
+    @Test
+    @DisplayName("Prewarmed configurations should be served from the queue")
+    void testPrewarmedBoardsAreHits() throws InterruptedException {
+        try (BoardPool pool = new BoardPool(1, 8, 4)) {
+            pool.prewarm(16, 40);
+            awaitReady(pool, 16, 40, 2);
+
+            MinesweeperGridPlay game = pool.newGame(16, 40);
+
+            assertEquals(1, pool.getHits());
+            assertEquals(0, pool.getMisses());
+            assertTrue(game.isBoardGenerated());
+            assertSameGame(new MinesweeperGridPlay(16, 40, game.getSeed()), game);
+        }
+    }
+
+    @Test
+    @DisplayName("Unpooled configurations should be generated on the caller's thread")
+    void testMissesGenerateInline() {
+        try (BoardPool pool = new BoardPool(1, 8, 1)) {
+            pool.prewarm(9, 10);
+            PooledBoard board = pool.take(20, 50);
+
+            assertEquals(1, pool.getMisses());
+            assertEquals(0, pool.getTargetDepth(20, 50));
+            assertEquals(20, board.getSize());
+            assertEquals(50, board.getTotalMines());
+            assertThrows(IllegalArgumentException.class, () -> pool.take(4, 17));
+        }
+    }
+
+    @Test
+    @DisplayName("Bursts of requests should raise the target depth")
+    void testTargetFollowsDemand() {
+        try (BoardPool pool = new BoardPool(1, 32, 4)) {
+            int idleTarget = pool.getTargetDepth(9, 10);
+            pool.prewarm(9, 10);
+            assertEquals(2, pool.getTargetDepth(9, 10));
+            for (int i = 0; i < 20; i++) {
+                pool.take(9, 10);
+            }
+
+            assertEquals(0, idleTarget);
+            assertTrue(pool.getTargetDepth(9, 10) > 2);
+            assertEquals(20, pool.getHits() + pool.getMisses());
+        }
+    }
+
+    @Test
+    @DisplayName("A busier configuration should replace the quietest pooled one")
+    void testBusierConfigurationEvictsQuietest() {
+        try (BoardPool pool = new BoardPool(1, 8, 1)) {
+            pool.prewarm(9, 10);
+            pool.take(12, 20);
+            assertEquals(0, pool.getEvictions());
+            assertEquals(0, pool.getTargetDepth(12, 20));
+
+            for (int i = 0; i < 5; i++) {
+                pool.take(12, 20);
+            }
+
+            assertEquals(1, pool.getEvictions());
+            assertEquals(0, pool.getTargetDepth(9, 10));
+            assertTrue(pool.getTargetDepth(12, 20) >= 2);
+            assertEquals(6, pool.getHits() + pool.getMisses());
+        }
+    }
+
+    @Test
+    @DisplayName("Resetting onto a pooled board should start a fresh round with its seed")
+    void testResetOntoPooledBoard() throws Exception {
+        try (BoardPool pool = new BoardPool(1, 8, 4);
+             GameSessionManager manager = new GameSessionManager(pool)) {
+            String sessionId = manager.createGame(12, 20).join();
+            manager.reveal(sessionId, 0, 0).join();
+            long firstSeed = manager.callLocked(sessionId, MinesweeperGridPlay::getSeed);
+
+            manager.resetGame(sessionId).join();
+
+            MinesweeperGridPlay game = manager.callLocked(sessionId, current -> current);
+            assertNotEquals(firstSeed, game.getSeed());
+            assertEquals(0, game.getRevealedCells());
+            assertEquals(GameState.PLAYING, game.getGameState());
+            assertSameGame(new MinesweeperGridPlay(12, 20, game.getSeed()), game);
+            assertThrows(IllegalArgumentException.class, () -> game.resetGame(pool.take(10, 20)));
+        }
+    }
+
+    // Helper methods
+    private void awaitReady(BoardPool pool, int size, int mines, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (pool.getReadyCount(size, mines) < count && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(pool.getReadyCount(size, mines) >= count);
+    }
+}
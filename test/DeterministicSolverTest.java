@@ -0,0 +1,129 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSolver.DeterministicSolver;
+import gameSolver.SolverResult;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for DeterministicSolver
+ */
+public class DeterministicSolverTest {
+
+    @Test
+    @DisplayName("Should apply single-point and subset rules")
+    void testSubsetReduction() {
+        // Mine at A1; B1, B2, C1 and C2 revealed. C2 = 0 clears B3 and C3,
+        // then B2 {A1,A2,A3} = 1 contains B1 {A1,A2} = 1, so A3 is safe.
+        MinesweeperGridPlay game = boardWithMines(3, 0);
+        reveal(game, 1, 0);
+        reveal(game, 1, 1);
+        reveal(game, 2, 0);
+        reveal(game, 2, 1);
+
+        SolverResult result = new DeterministicSolver().solve(game);
+
+        assertTrue(result.isSafe(1, 2));
+        assertTrue(result.isSafe(2, 2));
+        assertTrue(result.isSafe(0, 2));
+        assertEquals(3, result.getSafeCount());
+        assertEquals(0, result.getMineCount());
+        assertEquals(new Position(0, 2), result.getHint());
+    }
+
+    @Test
+    @DisplayName("Should find a mine when a number has exactly that many hidden neighbours")
+    void testSinglePointMine() {
+        // Mine at A1; everything else revealed except A1
+        MinesweeperGridPlay game = boardWithMines(3, 0);
+        for (int index = 1; index < 9; index++) {
+            reveal(game, index / 3, index % 3);
+        }
+
+        SolverResult result = new DeterministicSolver().solve(game);
+
+        assertTrue(result.isMine(0, 0));
+        assertEquals(1, result.getMineCount());
+        assertEquals(0, result.getSafeCount());
+    }
+
+    @Test
+    @DisplayName("Deductions should always be correct and let a bot clear many boards")
+    void testSoundnessOnRandomGames() {
+        DeterministicSolver solver = new DeterministicSolver();
+        int won = 0;
+
+        for (long seed = 0; seed < 200; seed++) {
+            MinesweeperGridPlay game = new MinesweeperGridPlay(16, 40, seed, BoardGenerationMode.FIRST_CLICK_SAFE);
+            game.revealCell(8, 8);
+
+            while (game.getGameState() == GameState.PLAYING) {
+                SolverResult result = solver.solve(game);
+                for (Position mine : result.getMinePositions()) {
+                    assertTrue(game.hasMine(mine.getRow(), mine.getColumn()), "seed " + seed);
+                }
+                if (result.getSafeCount() == 0) {
+                    break;
+                }
+                for (Position safe : result.getSafePositions()) {
+                    assertFalse(game.hasMine(safe.getRow(), safe.getColumn()), "seed " + seed);
+                    game.revealCell(safe);
+                }
+            }
+            won += game.getGameState() == GameState.WON ? 1 : 0;
+        }
+
+        assertTrue(won > 40, "won " + won);
+    }
+
+    @Test
+    @DisplayName("Should never look at hidden mines")
+    void testUnrevealedBoardHasNoDeductions() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(50, 400, 1L);
+
+        SolverResult result = new DeterministicSolver().solve(game);
+
+        assertFalse(result.hasDeductions());
+        assertNull(result.getHint());
+    }
+
+    @Test
+    @DisplayName("Solving from the game's frontier should match a full board scan")
+    void testFrontierSolveMatchesBoardScan() {
+        DeterministicSolver frontierSolver = new DeterministicSolver();
+        DeterministicSolver scanSolver = new DeterministicSolver();
+
+        for (long seed = 0; seed < 30; seed++) {
+            MinesweeperGridPlay game = new MinesweeperGridPlay(30, 150, seed, BoardGenerationMode.FIRST_CLICK_SAFE);
+            game.revealCell(15, 15);
+
+            while (game.getGameState() == GameState.PLAYING) {
+                SolverResult fromFrontier = frontierSolver.solve(game);
+                SolverResult fromScan = scanSolver.solve(game.getBoard());
+                assertEquals(fromScan.getSafePositions(), fromFrontier.getSafePositions(), "seed " + seed);
+                assertEquals(fromScan.getMinePositions(), fromFrontier.getMinePositions(), "seed " + seed);
+                if (fromFrontier.getSafeCount() == 0) {
+                    break;
+                }
+                game.revealCell(fromFrontier.getHint());
+            }
+        }
+    }
+
+    // Helper methods
+    private MinesweeperGridPlay boardWithMines(int size, int... mineIndices) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mineIndices.length, 0L);
+        game.getBoard().clear();
+        for (int index : mineIndices) {
+            game.getBoard().setMine(index, true);
+        }
+        return game;
+    }
+
+    private void reveal(MinesweeperGridPlay game, int row, int col) {
+        game.getBoard().setRevealed(game.getBoard().indexOf(row, col), true);
+    }
+}
@@ -0,0 +1,88 @@
+package test;
+
+import dto.*;
+import gamePlay.ChunkedMinefield;
+import gamePlay.EndlessMinesweeperPlay;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the chunked endless minefield
+ */
+public class EndlessMinesweeperPlayTest {
+
+    private static final long WORLD_SEED = 2024L;
+    private static final double DENSITY = 0.15;
+
+    @Test
+    @DisplayName("Chunks should regenerate identically after eviction")
+    void testDeterministicRegeneration() {
+        ChunkedMinefield cached = new ChunkedMinefield(WORLD_SEED, DENSITY);
+        ChunkedMinefield evicting = new ChunkedMinefield(WORLD_SEED, DENSITY, 1);
+
+        for (int row = -200; row < 200; row += 7) {
+            for (int col = -200; col < 200; col += 5) {
+                assertEquals(cached.hasMine(row, col), evicting.hasMine(row, col));
+            }
+        }
+        assertTrue(evicting.getLoadedChunkCount() <= 1);
+        assertTrue(evicting.getGeneratedChunkCount() > cached.getGeneratedChunkCount());
+    }
+
+    @Test
+    @DisplayName("Counts on chunk edges should include mines in adjacent chunks")
+    void testEdgeCountsCrossChunks() {
+        ChunkedMinefield minefield = new ChunkedMinefield(WORLD_SEED, DENSITY);
+        int edge = ChunkedMinefield.CHUNK_SIZE;
+
+        for (int row = -edge - 2; row <= edge + 1; row++) {
+            for (int col : new int[]{-edge - 1, -edge, -1, 0, edge - 1, edge}) {
+                int expected = 0;
+                for (int adjacentRow = row - 1; adjacentRow <= row + 1; adjacentRow++) {
+                    for (int adjacentCol = col - 1; adjacentCol <= col + 1; adjacentCol++) {
+                        if ((adjacentRow != row || adjacentCol != col)
+                                && minefield.hasMine(adjacentRow, adjacentCol)) {
+                            expected++;
+                        }
+                    }
+                }
+                assertEquals(expected, minefield.countAdjacentMines(row, col));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Cascades should be reproducible and keep only explored chunks pinned")
+    void testCascadeReproducibleAcrossEviction() {
+        EndlessMinesweeperPlay game = new EndlessMinesweeperPlay(WORLD_SEED, DENSITY);
+        EndlessMinesweeperPlay evicting = new EndlessMinesweeperPlay(WORLD_SEED, DENSITY, 0);
+
+        int[] zeroCell = findZeroCell(game.getMinefield());
+        RevealResult result = game.revealCell(zeroCell[0], zeroCell[1]);
+        RevealResult evictingResult = evicting.revealCell(zeroCell[0], zeroCell[1]);
+
+        assertEquals(RevealResultType.NORMAL_REVEAL, result.getType());
+        assertEquals(result.getRevealedPositions(), evictingResult.getRevealedPositions());
+        assertEquals(result.getRevealedPositions().size(), game.getRevealedCells());
+        assertEquals(RevealResultType.ALREADY_REVEALED, game.revealCell(zeroCell[0], zeroCell[1]).getType());
+        assertTrue(game.getMinefield().getTouchedChunkCount() <= 9);
+    }
+
+    @Test
+    @DisplayName("Should reject densities that allow unbounded cascades")
+    void testDensityBounds() {
+        assertThrows(IllegalArgumentException.class, () -> new EndlessMinesweeperPlay(1L, 0.01));
+    }
+
+    private int[] findZeroCell(ChunkedMinefield minefield) {
+        for (int row = 10; row < 60; row++) {
+            for (int col = 10; col < 60; col++) {
+                if (!minefield.hasMine(row, col) && minefield.countAdjacentMines(row, col) == 0) {
+                    return new int[]{row, col};
+                }
+            }
+        }
+        throw new AssertionError("No zero cell found");
+    }
+}
@@ -0,0 +1,165 @@
+package test;
+
+import dto.BoardGenerationMode;
+import gameMetrics.EngineMetrics;
+import gameMetrics.LogLinearHistogram;
+import gamePlay.MinesweeperGridPlay;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.*;
+import userService.GameDisplayService;
+import userService.GridRenderer;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for LogLinearHistogram, EngineMetrics and the JFR engine events
+ */
+public class EngineMetricsTest {
+
+    @Test
+    @DisplayName("Percentiles should be within one sub-bucket of the true value")
+    void testPercentileAccuracy() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(50_000.5, histogram.getMean(), 1e-6);
+        assertWithin(50_000, histogram.getPercentile(0.50));
+        assertWithin(99_000, histogram.getPercentile(0.99));
+        assertWithin(100_000, histogram.getMax());
+        assertTrue(histogram.getPercentile(0.99) >= 99_000);
+    }
+
+    @Test
+    @DisplayName("Small values and extremes should land in exact or valid buckets")
+    void testSmallAndExtremeValues() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        histogram.record(0);
+        histogram.record(3);
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertEquals(0, histogram.getPercentile(0.25));
+        assertEquals(0, histogram.getPercentile(0.50));
+        assertEquals(3, histogram.getPercentile(0.75));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Concurrent recording should lose no samples")
+    void testConcurrentRecording() {
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        IntStream.range(0, 8).parallel().forEach(thread -> {
+            for (int i = 0; i < 100_000; i++) {
+                histogram.record(i % 1000);
+            }
+        });
+
+        assertEquals(800_000, histogram.getCount());
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    @DisplayName("Recorders should show up in the text dump and the platform MBean")
+    void testDumpAndMBean() throws Exception {
+        EngineMetrics.reset();
+        EngineMetrics.recordReveal(System.nanoTime() - 2_000, EngineMetrics.allocatedBytes(), 12);
+        EngineMetrics.recordFloodFill(System.nanoTime() - 1_000, 11);
+
+        String dump = EngineMetrics.dump();
+        assertTrue(dump.contains("reveal.nanos count=1"));
+        assertTrue(dump.contains("floodFill.cascadeSize count=1"));
+        assertTrue(dump.contains("reveal.squares 12"));
+
+        EngineMetrics.registerMBean();
+        EngineMetrics.registerMBean();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(EngineMetrics.OBJECT_NAME);
+        assertEquals(1L, server.getAttribute(name, "RevealCount"));
+        assertEquals(12L, server.getAttribute(name, "SquaresRevealed"));
+        assertTrue((Long) server.getAttribute(name, "RevealP99Nanos") >= 2_000);
+        assertTrue(((String) server.getAttribute(name, "Dump")).startsWith("metrics.enabled"));
+        EngineMetrics.reset();
+    }
+
+    @Test
+    @DisplayName("The JFR profile should record reveal, cascade, generation and render events")
+    void testFlightRecorderEvents() throws Exception {
+        Configuration profile;
+        InputStream settings = EngineMetrics.class.getResourceAsStream("minesweeper.jfc");
+        assertNotNull(settings, "minesweeper.jfc should be on the classpath next to EngineMetrics");
+        try (Reader reader = new InputStreamReader(settings, StandardCharsets.UTF_8)) {
+            profile = Configuration.create(reader);
+        }
+
+        Path file = Files.createTempFile("minesweeper", ".jfr");
+        try (Recording recording = new Recording(profile)) {
+            recording.start();
+            MinesweeperGridPlay game = new MinesweeperGridPlay(30, 10, 3L, BoardGenerationMode.FIRST_CLICK_SAFE);
+            game.revealCell(15, 15);
+            new MinesweeperGridPlay(16, 40, 3L, BoardGenerationMode.NO_GUESS).revealCell(8, 8);
+            new GameDisplayService(new GridRenderer(new PrintStream(new ByteArrayOutputStream()), false))
+                    .displayGrid(game);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.delete(file);
+
+        RecordedEvent reveal = first(events, "minesweeper.Reveal", 2);
+        assertEquals(15, reveal.getInt("row"));
+        assertEquals(15, reveal.getInt("column"));
+        assertEquals(1, reveal.getInt("moves"));
+        assertTrue(reveal.getInt("squaresOpened") > 9);
+
+        RecordedEvent cascade = first(events, "minesweeper.Cascade", 2);
+        assertEquals(reveal.getInt("squaresOpened") - 1, cascade.getInt("squaresOpened"));
+        assertTrue(cascade.getInt("queuePeak") > 0);
+
+        RecordedEvent generation = first(events, "minesweeper.BoardGeneration", 2);
+        assertEquals("FIRST_CLICK_SAFE", generation.getString("mode"));
+        assertEquals(30, generation.getInt("size"));
+        assertTrue(generation.getLong("draws") >= 10);
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("minesweeper.BoardGeneration")
+                && event.getString("mode").equals("NO_GUESS") && event.getInt("candidates") >= 1));
+
+        RecordedEvent render = first(events, "minesweeper.Render", 1);
+        assertTrue(render.getInt("bytesWritten") > 30 * 30);
+    }
+
+    // Helper methods
+    private RecordedEvent first(List<RecordedEvent> events, String name, int expectedCount) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .toList();
+        assertEquals(expectedCount, matching.size(), name);
+        return matching.get(0);
+    }
+
+    private void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 8 + 1, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,130 @@
+package test;
+
+import dto.*;
+import gamePlay.FloodFill;
+import gamePlay.MinesweeperGridPlay;
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the index-based FloodFill cascade
+ */
+public class FloodFillTest {
+
+    @Test
+    @DisplayName("Flood fill should reveal the same cells in the same order as the reference BFS")
+    void testMatchesReferenceBfs() {
+        int[][] configurations = {{4, 1}, {8, 6}, {16, 20}, {30, 90}, {50, 100}};
+
+        for (int[] configuration : configurations) {
+            for (int round = 0; round < 20; round++) {
+                MinesweeperGridPlay game = new MinesweeperGridPlay(configuration[0], configuration[1]);
+                playAllZeroCells(game);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Flood fill should not allocate once its buffers exist")
+    void testSteadyStateAllocationFree() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        PackedBoard board = new PackedBoard(200);
+        FloodFill floodFill = new FloodFill(board);
+        for (int round = 0; round < 5; round++) {
+            board.clear();
+            board.setRevealed(0, true);
+            floodFill.fill(0);
+        }
+
+        board.clear();
+        board.setRevealed(0, true);
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        int revealed = floodFill.fill(0);
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertEquals(board.getCellCount() - 1, revealed);
+        assertTrue(allocated < 1024, "Flood fill allocated " + allocated + " bytes");
+    }
+
+    /**
+     * Reveal every zero cell in turn, comparing each cascade with the reference BFS
+     */
+    private void playAllZeroCells(MinesweeperGridPlay game) {
+        int size = game.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (game.hasMine(row, col) || game.isRevealed(row, col)
+                        || game.getAdjacentMineCount(row, col) != 0) {
+                    continue;
+                }
+
+                List<Position> expected = new ArrayList<>();
+                expected.add(new Position(row, col));
+                expected.addAll(referenceCascade(game, row, col));
+
+                RevealResult result = game.revealCell(row, col);
+                assertEquals(expected, result.getRevealedPositions());
+
+                if (game.getGameState() != GameState.PLAYING) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * The original Position/LinkedList/HashSet cascade, run against a copy of the board
+     */
+    private List<Position> referenceCascade(MinesweeperGrid grid, int startRow, int startCol) {
+        int size = grid.getSize();
+        boolean[][] revealed = new boolean[size][size];
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                revealed[row][col] = grid.isRevealed(row, col);
+            }
+        }
+        revealed[startRow][startCol] = true;
+
+        List<Position> revealedPositions = new ArrayList<>();
+        Queue<Position> toProcess = new LinkedList<>();
+        Set<Position> processed = new HashSet<>();
+
+        for (Position pos : grid.getAdjacentPositions(startRow, startCol)) {
+            if (processed.add(pos)) {
+                toProcess.offer(pos);
+            }
+        }
+
+        while (!toProcess.isEmpty()) {
+            Position current = toProcess.poll();
+            int row = current.getRow();
+            int col = current.getColumn();
+
+            if (revealed[row][col] || grid.hasMine(row, col)) {
+                continue;
+            }
+
+            revealed[row][col] = true;
+            revealedPositions.add(current);
+
+            if (grid.getAdjacentMineCount(row, col) == 0) {
+                for (Position neighbor : grid.getAdjacentPositions(row, col)) {
+                    if (processed.add(neighbor)) {
+                        toProcess.offer(neighbor);
+                    }
+                }
+            }
+        }
+
+        return revealedPositions;
+    }
+}
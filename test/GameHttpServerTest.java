@@ -0,0 +1,186 @@
+package test;
+
+import dto.BoardGenerationMode;
+import dto.BoardId;
+import gamePlay.MinesweeperGridPlay;
+import gamePlay.NoGuessBoardGenerator;
+import gameServer.GameHttpServer;
+import gameServer.JsonWriter;
+import gameSession.GameSessionManager;
+import org.junit.jupiter.api.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the embedded HTTP/JSON API
+ */
+public class GameHttpServerTest {
+
+    private GameSessionManager sessionManager;
+    private GameHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        sessionManager = new GameSessionManager();
+        server = new GameHttpServer(0, sessionManager);
+        server.start();
+        client = HttpClient.newHttpClient();
+    }
+
+    @Test
+    @DisplayName("Should create, reveal, query and reset a game over HTTP")
+    void testGameLifecycle() throws Exception {
+        HttpResponse<String> created = send("POST", "/games?size=8&mines=10&seed=5&mode=FIRST_CLICK_SAFE");
+        assertEquals(201, created.statusCode());
+        String sessionId = extract(created.body(), "\"sessionId\":\"([^\"]+)\"");
+        assertTrue(created.body().contains("\"state\":\"PLAYING\""));
+
+        HttpResponse<String> revealed = send("POST", "/games/" + sessionId + "/reveal?row=3&col=3");
+        assertEquals(200, revealed.statusCode());
+        assertTrue(revealed.body().contains("\"adjacentMineCount\":0"));
+        assertTrue(revealed.body().contains("[3,3]"));
+
+        HttpResponse<String> hint = send("GET", "/games/" + sessionId + "/hint");
+        assertEquals(200, hint.statusCode());
+        assertTrue(hint.body().startsWith("{\"safeCount\":"));
+
+        HttpResponse<String> guess = send("GET", "/games/" + sessionId + "/guess");
+        assertEquals(200, guess.statusCode());
+        assertTrue(guess.body().contains("\"probability\":"));
+
+        HttpResponse<String> board = send("GET", "/games/" + sessionId);
+        assertEquals(200, board.statusCode());
+        assertFalse(board.body().contains("*"));
+
+        HttpResponse<String> reset = send("POST", "/games/" + sessionId + "/reset");
+        assertEquals(200, reset.statusCode());
+        assertTrue(reset.body().contains("\"________\""));
+
+        assertEquals(200, send("DELETE", "/games/" + sessionId).statusCode());
+        assertEquals(404, send("GET", "/games/" + sessionId).statusCode());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid requests with client errors")
+    void testInvalidRequests() throws Exception {
+        assertEquals(400, send("POST", "/games?size=8&mines=60").statusCode());
+        assertEquals(400, send("POST", "/games?size=8").statusCode());
+        assertEquals(404, send("POST", "/games/unknown/reveal?row=0&col=0").statusCode());
+        assertEquals(405, send("GET", "/games").statusCode());
+        assertEquals(400, send("POST", "/games?board=not-an-id!").statusCode());
+    }
+
+    @Test
+    @DisplayName("A shared board ID should open the same board in a new session")
+    void testCreateFromBoardId() throws Exception {
+        assertFalse(send("POST", "/games?size=9&mines=10&seed=" + (1L << 40)).body().contains("\"boardId\""));
+        HttpResponse<String> created = send("POST", "/games?size=9&mines=10&shareable=true");
+        String boardId = extract(created.body(), "\"boardId\":\"([^\"]+)\"");
+        String seed = extract(created.body(), "\"seed\":(\\d+)");
+
+        HttpResponse<String> shared = send("POST", "/games?board=" + boardId);
+
+        assertEquals(201, shared.statusCode());
+        assertTrue(shared.body().contains("\"seed\":" + seed + ","));
+        assertTrue(shared.body().contains("\"boardId\":\"" + boardId + "\""));
+        assertNotEquals(extract(created.body(), "\"sessionId\":\"([^\"]+)\""),
+                extract(shared.body(), "\"sessionId\":\"([^\"]+)\""));
+    }
+
+    @Test
+    @DisplayName("Reveals on a finished game should be rejected with 409")
+    void testRevealAfterGameOver() throws Exception {
+        MinesweeperGridPlay local = new MinesweeperGridPlay(6, 10, 0L);
+        int mine = 0;
+        int safe = 0;
+        while (!local.getBoard().hasMine(mine)) {
+            mine++;
+        }
+        while (local.getBoard().hasMine(safe)) {
+            safe++;
+        }
+        String sessionId = extract(send("POST", "/games?size=6&mines=10&seed=0").body(),
+                "\"sessionId\":\"([^\"]+)\"");
+
+        HttpResponse<String> hit = send("POST", "/games/" + sessionId + "/reveal?row=" + mine / 6 + "&col=" + mine % 6);
+        assertEquals(200, hit.statusCode());
+        assertTrue(hit.body().contains("MINE_HIT"));
+
+        assertEquals(409, send("POST", "/games/" + sessionId + "/reveal?row=" + safe / 6 + "&col=" + safe % 6)
+                .statusCode());
+        assertEquals(409, send("POST", "/games/" + sessionId + "/reveal-batch?moves=" + safe / 6 + "," + safe % 6)
+                .statusCode());
+        assertTrue(send("GET", "/games/" + sessionId).body().contains("\"state\":\"LOST\""));
+        assertTrue(send("GET", "/games/" + sessionId).body().contains("\"seed\":0,"));
+    }
+
+    @Test
+    @DisplayName("A game in play should not reveal a seed the client did not choose")
+    void testSeedHiddenWhilePlaying() throws Exception {
+        HttpResponse<String> created = send("POST", "/games?size=9&mines=10&mode=FIRST_CLICK_SAFE");
+        String sessionId = extract(created.body(), "\"sessionId\":\"([^\"]+)\"");
+        assertFalse(created.body().contains("\"seed\""));
+        assertFalse(send("GET", "/games/" + sessionId).body().contains("\"seed\""));
+
+        String seeded = extract(send("POST", "/games?size=9&mines=10&seed=7").body(), "\"sessionId\":\"([^\"]+)\"");
+        assertFalse(send("GET", "/games/" + seeded).body().contains("\"seed\""));
+        assertFalse(send("GET", "/games/" + seeded).body().contains("\"boardId\""));
+
+        // Games created with a small seed still keep their board ID to themselves while in play
+        String shared = extract(send("POST", "/games?size=9&mines=10&shareable=true").body(),
+                "\"sessionId\":\"([^\"]+)\"");
+        assertFalse(send("GET", "/games/" + shared).body().contains("\"boardId\""));
+    }
+
+    @Test
+    @DisplayName("Oversized NO_GUESS games, and NO_GUESS board IDs, should be rejected")
+    void testRejectsOversizedNoGuess() throws Exception {
+        int size = NoGuessBoardGenerator.MAX_SIZE + 1;
+        long noGuessId = BoardId.of(9, 10, 1L, BoardGenerationMode.EAGER).toLong()
+                | ((long) BoardGenerationMode.NO_GUESS.ordinal() << 62);
+
+        assertEquals(400, send("POST", "/games?size=" + size + "&mines=" + size + "&mode=NO_GUESS").statusCode());
+        assertEquals(400, send("POST", "/games?board=" + Long.toUnsignedString(noGuessId, 36)).statusCode());
+        assertEquals(201, send("POST", "/games?size=" + size + "&mines=" + size + "&mode=FIRST_CLICK_SAFE")
+                .statusCode());
+    }
+
+    @Test
+    @DisplayName("JSON writer should escape strings and place commas correctly")
+    void testJsonWriter() {
+        String json = new JsonWriter(16).beginObject()
+                .name("a").value("x\"y")
+                .name("b").beginArray().value(1).value(true).endArray()
+                .name("c").beginObject().endObject()
+                .endObject().toJson();
+
+        assertEquals("{\"a\":\"x\\\"y\",\"b\":[1,true],\"c\":{}}", json);
+    }
+
+    private HttpResponse<String> send(String method, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String extract(String body, String regex) {
+        Matcher matcher = Pattern.compile(regex).matcher(body);
+        assertTrue(matcher.find(), body);
+        return matcher.group(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        sessionManager.close();
+    }
+}
@@ -0,0 +1,116 @@
+package test;
+
+import dto.*;
+import exception.GameException;
+import gameSession.GameSessionManager;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for GameSessionManager
+ */
+public class GameSessionManagerTest {
+
+    private GameSessionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new GameSessionManager(60_000, 50);
+    }
+
+    @Test
+    @DisplayName("Should host many games and play them concurrently")
+    void testConcurrentSessions() {
+        List<CompletableFuture<String>> created = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            created.add(manager.createGame(10, 10, i, BoardGenerationMode.FIRST_CLICK_SAFE));
+        }
+
+        List<CompletableFuture<RevealResult>> reveals = new ArrayList<>();
+        for (CompletableFuture<String> sessionId : created) {
+            String id = sessionId.join();
+            for (int move = 0; move < 5; move++) {
+                reveals.add(manager.reveal(id, move, move));
+            }
+        }
+        CompletableFuture.allOf(reveals.toArray(CompletableFuture<?>[]::new)).join();
+
+        assertEquals(500, manager.getActiveSessionCount());
+        for (CompletableFuture<String> sessionId : created) {
+            // Every game has applied at least its first (always safe) reveal
+            int revealed = manager.withGame(sessionId.join(), game -> {
+                int count = 0;
+                for (int row = 0; row < game.getSize(); row++) {
+                    for (int col = 0; col < game.getSize(); col++) {
+                        count += game.isRevealed(row, col) ? 1 : 0;
+                    }
+                }
+                return count;
+            }).join();
+            assertTrue(revealed >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Reveals after a loss should leave the session's game unchanged")
+    void testNoRevealsAfterGameOver() throws Exception {
+        String sessionId = manager.createGame(6, 10, 0L, BoardGenerationMode.EAGER).join();
+        int mine = manager.callLocked(sessionId, game -> {
+            int index = 0;
+            while (!game.getBoard().hasMine(index)) {
+                index++;
+            }
+            return index;
+        });
+        assertEquals(RevealResultType.MINE_HIT, manager.revealNow(sessionId, mine / 6, mine % 6).getType());
+
+        for (int index = 0; index < 36; index++) {
+            assertEquals(RevealResultType.GAME_OVER, manager.revealNow(sessionId, index / 6, index % 6).getType());
+        }
+        assertEquals(RevealResultType.GAME_OVER,
+                manager.revealAllNow(sessionId, new int[]{0, 5}, new int[]{0, 5}).getType());
+        assertEquals(GameState.LOST, manager.getGameState(sessionId).join());
+        int revealed = manager.callLocked(sessionId, game -> {
+            int count = 0;
+            for (int index = 0; index < 36; index++) {
+                count += game.getBoard().isRevealed(index) ? 1 : 0;
+            }
+            return count;
+        });
+        assertEquals(1, revealed);
+    }
+
+    @Test
+    @DisplayName("Should fail operations on unknown sessions")
+    void testUnknownSession() {
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> manager.reveal("missing", 0, 0).join());
+        assertTrue(error.getCause() instanceof GameException);
+    }
+
+    @Test
+    @DisplayName("Should expire idle sessions")
+    void testIdleExpiry() throws Exception {
+        try (GameSessionManager shortLived = new GameSessionManager(100, 10)) {
+            String sessionId = shortLived.createGame(4, 2).join();
+            assertTrue(shortLived.hasSession(sessionId));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (shortLived.hasSession(sessionId) && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertFalse(shortLived.hasSession(sessionId));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.close();
+    }
+}
@@ -0,0 +1,130 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSession.GameSessionManager;
+import gameStorage.GameSnapshotStore;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.BoardAssertions.*;
+
+/**
+ * JUnit 5 tests for GameSnapshotStore and session checkpoints
+ */
+public class GameSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Saved game should resume exactly where it stopped")
+    void testSaveAndLoadGameInProgress() throws IOException {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(40, 200, 21L);
+        MinesweeperGridPlay reference = new MinesweeperGridPlay(40, 200, 21L);
+        List<Position> safeCells = safeCells(game);
+        for (Position move : safeCells.subList(0, 10)) {
+            game.revealCell(move);
+            reference.revealCell(move);
+        }
+
+        Path file = directory.resolve("game.snapshot");
+        GameSnapshotStore.save(game, file);
+        MinesweeperGridPlay restored = GameSnapshotStore.load(file);
+
+        assertEquals(GameSnapshotStore.gameBytes(game), Files.size(file));
+        assertSameGame(game, restored);
+
+        // Play continues identically after the restore
+        for (Position move : safeCells) {
+            RevealResult expected = reference.revealCell(move);
+            RevealResult actual = restored.revealCell(move);
+            assertEquals(expected.getType(), actual.getType());
+            assertEquals(expected.getRevealedPositions(), actual.getRevealedPositions());
+        }
+        assertEquals(GameState.WON, restored.getGameState());
+    }
+
+    @Test
+    @DisplayName("Ungenerated lazy game should still place mines on first reveal after restore")
+    void testSaveAndLoadLazyGame() throws IOException {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(9, 10, 4L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        Path file = directory.resolve("lazy.snapshot");
+
+        GameSnapshotStore.save(game, file);
+        MinesweeperGridPlay restored = GameSnapshotStore.load(file);
+
+        assertFalse(restored.isBoardGenerated());
+        assertEquals(BoardGenerationMode.FIRST_CLICK_SAFE, restored.getGenerationMode());
+        assertTrue(restored.revealCell(4, 4).isSuccess());
+        assertEquals(10, restored.getMinePositions().size());
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not snapshots")
+    void testRejectsCorruptFile() throws IOException {
+        Path file = directory.resolve("garbage.snapshot");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IOException.class, () -> GameSnapshotStore.load(file));
+        assertThrows(IOException.class, () -> GameSnapshotStore.readCheckpoint(file));
+    }
+
+    @Test
+    @DisplayName("Checkpoint should restore every live session under its ID")
+    void testCheckpointAndRestoreSessions() throws Exception {
+        Path file = directory.resolve("sessions.checkpoint");
+        List<String> sessionIds = new ArrayList<>();
+
+        try (GameSessionManager manager = new GameSessionManager(60_000, 50)) {
+            for (int i = 0; i < 20; i++) {
+                String id = manager.createGame(10 + i, 5 + i, i, BoardGenerationMode.EAGER).join();
+                manager.reveal(id, 0, 0).join();
+                sessionIds.add(id);
+            }
+            assertEquals(20, manager.checkpoint(file));
+
+            Map<String, MinesweeperGridPlay> saved = GameSnapshotStore.readCheckpoint(file);
+            assertEquals(sessionIds.size(), saved.size());
+            assertTrue(saved.keySet().containsAll(sessionIds));
+
+            try (GameSessionManager restarted = new GameSessionManager(60_000, 50)) {
+                assertEquals(20, restarted.restoreCheckpoint(file));
+                for (String id : sessionIds) {
+                    MinesweeperGridPlay original = manager.callLocked(id, game -> game);
+                    MinesweeperGridPlay restored = restarted.callLocked(id, game -> game);
+                    assertSameGame(original, restored);
+                }
+
+                // Restoring again must not replace sessions that are already live
+                String played = sessionIds.get(0);
+                restarted.reveal(played, 9, 9).join();
+                MinesweeperGridPlay live = restarted.callLocked(played, game -> game);
+                assertEquals(0, restarted.restoreCheckpoint(file));
+                assertEquals(20, restarted.getActiveSessionCount());
+                assertSame(live, restarted.callLocked(played, game -> game));
+            }
+        }
+    }
+
+    // Helper methods
+    private List<Position> safeCells(MinesweeperGridPlay game) {
+        List<Position> cells = new ArrayList<>();
+        for (int row = 0; row < game.getSize(); row++) {
+            for (int col = 0; col < game.getSize(); col++) {
+                if (!game.hasMine(row, col)) {
+                    cells.add(new Position(row, col));
+                }
+            }
+        }
+        return cells;
+    }
+}
@@ -0,0 +1,133 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import org.junit.jupiter.api.*;
+import userService.GridRenderer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the buffered GridRenderer
+ */
+public class GridRendererTest {
+
+    private static final String NL = System.lineSeparator();
+
+    private ByteArrayOutputStream output;
+    private PrintStream stream;
+
+    @BeforeEach
+    void setUp() {
+        output = new ByteArrayOutputStream();
+        stream = new PrintStream(output, true, StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    @DisplayName("Full frame should match the original per-cell layout")
+    void testFullFrameLayout() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(3, 1, 5L);
+        Position mine = game.getMinePositions().iterator().next();
+        GridRenderer renderer = new GridRenderer(stream, false);
+
+        renderer.renderFull(game, "Final minefield:", true);
+
+        StringBuilder expected = new StringBuilder(NL + "Final minefield:" + NL + "  1 2 3 " + NL);
+        for (int row = 0; row < 3; row++) {
+            expected.append((char) ('A' + row)).append(' ');
+            for (int col = 0; col < 3; col++) {
+                expected.append(row == mine.getRow() && col == mine.getColumn() ? '*' : '_').append(' ');
+            }
+            expected.append(NL);
+        }
+        expected.append(NL);
+
+        assertEquals(expected.toString(), text());
+        assertEquals(expected.length(), renderer.getLastFrameLength());
+    }
+
+    @Test
+    @DisplayName("Without ANSI every change should redraw the full frame")
+    void testPlainModeRedrawsFullFrame() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(8, 5, 9L);
+        GridRenderer renderer = new GridRenderer(stream, false);
+        renderer.renderFull(game, "Here is your minefield:", false);
+        int fullLength = renderer.getLastFrameLength();
+
+        RevealResult result = game.revealCell(findSafeCell(game));
+        renderer.renderChanges(game, result, "Here is your minefield:");
+
+        assertEquals(fullLength, renderer.getLastFrameLength());
+        assertFalse(text().contains("\033["));
+    }
+
+    @Test
+    @DisplayName("ANSI mode should repaint only the rows a reveal touched")
+    void testAnsiModeRepaintsDirtyRows() {
+        int size = 20;
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, 150, 13L);
+        GridRenderer renderer = new GridRenderer(stream, true);
+        renderer.renderFull(game, "Here is your minefield:", false);
+        int fullLength = renderer.getLastFrameLength();
+        output.reset();
+
+        Position safe = findNumberedCell(game);
+        RevealResult result = game.revealCell(safe);
+        renderer.renderChanges(game, result, "Here is your minefield:");
+
+        String frame = text();
+        String rowLine = "\033[" + (4 + safe.getRow()) + ";1H";
+        assertTrue(frame.startsWith(rowLine), frame);
+        assertEquals(2, frame.split(";1H", -1).length - 1);   // One row plus the cursor park
+        assertTrue(frame.contains((char) ('A' + safe.getRow()) + " "));
+        assertTrue(renderer.getLastFrameLength() * 5 < fullLength);
+    }
+
+    @Test
+    @DisplayName("ANSI mode should redraw in full after the board changes")
+    void testAnsiModeRedrawsAfterReset() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(8, 5, 9L);
+        GridRenderer renderer = new GridRenderer(stream, true);
+        renderer.renderFull(game, "Here is your minefield:", false);
+        int fullLength = renderer.getLastFrameLength();
+
+        game.resetGame();
+        RevealResult result = game.revealCell(findSafeCell(game));
+        output.reset();
+        renderer.renderChanges(game, result, "Here is your minefield:");
+
+        assertTrue(text().startsWith("\033[2J\033[H"));
+        assertEquals(fullLength, renderer.getLastFrameLength());
+    }
+
+    // Helper methods
+    private String text() {
+        return output.toString(StandardCharsets.US_ASCII);
+    }
+
+    private Position findSafeCell(MinesweeperGridPlay game) {
+        for (int row = 0; row < game.getSize(); row++) {
+            for (int col = 0; col < game.getSize(); col++) {
+                if (!game.hasMine(row, col)) {
+                    return new Position(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No safe cell on test board");
+    }
+
+    private Position findNumberedCell(MinesweeperGridPlay game) {
+        for (int row = 0; row < game.getSize(); row++) {
+            for (int col = 0; col < game.getSize(); col++) {
+                if (!game.hasMine(row, col) && game.getAdjacentMineCount(row, col) > 0) {
+                    return new Position(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No numbered cell on test board");
+    }
+}
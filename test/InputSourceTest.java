@@ -0,0 +1,135 @@
+package test;
+
+import controller.GameController;
+import dto.*;
+import exception.InputExhaustedException;
+import gamePlay.MinesweeperGridPlay;
+import org.junit.jupiter.api.*;
+import userService.GameDisplayService;
+import userService.GridRenderer;
+import userService.QueueInputSource;
+import userService.ScriptInputSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the batch input sources and script-driven play
+ */
+public class InputSourceTest {
+
+    @Test
+    @DisplayName("Script lines should survive buffer boundaries, CRLF endings and comments")
+    void testScriptLineSplitting() {
+        String script = "# header comment\r\n12\r\n\r\n30\nF A1\n  \nC b2\nna\u00efve\nlast line without newline";
+        ScriptInputSource source = new ScriptInputSource(
+                Channels.newChannel(new ByteArrayInputStream(script.getBytes(StandardCharsets.UTF_8))), 7);
+
+        assertFalse(source.isInteractive());
+        assertEquals("12", source.nextLine());
+        assertEquals("30", source.nextLine());
+        assertEquals("F A1", source.nextLine());
+        assertEquals("C b2", source.nextLine());
+        assertEquals("na\u00efve", source.nextLine());
+        assertEquals("last line without newline", source.nextLine());
+        assertThrows(InputExhaustedException.class, source::nextLine);
+        assertThrows(InputExhaustedException.class, source::nextLine);
+    }
+
+    @Test
+    @DisplayName("Queue lines should arrive in order until the queue is finished")
+    void testQueueSource() throws InterruptedException {
+        QueueInputSource source = new QueueInputSource("first");
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 1000; i++) {
+                source.offer("line " + i);
+            }
+            source.finish();
+        });
+        producer.start();
+
+        assertEquals("first", source.nextLine());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("line " + i, source.nextLine());
+        }
+        assertThrows(InputExhaustedException.class, source::nextLine);
+        assertThrows(InputExhaustedException.class, source::nextLine);
+        assertThrows(IllegalStateException.class, () -> source.offer("late"));
+        producer.join();
+    }
+
+    @Test
+    @DisplayName("A move script should drive the real controller without prompts and stop at its end")
+    void testScriptDrivesController() throws Exception {
+        // Win a seeded 6x6 game move by move, then start a second game the script abandons
+        MinesweeperGridPlay shadow = new MinesweeperGridPlay(6, 4, 42L);
+        StringBuilder script = new StringBuilder("6\n4\n");
+        Position mine = shadow.getMinePositions().iterator().next();
+        script.append("F ").append(name(mine)).append('\n');
+        for (int index = 0; index < 36 && shadow.getGameState() == GameState.PLAYING; index++) {
+            Position position = new Position(index / 6, index % 6);
+            if (!shadow.hasMine(position.getRow(), position.getColumn())
+                    && !shadow.isRevealed(position.getRow(), position.getColumn())) {
+                shadow.revealCell(position);
+                script.append(name(position)).append('\n');
+            }
+        }
+        script.append("y\n6\n4\n");
+
+        Path file = Files.createTempFile("moves", ".txt");
+        Files.writeString(file, script);
+        String output;
+        PrintStream console = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        try (ScriptInputSource source = new ScriptInputSource(file)) {
+            System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+            GameDisplayService display = new GameDisplayService(new GridRenderer(System.out, false));
+            new GameController(source, display, () -> 42L).playGame();
+        } finally {
+            System.setOut(console);
+            Files.delete(file);
+        }
+        output = captured.toString(StandardCharsets.UTF_8);
+
+        assertEquals(GameState.WON, shadow.getGameState());
+        assertTrue(output.contains("Flag placed. 3 mines left to flag."));
+        assertTrue(output.contains("Congratulations, you have won the game!"));
+        assertTrue(output.contains("Thanks for playing Minesweeper!"));
+        assertFalse(output.contains("Enter the size of the grid"));
+        assertFalse(output.contains("Select a square"));
+        assertFalse(output.contains("Error during game"));
+    }
+
+    @Test
+    @DisplayName("Without ANSI, the grid should be shown again after invalid input")
+    void testGridRedrawnAfterInvalidInput() {
+        String output;
+        PrintStream console = System.out;
+        ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        try (QueueInputSource source = new QueueInputSource("4", "2", "Z9")) {
+            source.finish();
+            System.setOut(new PrintStream(captured, true, StandardCharsets.UTF_8));
+            GameDisplayService display = new GameDisplayService(new GridRenderer(System.out, false));
+            new GameController(source, display, () -> 42L).playGame();
+        } finally {
+            System.setOut(console);
+        }
+        output = captured.toString(StandardCharsets.UTF_8);
+
+        int error = output.indexOf("Invalid position");
+        assertTrue(error > output.indexOf("Here is your minefield:"));
+        assertTrue(output.indexOf("Here is your minefield:", error) > error);
+    }
+
+    // Helper methods
+    private String name(Position position) {
+        return (char) ('A' + position.getRow()) + String.valueOf(position.getColumn() + 1);
+    }
+}
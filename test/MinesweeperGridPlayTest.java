@@ -1,8 +1,15 @@
 package test;
 
+import config.GameConfiguration;
 import dto.*;
+import gamePlay.FrontierSet;
 import gamePlay.MinesweeperGridPlay;
 import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -102,7 +109,391 @@ public class MinesweeperGridPlayTest {
         assertFalse(game.getCell(safePosition).isRevealed());
     }
 
+    @Test
+    @DisplayName("Should generate identical boards from the same seed")
+    void testSeededBoardsAreReproducible() {
+        MinesweeperGridPlay first = new MinesweeperGridPlay(20, 80, 42L);
+        MinesweeperGridPlay second = new MinesweeperGridPlay(20, 80, 42L);
+
+        assertEquals(42L, first.getSeed());
+        assertEquals(first.getMinePositions(), second.getMinePositions());
+
+        first.resetGame();
+        second.resetGame();
+        assertEquals(first.getSeed(), second.getSeed());
+        assertEquals(first.getMinePositions(), second.getMinePositions());
+    }
+
+    @Test
+    @DisplayName("Should place exact number of mines at maximum density")
+    void testMinePlacementAtMaximumDensity() {
+        int size = 40;
+        int mines = GameConfiguration.getMaxMines(size);
+        MinesweeperGridPlay denseGame = new MinesweeperGridPlay(size, mines, 7L);
+
+        assertEquals(mines, denseGame.getMinePositions().size());
+    }
+
+    @Test
+    @DisplayName("Lazy mode should defer mines until the first reveal and keep it safe")
+    void testFirstClickSafeGeneration() {
+        for (long seed = 0; seed < 50; seed++) {
+            MinesweeperGridPlay lazyGame = new MinesweeperGridPlay(9, 25, seed,
+                    BoardGenerationMode.FIRST_CLICK_SAFE);
+            assertFalse(lazyGame.isBoardGenerated());
+            assertTrue(lazyGame.getMinePositions().isEmpty());
+
+            RevealResult result = lazyGame.revealCell(4, 4);
+
+            assertTrue(lazyGame.isBoardGenerated());
+            assertEquals(25, lazyGame.getMinePositions().size());
+            assertTrue(result.isSuccess());
+            assertEquals(0, result.getAdjacentMineCount());
+            for (Position neighbor : lazyGame.getAdjacentPositions(4, 4)) {
+                assertFalse(lazyGame.hasMine(neighbor.getRow(), neighbor.getColumn()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Lazy mode should be reproducible from seed and first click")
+    void testFirstClickSafeReproducible() {
+        MinesweeperGridPlay first = new MinesweeperGridPlay(12, 30, 99L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        MinesweeperGridPlay second = new MinesweeperGridPlay(12, 30, 99L, BoardGenerationMode.FIRST_CLICK_SAFE);
+
+        first.revealCell(0, 0);
+        second.revealCell(0, 0);
+
+        assertEquals(first.getMinePositions(), second.getMinePositions());
+        for (int row = 0; row < 12; row++) {
+            for (int col = 0; col < 12; col++) {
+                if (!first.hasMine(row, col)) {
+                    assertEquals(countNeighborMines(first, row, col), first.getAdjacentMineCount(row, col));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Batch reveal should match revealing the same moves one by one")
+    void testBatchRevealMatchesSequentialReveals() {
+        MinesweeperGridPlay batchGame = new MinesweeperGridPlay(12, 20, 3L);
+        MinesweeperGridPlay sequentialGame = new MinesweeperGridPlay(12, 20, 3L);
+        List<Position> safeMoves = new ArrayList<>();
+        for (int row = 0; row < 12; row++) {
+            for (int col = 0; col < 12; col++) {
+                if (!batchGame.hasMine(row, col)) {
+                    safeMoves.add(new Position(row, col));
+                }
+            }
+        }
+
+        BatchRevealResult batch = batchGame.revealCells(safeMoves);
+        List<Position> sequential = new ArrayList<>();
+        for (Position move : safeMoves) {
+            RevealResult result = sequentialGame.revealCell(move);
+            if (result.getType() != RevealResultType.ALREADY_REVEALED) {
+                sequential.addAll(result.getRevealedPositions());
+            }
+        }
+
+        assertEquals(RevealResultType.GAME_WON, batch.getType());
+        assertEquals(GameState.WON, batchGame.getGameState());
+        assertEquals(sequential, batch.getRevealedPositions());
+        assertEquals(safeMoves.size(), batch.getRequestedMoves());
+    }
+
+    @Test
+    @DisplayName("Batch reveal should stop at the first mine")
+    void testBatchRevealStopsAtMine() {
+        Position mine = game.getMinePositions().iterator().next();
+        Position safe = findSafeCell();
+
+        BatchRevealResult result = game.revealCells(List.of(mine, safe));
+
+        assertEquals(RevealResultType.MINE_HIT, result.getType());
+        assertEquals(1, result.getAppliedMoves());
+        assertFalse(result.isComplete());
+        assertFalse(game.getCell(safe).isRevealed());
+    }
+
+    @Test
+    @DisplayName("Batch reveal should reject invalid moves before applying any")
+    void testBatchRevealValidatesFirst() {
+        Position safe = findSafeCell();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> game.revealCells(List.of(safe, new Position(-1, 0))));
+        assertFalse(game.getCell(safe).isRevealed());
+    }
+
+    @Test
+    @DisplayName("Streaming reveal should visit the same cells the list result holds")
+    void testStreamingRevealMatchesListResult() {
+        MinesweeperGridPlay listGame = new MinesweeperGridPlay(30, 60, 11L);
+        MinesweeperGridPlay streamGame = new MinesweeperGridPlay(30, 60, 11L);
+        Position start = findZeroCell(listGame);
+
+        RevealResult listed = listGame.revealCell(start.getRow(), start.getColumn());
+        List<Position> streamed = new ArrayList<>();
+        RevealResult counted = streamGame.revealCell(start.getRow(), start.getColumn(),
+                index -> streamed.add(new Position(index / 30, index % 30)));
+
+        assertEquals(listed.getType(), counted.getType());
+        assertEquals(listed.getRevealedPositions(), streamed);
+        assertEquals(streamed.size(), counted.getRevealedCount());
+        assertTrue(counted.getRevealedCells().isStreamed());
+        assertTrue(counted.getRevealedPositions().isEmpty());
+
+        // Each call hands out a fresh list the caller may change
+        listed.getRevealedPositions().clear();
+        assertEquals(streamed, listed.getRevealedPositions());
+
+        // Clicking a revealed square reports that square on both paths
+        streamed.clear();
+        listed = listGame.revealCell(start.getRow(), start.getColumn());
+        counted = streamGame.revealCell(start.getRow(), start.getColumn(),
+                index -> streamed.add(new Position(index / 30, index % 30)));
+        assertEquals(RevealResultType.ALREADY_REVEALED, counted.getType());
+        assertEquals(listed.getRevealedPositions(), streamed);
+        assertEquals(List.of(start), streamed);
+    }
+
+    @Test
+    @DisplayName("Run-length results should hold the same cells as index results")
+    void testRunLengthRevealResult() {
+        MinesweeperGridPlay listGame = new MinesweeperGridPlay(30, 60, 11L);
+        MinesweeperGridPlay runGame = new MinesweeperGridPlay(30, 60, 11L);
+        runGame.setRunLengthResults(true);
+        Position start = findZeroCell(listGame);
+
+        RevealResult listed = listGame.revealCell(start.getRow(), start.getColumn());
+        RevealResult runs = runGame.revealCell(start.getRow(), start.getColumn());
+
+        List<Position> expected = new ArrayList<>(listed.getRevealedPositions());
+        expected.sort((a, b) -> a.getRow() != b.getRow()
+                ? Integer.compare(a.getRow(), b.getRow()) : Integer.compare(a.getColumn(), b.getColumn()));
+        assertTrue(runs.getRevealedCells().isRunLengthEncoded());
+        assertTrue(runs.getRevealedCells().getRunCount() <= runs.getRevealedCount());
+        assertEquals(expected, runs.getRevealedPositions());
+        assertEquals(listed.getRevealedCount(), runs.getRevealedCount());
+    }
+
+    @Test
+    @DisplayName("A lost game should stay lost however many safe squares are revealed afterwards")
+    void testNoMovesAfterMineHit() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(6, 10, 0L);
+        int mine = 0;
+        while (!game.getBoard().hasMine(mine)) {
+            mine++;
+        }
+
+        assertEquals(RevealResultType.MINE_HIT, game.revealCell(mine / 6, mine % 6).getType());
+        assertEquals(0, game.getRevealedCells());
+        for (int index = 0; index < 36; index++) {
+            if (!game.getBoard().hasMine(index)) {
+                RevealResult result = game.revealCell(index / 6, index % 6);
+                assertEquals(RevealResultType.GAME_OVER, result.getType());
+                assertEquals(0, result.getRevealedCount());
+            }
+        }
+
+        assertEquals(GameState.LOST, game.getGameState());
+        assertEquals(0, game.getRevealedCells());
+        assertEquals(RevealResultType.GAME_OVER, game.revealCells(new int[]{0, 1}, new int[]{0, 1}).getType());
+        assertEquals(RevealResultType.GAME_OVER, game.chordCell(0, 0).getType());
+    }
+
+    @Test
+    @DisplayName("Flag counts should follow every flag change and block reveals")
+    void testFlagCounters() {
+        MinesweeperGridPlay target = new MinesweeperGridPlay(8, 10, 21L);
+        SplittableRandom random = new SplittableRandom(4);
+        for (int step = 0; step < 200; step++) {
+            int row = random.nextInt(8);
+            int col = random.nextInt(8);
+            target.setFlagged(row, col, random.nextBoolean());
+        }
+
+        int flags = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                flags += target.isFlagged(row, col) ? 1 : 0;
+                int expected = 0;
+                for (Position neighbor : target.getAdjacentPositions(row, col)) {
+                    expected += target.isFlagged(neighbor.getRow(), neighbor.getColumn()) ? 1 : 0;
+                }
+                assertEquals(expected, target.getFlaggedNeighborCount(row, col));
+            }
+        }
+        assertEquals(flags, target.getFlagCount());
+
+        Position flagged = findFlagged(target);
+        RevealResult result = target.revealCell(flagged);
+        assertEquals(RevealResultType.FLAGGED, result.getType());
+        assertEquals(0, result.getRevealedCount());
+        assertFalse(target.isRevealed(flagged.getRow(), flagged.getColumn()));
+
+        target.resetGame();
+        assertEquals(0, target.getFlagCount());
+        assertEquals(0, target.getFlaggedNeighborCount(flagged.getRow(), flagged.getColumn()));
+    }
+
+    @Test
+    @DisplayName("Chord should open the unflagged neighbours once the flags match the number")
+    void testChordReveal() {
+        MinesweeperGridPlay target = new MinesweeperGridPlay(9, 10, 8L);
+        Position number = findNumberCell(target);
+        target.revealCell(number);
+        assertFalse(target.setFlagged(number.getRow(), number.getColumn(), true));
+
+        // Flags do not match yet: nothing happens
+        RevealResult early = target.chordCell(number);
+        assertEquals(RevealResultType.ALREADY_REVEALED, early.getType());
+        assertEquals(0, early.getRevealedCount());
+
+        List<Position> neighbors = target.getAdjacentPositions(number.getRow(), number.getColumn());
+        for (Position neighbor : neighbors) {
+            if (target.hasMine(neighbor.getRow(), neighbor.getColumn())) {
+                target.setFlagged(neighbor.getRow(), neighbor.getColumn(), true);
+            }
+        }
+        RevealResult result = target.chordCell(number);
+
+        assertNotEquals(RevealResultType.MINE_HIT, result.getType());
+        assertTrue(result.getRevealedCount() > 0);
+        for (Position neighbor : neighbors) {
+            assertEquals(!target.hasMine(neighbor.getRow(), neighbor.getColumn()),
+                    target.isRevealed(neighbor.getRow(), neighbor.getColumn()));
+        }
+    }
+
+    @Test
+    @DisplayName("A wrong flag should make the chord hit a mine")
+    void testChordWithWrongFlagHitsMine() {
+        MinesweeperGridPlay target = new MinesweeperGridPlay(9, 10, 8L);
+        Position number = findNumberCell(target);
+        target.revealCell(number);
+
+        // Flag safe neighbours instead of the mines
+        int flags = target.getAdjacentMineCount(number.getRow(), number.getColumn());
+        for (Position neighbor : target.getAdjacentPositions(number.getRow(), number.getColumn())) {
+            if (flags > 0 && !target.hasMine(neighbor.getRow(), neighbor.getColumn())) {
+                target.setFlagged(neighbor.getRow(), neighbor.getColumn(), true);
+                flags--;
+            }
+        }
+        assertEquals(0, flags);
+
+        assertEquals(RevealResultType.MINE_HIT, target.chordCell(number).getType());
+        assertEquals(GameState.LOST, target.getGameState());
+    }
+
+    @Test
+    @DisplayName("Cascades should stop at flagged squares")
+    void testCascadeSkipsFlaggedCells() {
+        MinesweeperGridPlay target = new MinesweeperGridPlay(10, 5, 3L);
+        Position zero = findZeroCell(target);
+        Position neighbor = target.getAdjacentPositions(zero.getRow(), zero.getColumn()).get(0);
+        target.setFlagged(neighbor.getRow(), neighbor.getColumn(), true);
+
+        RevealResult result = target.revealCell(zero);
+
+        assertTrue(result.getRevealedCount() > 1);
+        assertFalse(target.isRevealed(neighbor.getRow(), neighbor.getColumn()));
+        assertFalse(result.getRevealedPositions().contains(neighbor));
+    }
+
+    @Test
+    @DisplayName("The frontier should track reveals, cascades and chords incrementally")
+    void testFrontierIsMaintained() {
+        MinesweeperGridPlay target = new MinesweeperGridPlay(20, 60, 12L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        FrontierSet frontier = target.getFrontier();
+        assertTrue(frontier.isEmpty());
+
+        target.revealCell(10, 10);
+        assertFrontier(target, frontier);
+
+        SplittableRandom random = new SplittableRandom(9);
+        while (target.getGameState() == GameState.PLAYING) {
+            int row = random.nextInt(20);
+            int col = random.nextInt(20);
+            if (!target.hasMine(row, col)) {
+                target.revealCell(row, col);
+            } else if (random.nextBoolean()) {
+                target.setFlagged(row, col, true);
+            } else {
+                target.revealCell(row, col);
+            }
+            assertFrontier(target, frontier);
+        }
+
+        // A frontier first requested mid-game starts from the same state
+        MinesweeperGridPlay copy = new MinesweeperGridPlay(20, 60, 12L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        copy.revealCell(10, 10);
+        copy.chordCell(10, 10);
+        assertFrontier(copy, copy.getFrontier());
+
+        target.resetGame();
+        assertTrue(frontier.isEmpty());
+        assertEquals(-1, frontier.nextIndex(0));
+    }
+
     // Helper method
+    private void assertFrontier(MinesweeperGridPlay target, FrontierSet frontier) {
+        List<Position> expected = new ArrayList<>();
+        for (int row = 0; row < target.getSize(); row++) {
+            for (int col = 0; col < target.getSize(); col++) {
+                if (target.isRevealed(row, col)) {
+                    continue;
+                }
+                for (Position neighbor : target.getAdjacentPositions(row, col)) {
+                    if (target.isRevealed(neighbor.getRow(), neighbor.getColumn())
+                            && !target.hasMine(neighbor.getRow(), neighbor.getColumn())) {
+                        expected.add(new Position(row, col));
+                        break;
+                    }
+                }
+            }
+        }
+        assertEquals(expected, frontier.toPositions());
+        assertEquals(expected.size(), frontier.size());
+        assertEquals(expected.size(), frontier.toArray().length);
+    }
+
+    private Position findFlagged(MinesweeperGridPlay target) {
+        for (int row = 0; row < target.getSize(); row++) {
+            for (int col = 0; col < target.getSize(); col++) {
+                if (target.isFlagged(row, col)) {
+                    return new Position(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No flagged cell on test board");
+    }
+
+    private Position findNumberCell(MinesweeperGridPlay target) {
+        for (int row = 0; row < target.getSize(); row++) {
+            for (int col = 0; col < target.getSize(); col++) {
+                if (!target.hasMine(row, col) && countNeighborMines(target, row, col) > 0) {
+                    return new Position(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No number cell on test board");
+    }
+
+    private Position findZeroCell(MinesweeperGridPlay target) {
+        for (int row = 0; row < target.getSize(); row++) {
+            for (int col = 0; col < target.getSize(); col++) {
+                if (!target.hasMine(row, col) && countNeighborMines(target, row, col) == 0) {
+                    return new Position(row, col);
+                }
+            }
+        }
+        throw new IllegalStateException("No zero cell on test board");
+    }
+
     private Position findSafeCell() {
         for (int row = 0; row < TEST_GRID_SIZE; row++) {
             for (int col = 0; col < TEST_GRID_SIZE; col++) {
@@ -114,6 +505,16 @@ public class MinesweeperGridPlayTest {
         return null;
     }
 
+    private int countNeighborMines(MinesweeperGridPlay target, int row, int col) {
+        int count = 0;
+        for (Position neighbor : target.getAdjacentPositions(row, col)) {
+            if (target.hasMine(neighbor.getRow(), neighbor.getColumn())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     @AfterEach
     void tearDown() {
         game = null;
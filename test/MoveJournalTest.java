@@ -0,0 +1,247 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSession.GameSessionManager;
+import gameStorage.JournalGame;
+import gameStorage.MoveJournal;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.BoardAssertions.*;
+
+/**
+ * JUnit 5 tests for MoveJournal and JournalGame replay
+ */
+public class MoveJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Replay should rebuild the game at any move number")
+    void testReplayToAnyMove() throws IOException {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(12, 20, 8L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        List<MinesweeperGridPlay> history = new ArrayList<>();
+        long gameId;
+
+        try (MoveJournal journal = new MoveJournal(directory)) {
+            gameId = journal.startGame(game);
+            for (int move = 0; move < 12 && game.getGameState() == GameState.PLAYING; move++) {
+                int row = move;
+                int col = (move * 5) % 12;
+                game.revealCell(row, col);
+                journal.recordMove(gameId, game.getBoard().indexOf(row, col));
+                history.add(copyOf(game));
+            }
+            journal.flush().join();
+        }
+
+        JournalGame journaled = MoveJournal.readGames(directory).get(gameId);
+        assertEquals(history.size(), journaled.getMoveCount());
+        for (int move = 0; move < history.size(); move++) {
+            assertSameGame(history.get(move), journaled.replay(move + 1));
+        }
+        assertFalse(journaled.replay(0).isBoardGenerated());
+    }
+
+    @Test
+    @DisplayName("Replay of a NO_GUESS game should regenerate the same board")
+    void testReplayNoGuess() throws IOException {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(12, 24, 5L, BoardGenerationMode.NO_GUESS);
+        long gameId;
+
+        try (MoveJournal journal = new MoveJournal(directory)) {
+            gameId = journal.startGame(game);
+            game.revealCell(6, 6);
+            journal.recordMove(gameId, game.getBoard().indexOf(6, 6));
+            for (int index = 0, moves = 0; index < 144 && moves < 10; index++) {
+                if (!game.getBoard().hasMine(index) && !game.getBoard().isRevealed(index)) {
+                    game.revealCell(index / 12, index % 12);
+                    journal.recordMove(gameId, index);
+                    moves++;
+                }
+            }
+            journal.flush().join();
+        }
+
+        JournalGame journaled = MoveJournal.readGames(directory).get(gameId);
+        assertEquals(BoardGenerationMode.NO_GUESS, journaled.getGenerationMode());
+        assertSameGame(game, journaled.replay());
+    }
+
+    @Test
+    @DisplayName("Replay of a lost round should match the live board despite later reveals")
+    void testReplayAfterLoss() throws Exception {
+        MinesweeperGridPlay local = new MinesweeperGridPlay(6, 10, 0L);
+        int mine = 0;
+        int safe = 0;
+        while (!local.getBoard().hasMine(mine)) {
+            mine++;
+        }
+        while (local.getBoard().hasMine(safe)) {
+            safe++;
+        }
+
+        MinesweeperGridPlay live;
+        try (MoveJournal journal = new MoveJournal(directory);
+             GameSessionManager manager = new GameSessionManager(60_000, 50, journal)) {
+            String sessionId = manager.createGame(6, 10, 0L, BoardGenerationMode.EAGER).join();
+            manager.reveal(sessionId, mine / 6, mine % 6).join();
+            manager.reveal(sessionId, safe / 6, safe % 6).join();
+            manager.revealAll(sessionId, new int[]{safe / 6}, new int[]{safe % 6}).join();
+            live = manager.callLocked(sessionId, game -> game);
+            journal.flush().join();
+        }
+
+        JournalGame journaled = MoveJournal.readGames(directory).values().iterator().next();
+        assertEquals(GameState.LOST, live.getGameState());
+        assertEquals(GameState.LOST, journaled.getFinalState());
+        assertEquals(1, journaled.getMoveCount());
+        assertSameGame(live, journaled.replay());
+    }
+
+    @Test
+    @DisplayName("Concurrent appends should all become durable through group commit")
+    void testConcurrentGroupCommit() throws Exception {
+        int games = 16;
+        int movesPerGame = 200;
+
+        try (MoveJournal journal = new MoveJournal(directory, MoveJournal.DEFAULT_SEGMENT_BYTES, 200)) {
+            List<CompletableFuture<Void>> writers = new ArrayList<>();
+            for (int i = 0; i < games; i++) {
+                long gameId = journal.startGame(new MinesweeperGridPlay(30, 10, i));
+                writers.add(CompletableFuture.runAsync(() -> {
+                    List<CompletableFuture<Void>> durable = new ArrayList<>();
+                    for (int move = 0; move < movesPerGame; move++) {
+                        durable.add(journal.recordMove(gameId, move));
+                    }
+                    CompletableFuture.allOf(durable.toArray(CompletableFuture<?>[]::new)).join();
+                }));
+            }
+            CompletableFuture.allOf(writers.toArray(CompletableFuture<?>[]::new)).join();
+        }
+
+        Map<Long, JournalGame> journaled = MoveJournal.readGames(directory);
+        assertEquals(games, journaled.size());
+        for (JournalGame game : journaled.values()) {
+            assertEquals(movesPerGame, game.getMoveCount());
+            assertEquals(movesPerGame - 1, game.getMoveRow(movesPerGame - 1) * 30 + game.getMoveColumn(movesPerGame - 1));
+        }
+    }
+
+    @Test
+    @DisplayName("Compaction should fold finished games and keep unfinished ones replayable")
+    void testCompaction() throws IOException {
+        List<Long> finished = new ArrayList<>();
+        long unfinished;
+
+        try (MoveJournal journal = new MoveJournal(directory, 256, 0)) {
+            for (int i = 0; i < 10; i++) {
+                MinesweeperGridPlay game = new MinesweeperGridPlay(8, 6, i);
+                long gameId = journal.startGame(game);
+                playToEnd(journal, gameId, game);
+                journal.flush().join();
+                finished.add(gameId);
+            }
+            MinesweeperGridPlay open = new MinesweeperGridPlay(8, 6, 99L);
+            unfinished = journal.startGame(open);
+            journal.recordMove(unfinished, 0);
+            journal.flush().join();
+
+            assertTrue(journal.getSegmentCount() > 2);
+            Map<Long, JournalGame> before = MoveJournal.readGames(directory);
+
+            assertEquals(finished.size(), journal.compact());
+            assertEquals(2, journal.getSegmentCount());
+
+            // Appends keep working after compaction
+            journal.recordMove(unfinished, 1).join();
+
+            Map<Long, JournalGame> after = MoveJournal.readGames(directory);
+            for (long gameId : finished) {
+                assertTrue(after.get(gameId).isFinished());
+                assertEquals(before.get(gameId).getFinalState(), after.get(gameId).getFinalState());
+                assertSameGame(before.get(gameId).replay(), after.get(gameId).replay());
+            }
+            assertFalse(after.get(unfinished).isFinished());
+            assertEquals(2, after.get(unfinished).getMoveCount());
+        }
+
+        // A reopened journal continues after the highest game ID
+        try (MoveJournal reopened = new MoveJournal(directory)) {
+            assertEquals(unfinished + 1, reopened.startGame(new MinesweeperGridPlay(4, 2, 1L)));
+        }
+    }
+
+    @Test
+    @DisplayName("A torn record at the end of a segment should be ignored")
+    void testTornTail() throws IOException {
+        long gameId;
+        try (MoveJournal journal = new MoveJournal(directory)) {
+            gameId = journal.startGame(new MinesweeperGridPlay(5, 3, 2L));
+            journal.recordMove(gameId, 4).join();
+        }
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        Files.write(segment, new byte[]{12, 0, 0, 0, 2, 1}, StandardOpenOption.APPEND);
+
+        assertEquals(1, MoveJournal.readGames(directory).get(gameId).getMoveCount());
+    }
+
+    @Test
+    @DisplayName("Session manager should journal every reveal and the end of each round")
+    void testSessionManagerJournal() throws Exception {
+        MinesweeperGridPlay played;
+        try (MoveJournal journal = new MoveJournal(directory);
+             GameSessionManager manager = new GameSessionManager(60_000, 50, journal)) {
+            String sessionId = manager.createGame(6, 4, 3L, BoardGenerationMode.EAGER).join();
+            manager.reveal(sessionId, 0, 0).join();
+            manager.revealAll(sessionId, new int[]{5, 5}, new int[]{5, 0}).join();
+            played = manager.callLocked(sessionId, game -> game);
+            manager.resetGame(sessionId).join();
+            journal.flush().join();
+        }
+
+        Map<Long, JournalGame> journaled = MoveJournal.readGames(directory);
+        assertEquals(2, journaled.size());
+        JournalGame firstRound = journaled.values().iterator().next();
+        assertTrue(firstRound.isFinished());
+        assertEquals(3, firstRound.getMoveCount());
+        assertFalse(journaled.values().stream().skip(1).findFirst().orElseThrow().isFinished());
+        assertEquals(6, firstRound.getSize());
+        assertNotNull(played);
+    }
+
+    // Helper methods
+    private void playToEnd(MoveJournal journal, long gameId, MinesweeperGridPlay game) {
+        for (int index = 0; game.getGameState() == GameState.PLAYING; index++) {
+            game.revealCell(index / game.getSize(), index % game.getSize());
+            journal.recordMove(gameId, index);
+        }
+        journal.recordEnd(gameId, game.getGameState());
+    }
+
+    private MinesweeperGridPlay copyOf(MinesweeperGridPlay game) {
+        ByteBuffer cells = ByteBuffer.allocate(game.getBoard().getCellCount());
+        game.getBoard().writeTo(cells);
+        return MinesweeperGridPlay.restore(game.getSize(), game.getTotalMines(), game.getSeed(),
+                game.getGenerationMode(), game.isBoardGenerated(), game.isNoGuessGuaranteed(), game.getGameState(),
+                game.getRevealedCells(), cells.flip());
+    }
+}
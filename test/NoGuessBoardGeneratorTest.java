@@ -0,0 +1,151 @@
+package test;
+
+import dto.*;
+import gamePlay.FloydMinePlacement;
+import gamePlay.GenerationStats;
+import gamePlay.MinesweeperGridPlay;
+import gamePlay.NoGuessBoardGenerator;
+import gameSolver.DeterministicSolver;
+import gameServer.JsonWriter;
+import gameSolver.SolverResult;
+import gameStorage.GameSnapshotStore;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for NoGuessBoardGenerator and the NO_GUESS generation mode
+ */
+public class NoGuessBoardGeneratorTest {
+
+    @Test
+    @DisplayName("NO_GUESS boards should be cleared by deductions alone from the first click")
+    void testBoardsAreSolvableWithoutGuessing() {
+        DeterministicSolver solver = new DeterministicSolver();
+
+        for (long seed = 0; seed < 20; seed++) {
+            MinesweeperGridPlay game = new MinesweeperGridPlay(16, 40, seed, BoardGenerationMode.NO_GUESS);
+            assertFalse(game.isBoardGenerated());
+            game.revealCell(8, 8);
+
+            while (game.getGameState() == GameState.PLAYING) {
+                SolverResult result = solver.solve(game);
+                assertTrue(result.getSafeCount() > 0, "seed " + seed + " needs a guess");
+                for (Position safe : result.getSafePositions()) {
+                    game.revealCell(safe);
+                }
+            }
+            assertEquals(GameState.WON, game.getGameState(), "seed " + seed);
+            assertEquals(40, countMines(game.getBoard()));
+        }
+    }
+
+    @Test
+    @DisplayName("The board should depend only on seed and opening, not on parallelism")
+    void testDeterministicAcrossParallelism() {
+        PackedBoard sequential = generate(new NoGuessBoardGenerator(1, 256), 77L);
+        PackedBoard parallel = generate(new NoGuessBoardGenerator(8, 256), 77L);
+        PackedBoard again = generate(new NoGuessBoardGenerator(8, 256), 77L);
+
+        for (int index = 0; index < sequential.getCellCount(); index++) {
+            assertEquals(sequential.hasMine(index), parallel.hasMine(index));
+            assertEquals(sequential.hasMine(index), again.hasMine(index));
+        }
+    }
+
+    @Test
+    @DisplayName("Stats should count boards, candidates and fall back when nothing passes")
+    void testStatsAndFallback() {
+        NoGuessBoardGenerator generator = new NoGuessBoardGenerator(2, 2);
+        PackedBoard board = new PackedBoard(10);
+
+        // 60 mines on 100 squares: no candidate can be solved, so candidate 0 is placed
+        boolean found = generator.generate(board, 60, 5L, 0, new int[]{0},
+                new FloydMinePlacement(), SplittableRandom::new);
+
+        assertFalse(found);
+        assertEquals(60, countMines(board));
+        assertFalse(board.hasMine(0));
+
+        GenerationStats stats = generator.statsFor(10, 60);
+        assertEquals(1, stats.getBoards());
+        assertEquals(1, stats.getFallbacks());
+        assertEquals(0, stats.getValidBoards());
+        assertEquals(2, stats.getCandidates());
+        assertTrue(generator.report().startsWith("size=10 mines=60:"));
+    }
+
+    @Test
+    @DisplayName("Larger boards should get fewer candidates, with the same result at any parallelism")
+    void testCandidateLimitIsDeterministic() {
+        NoGuessBoardGenerator generator = new NoGuessBoardGenerator();
+        assertEquals(256, generator.candidateLimit(16));
+        assertEquals(16, generator.candidateLimit(64));
+        assertEquals(4, generator.candidateLimit(2000));
+
+        // Dense enough that every candidate fails: the fallback must not depend on timing either
+        NoGuessBoardGenerator sequential = new NoGuessBoardGenerator(1, 8);
+        NoGuessBoardGenerator parallel = new NoGuessBoardGenerator(4, 8);
+        PackedBoard first = new PackedBoard(40);
+        PackedBoard second = new PackedBoard(40);
+        boolean firstFound = sequential.generate(first, 560, 9L, 0, new int[]{0},
+                new FloydMinePlacement(), SplittableRandom::new);
+        boolean secondFound = parallel.generate(second, 560, 9L, 0, new int[]{0},
+                new FloydMinePlacement(), SplittableRandom::new);
+
+        assertEquals(firstFound, secondFound);
+        for (int index = 0; index < first.getCellCount(); index++) {
+            assertEquals(first.hasMine(index), second.hasMine(index));
+        }
+        assertEquals(8, sequential.statsFor(40, 560).getCandidates());
+    }
+
+    @Test
+    @DisplayName("A game should report whether its board passed or fell back, through JSON and snapshots")
+    void testGameReportsFallback(@TempDir Path dir) throws IOException {
+        MinesweeperGridPlay solvable = new MinesweeperGridPlay(16, 40, 7L, BoardGenerationMode.NO_GUESS);
+        MinesweeperGridPlay fallback = new MinesweeperGridPlay(10, 60, 5L, BoardGenerationMode.NO_GUESS);
+        assertFalse(solvable.isNoGuessGuaranteed());
+
+        solvable.revealCell(8, 8);
+        fallback.revealCell(0, 0);
+
+        assertTrue(solvable.isNoGuessGuaranteed());
+        assertTrue(fallback.isBoardGenerated());
+        assertFalse(fallback.isNoGuessGuaranteed());
+        assertTrue(new JsonWriter(512).board(null, fallback).toJson().contains("\"noGuessGuaranteed\":false"));
+
+        GameSnapshotStore.save(solvable, dir.resolve("solvable.mswp"));
+        GameSnapshotStore.save(fallback, dir.resolve("fallback.mswp"));
+        assertTrue(GameSnapshotStore.load(dir.resolve("solvable.mswp")).isNoGuessGuaranteed());
+        assertFalse(GameSnapshotStore.load(dir.resolve("fallback.mswp")).isNoGuessGuaranteed());
+
+        solvable.resetGame();
+        assertFalse(solvable.isNoGuessGuaranteed());
+    }
+
+    // Helper methods
+    private PackedBoard generate(NoGuessBoardGenerator generator, long seed) {
+        PackedBoard board = new PackedBoard(16);
+        int[] excludedCells = new int[9];
+        for (int i = 0; i < 9; i++) {
+            excludedCells[i] = board.indexOf(8 + i / 3 - 1, 8 + i % 3 - 1);
+        }
+        assertTrue(generator.generate(board, 40, seed, board.indexOf(8, 8), excludedCells,
+                new FloydMinePlacement(), SplittableRandom::new));
+        return board;
+    }
+
+    private int countMines(PackedBoard board) {
+        int mines = 0;
+        for (int index = 0; index < board.getCellCount(); index++) {
+            mines += board.hasMine(index) ? 1 : 0;
+        }
+        return mines;
+    }
+}
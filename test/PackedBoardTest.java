@@ -0,0 +1,129 @@
+package test;
+
+import dto.*;
+import org.junit.jupiter.api.*;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for PackedBoard and the Cell compatibility view
+ */
+public class PackedBoardTest {
+
+    private static final int LARGE_GRID_SIZE = 200;
+
+    /**
+     * Field layout of the original object-per-square cell, used as the memory baseline
+     */
+    private static class LegacyCell {
+        private boolean hasMine;
+        private boolean isRevealed;
+        private int adjacentMineCount;
+    }
+
+    @Test
+    @DisplayName("Should store mine, revealed and count bits independently")
+    void testPackedBits() {
+        PackedBoard board = new PackedBoard(3);
+        int index = board.indexOf(1, 2);
+
+        board.setMine(index, true);
+        board.setAdjacentMineCount(index, 8);
+        board.setRevealed(index, true);
+
+        assertTrue(board.hasMine(index));
+        assertTrue(board.isRevealed(index));
+        assertEquals(8, board.getAdjacentMineCount(index));
+        assertEquals(1, board.rowOf(index));
+        assertEquals(2, board.columnOf(index));
+
+        board.setMine(index, false);
+        assertFalse(board.hasMine(index));
+        assertTrue(board.isRevealed(index));
+    }
+
+    @Test
+    @DisplayName("Counts should be computed on first read and refreshed when mines change")
+    void testMemoisedCounts() {
+        PackedBoard board = new PackedBoard(3);
+        int center = board.indexOf(1, 1);
+
+        board.setMine(board.indexOf(0, 0), true);
+        assertEquals(1, board.getAdjacentMineCount(center));
+
+        board.setMine(board.indexOf(2, 2), true);
+        assertEquals(2, board.getAdjacentMineCount(center));
+        assertEquals(0, board.getAdjacentMineCount(board.indexOf(0, 0)));
+    }
+
+    @Test
+    @DisplayName("Cell view should write through to packed storage")
+    void testCellViewWritesThrough() {
+        MinesweeperGrid grid = new MinesweeperGrid(4, 1);
+
+        Cell cell = grid.getCell(2, 3);
+        cell.setHasMine(true);
+        cell.setRevealed(true);
+        cell.setAdjacentMineCount(5);
+
+        assertTrue(grid.hasMine(2, 3));
+        assertTrue(grid.isRevealed(2, 3));
+        assertEquals(5, grid.getAdjacentMineCount(2, 3));
+        assertTrue(grid.getCell(new Position(2, 3)).hasMine());
+        assertTrue(grid.getMinePositions().contains(new Position(2, 3)));
+    }
+
+    @Test
+    @DisplayName("Standalone cells should keep their own state")
+    void testStandaloneCell() {
+        Cell cell = new Cell();
+        Cell other = new Cell();
+        cell.setHasMine(true);
+        cell.setRevealed(true);
+        cell.setAdjacentMineCount(3);
+
+        assertTrue(cell.hasMine());
+        assertTrue(cell.isRevealed());
+        assertFalse(cell.isFlagged());
+        assertEquals(3, cell.getAdjacentMineCount());
+        assertFalse(other.hasMine());
+        assertEquals(0, other.getAdjacentMineCount());
+    }
+
+    @Test
+    @DisplayName("Should reject counts outside 0-8")
+    void testInvalidCount() {
+        PackedBoard board = new PackedBoard(2);
+        assertThrows(IllegalArgumentException.class, () -> board.setAdjacentMineCount(0, 9));
+    }
+
+    @Test
+    @DisplayName("Packed board should use a fraction of the object-per-cell footprint")
+    void testMemoryFootprintComparison() {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        LegacyCell[][] legacy = new LegacyCell[LARGE_GRID_SIZE][LARGE_GRID_SIZE];
+        for (int row = 0; row < LARGE_GRID_SIZE; row++) {
+            for (int col = 0; col < LARGE_GRID_SIZE; col++) {
+                legacy[row][col] = new LegacyCell();
+            }
+        }
+        long legacyBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        before = threadBean.getThreadAllocatedBytes(threadId);
+        MinesweeperGrid packed = new MinesweeperGrid(LARGE_GRID_SIZE, 1);
+        long packedBytes = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertNotNull(legacy[LARGE_GRID_SIZE - 1][LARGE_GRID_SIZE - 1]);
+        assertTrue(packed.getBoard().getFootprintBytes() <= packedBytes);
+        assertTrue(packedBytes * 10 < legacyBytes,
+                "packed=" + packedBytes + " bytes, legacy=" + legacyBytes + " bytes");
+    }
+}
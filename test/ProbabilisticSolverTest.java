@@ -0,0 +1,179 @@
+package test;
+
+import dto.*;
+import gamePlay.MinesweeperGridPlay;
+import gameSolver.DeterministicSolver;
+import gameSolver.ProbabilisticSolver;
+import gameSolver.ProbabilityMap;
+import gameSolver.SolverResult;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for ProbabilisticSolver
+ */
+public class ProbabilisticSolverTest {
+
+    @Test
+    @DisplayName("Should give both squares of a forced 50/50 an even chance")
+    void testFiftyFifty() {
+        // Mine at A1; B1 and B2 revealed, both show 1
+        MinesweeperGridPlay game = boardWithMines(2, 0);
+        reveal(game, 1, 0);
+        reveal(game, 1, 1);
+
+        ProbabilityMap map = new ProbabilisticSolver().solve(game);
+
+        assertEquals(0.5, map.getProbability(0, 0), 1e-6);
+        assertEquals(0.5, map.getProbability(0, 1), 1e-6);
+        assertTrue(Double.isNaN(map.getProbability(1, 0)));
+        assertTrue(map.isExact());
+        assertEquals(1, map.getComponentCount());
+        assertEquals(new Position(0, 0), map.getBestGuess());
+    }
+
+    @Test
+    @DisplayName("Probabilities should match a brute-force count over every layout")
+    void testMatchesBruteForce() {
+        ProbabilisticSolver solver = new ProbabilisticSolver();
+        for (long seed = 0; seed < 30; seed++) {
+            MinesweeperGridPlay game = new MinesweeperGridPlay(5, 5, seed, BoardGenerationMode.FIRST_CLICK_SAFE);
+            game.revealCell(2, 2);
+            if (game.getGameState() != GameState.PLAYING) {
+                continue;
+            }
+
+            double[] expected = bruteForce(game);
+            ProbabilityMap map = solver.solve(game);
+            assertTrue(map.isExact(), "seed " + seed);
+            for (int index = 0; index < expected.length; index++) {
+                if (Double.isNaN(expected[index])) {
+                    assertTrue(Double.isNaN(map.getProbability(index)), "seed " + seed);
+                } else {
+                    assertEquals(expected[index], map.getProbability(index), 1e-5, "seed " + seed + " cell " + index);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deduced squares should be 0 or 1 and the best guess should be a proven safe square")
+    void testDeductionsAreCertain() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(30, 120, 4L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        game.revealCell(15, 15);
+
+        SolverResult deduced = new DeterministicSolver().solve(game);
+        ProbabilityMap map = new ProbabilisticSolver().solve(game);
+
+        deduced.getSafeCells().stream().forEach(index -> assertEquals(0.0, map.getProbability(index)));
+        deduced.getMineCells().stream().forEach(index -> assertEquals(1.0, map.getProbability(index)));
+        if (deduced.hasDeductions() && deduced.getSafeCount() > 0) {
+            assertEquals(0.0, map.getBestGuessProbability());
+            Position guess = map.getBestGuess();
+            assertTrue(deduced.isSafe(guess.getRow(), guess.getColumn()));
+        }
+    }
+
+    @Test
+    @DisplayName("A tiny time budget should still return a valid map quickly")
+    void testTimeBudget() {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(300, 18_000, 6L, BoardGenerationMode.FIRST_CLICK_SAFE);
+        game.revealCell(150, 150);
+        for (int index = 0; index < 300 * 300; index += 37) {
+            if (!game.hasMine(index / 300, index % 300)) {
+                game.revealCell(index / 300, index % 300);
+            }
+        }
+
+        long start = System.nanoTime();
+        ProbabilityMap map = new ProbabilisticSolver(5).solve(game);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 2_000, "took " + elapsedMillis + " ms");
+        assertNotNull(map.getBestGuess());
+        for (int index = 0; index < 300 * 300; index++) {
+            double probability = map.getProbability(index);
+            assertTrue(Double.isNaN(probability) || (probability >= 0 && probability <= 1));
+        }
+        if (map.getBestGuessProbability() == 0.0) {
+            assertFalse(game.hasMine(map.getBestGuess().getRow(), map.getBestGuess().getColumn()));
+        }
+    }
+
+    // Helper methods
+    /**
+     * Mine probability of every hidden square over all layouts that fit the visible numbers
+     */
+    private double[] bruteForce(MinesweeperGridPlay game) {
+        PackedBoard board = game.getBoard();
+        List<Integer> hidden = new ArrayList<>();
+        for (int index = 0; index < board.getCellCount(); index++) {
+            if (!board.isRevealed(index)) {
+                hidden.add(index);
+            }
+        }
+        double[] mineCounts = new double[board.getCellCount()];
+        long[] layouts = new long[1];
+        enumerate(board, hidden, 0, game.getTotalMines(), new boolean[board.getCellCount()], mineCounts, layouts);
+
+        double[] probabilities = new double[board.getCellCount()];
+        for (int index = 0; index < probabilities.length; index++) {
+            probabilities[index] = board.isRevealed(index) ? Double.NaN : mineCounts[index] / layouts[0];
+        }
+        return probabilities;
+    }
+
+    private void enumerate(PackedBoard board, List<Integer> hidden, int from, int minesLeft,
+                           boolean[] mines, double[] mineCounts, long[] layouts) {
+        if (minesLeft == 0) {
+            if (fitsNumbers(board, mines)) {
+                layouts[0]++;
+                for (int index = 0; index < mines.length; index++) {
+                    mineCounts[index] += mines[index] ? 1 : 0;
+                }
+            }
+            return;
+        }
+        for (int i = from; i <= hidden.size() - minesLeft; i++) {
+            mines[hidden.get(i)] = true;
+            enumerate(board, hidden, i + 1, minesLeft - 1, mines, mineCounts, layouts);
+            mines[hidden.get(i)] = false;
+        }
+    }
+
+    private boolean fitsNumbers(PackedBoard board, boolean[] mines) {
+        int size = board.getSize();
+        for (int index = 0; index < mines.length; index++) {
+            if (!board.isRevealed(index)) {
+                continue;
+            }
+            int count = 0;
+            for (int row = Math.max(0, index / size - 1); row <= Math.min(size - 1, index / size + 1); row++) {
+                for (int col = Math.max(0, index % size - 1); col <= Math.min(size - 1, index % size + 1); col++) {
+                    count += mines[row * size + col] ? 1 : 0;
+                }
+            }
+            if (count != board.getAdjacentMineCount(index)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private MinesweeperGridPlay boardWithMines(int size, int... mineIndices) {
+        MinesweeperGridPlay game = new MinesweeperGridPlay(size, mineIndices.length, 0L);
+        game.getBoard().clear();
+        for (int index : mineIndices) {
+            game.getBoard().setMine(index, true);
+        }
+        return game;
+    }
+
+    private void reveal(MinesweeperGridPlay game, int row, int col) {
+        game.getBoard().setRevealed(game.getBoard().indexOf(row, col), true);
+    }
+}
@@ -0,0 +1,63 @@
+package test;
+
+import dto.BoardGenerationMode;
+import gameSimulation.RandomStrategy;
+import gameSimulation.SimulationRunner;
+import gameSimulation.SimulationStats;
+import gameSimulation.SolverStrategy;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 5 tests for the headless simulation harness
+ */
+public class SimulationRunnerTest {
+
+    @Test
+    @DisplayName("Totals should not depend on the number of threads")
+    void testDeterministicAcrossThreads() {
+        SimulationStats single = new SimulationRunner(9, 10, BoardGenerationMode.FIRST_CLICK_SAFE,
+                SolverStrategy::new, 1).run(500, 42L);
+        SimulationStats parallel = new SimulationRunner(9, 10, BoardGenerationMode.FIRST_CLICK_SAFE,
+                SolverStrategy::new, 4).run(500, 42L);
+
+        assertEquals(500, single.getGames());
+        assertEquals(single.getWins(), parallel.getWins());
+        assertEquals(single.getMoves(), parallel.getMoves());
+        assertEquals(single.getSquaresOpened(), parallel.getSquaresOpened());
+        for (int bucket = 0; bucket < SimulationStats.CASCADE_BUCKETS; bucket++) {
+            assertEquals(single.getCascadeCount(bucket), parallel.getCascadeCount(bucket));
+        }
+    }
+
+    @Test
+    @DisplayName("The solver strategy should win far more often than random play")
+    void testSolverBeatsRandom() {
+        SimulationStats random = new SimulationRunner(16, 40, BoardGenerationMode.FIRST_CLICK_SAFE,
+                RandomStrategy::new, 2).run(300, 7L);
+        SimulationStats solver = new SimulationRunner(16, 40, BoardGenerationMode.FIRST_CLICK_SAFE,
+                SolverStrategy::new, 2).run(300, 7L);
+
+        assertTrue(solver.getWinRate() > 0.5, "solver win rate " + solver.getWinRate());
+        assertTrue(solver.getWinRate() > random.getWinRate() + 0.3);
+        assertTrue(solver.getGuesses() < solver.getMoves());
+    }
+
+    @Test
+    @DisplayName("Cascade histogram should cover every move and the report should list it")
+    void testHistogramAndReport() {
+        SimulationStats stats = new SimulationRunner(16, 40, BoardGenerationMode.EAGER,
+                RandomStrategy::new, 2).run(100, 3L);
+
+        long histogramTotal = 0;
+        for (int bucket = 0; bucket < SimulationStats.CASCADE_BUCKETS; bucket++) {
+            histogramTotal += stats.getCascadeCount(bucket);
+        }
+        assertEquals(stats.getMoves(), histogramTotal);
+        assertTrue(stats.getSquaresOpened() >= stats.getMoves());
+        assertTrue(stats.getGamesPerSecond() > 0);
+        assertTrue(stats.toText().contains("games/s"));
+        assertTrue(stats.toText().contains("Squares opened per move:"));
+    }
+}
@@ -0,0 +1,36 @@
+package userService;
+
+import exception.InputExhaustedException;
+
+import java.util.NoSuchElementException;
+import java.util.Scanner;
+
+/**
+ * Interactive input typed on System.in
+ */
+public class ConsoleInputSource implements InputSource {
+    private final Scanner scanner;
+
+    public ConsoleInputSource() {
+        this.scanner = new Scanner(System.in);
+    }
+
+    @Override
+    public String nextLine() {
+        try {
+            return scanner.nextLine();
+        } catch (NoSuchElementException e) {
+            throw new InputExhaustedException("Console input closed");
+        }
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+        scanner.close();
+    }
+}
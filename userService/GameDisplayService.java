@@ -1,6 +1,8 @@
 package userService;
 
 import dto.*;
+import gameMetrics.EngineMetrics;
+import gameMetrics.RenderEvent;
 import gamePlay.MinesweeperGridPlay;
 
 /**
@@ -8,94 +10,66 @@ import gamePlay.MinesweeperGridPlay;
  * Responsibility: Game visualization and formatting
  */
 public class GameDisplayService {
+    private static final String GRID_TITLE = "Here is your minefield:";
+    private static final String GAME_OVER_TITLE = "Final minefield:";
+
+    private final GridRenderer renderer;
+
+    public GameDisplayService() {
+        this(new GridRenderer());
+    }
+
+    public GameDisplayService(GridRenderer renderer) {
+        this.renderer = renderer;
+    }
 
     /**
      * Display the current game grid
      */
     public void displayGrid(MinesweeperGridPlay game) {
-        System.out.println("\nHere is your minefield:");
-
-        // Print column headers (1, 2, 3, 4...)
-        System.out.print("  ");
-        for (int col = 1; col <= game.getSize(); col++) {
-            System.out.print(col + " ");
-        }
-        System.out.println();
-
-        // Print each row
-        for (int row = 0; row < game.getSize(); row++) {
-            // Print row letter (A, B, C, D...)
-            char rowLetter = (char) ('A' + row);
-            System.out.print(rowLetter + " ");
-
-            // Print each cell in the row
-            for (int col = 0; col < game.getSize(); col++) {
-                Cell cell = game.getCell(row, col);
-                String cellDisplay = getCellDisplay(cell);
-                System.out.print(cellDisplay + " ");
-            }
-            System.out.println();
-        }
-        System.out.println();
+        displayGrid(game, null);
     }
 
     /**
-     * Get the display string for a cell based on its state
+     * Display the grid after a reveal, repainting only the rows it changed
+     * when the terminal supports it
      */
-    private String getCellDisplay(Cell cell) {
-        if (!cell.isRevealed()) {
-            return "_";  // Hidden cell
+    public void displayGrid(MinesweeperGridPlay game, RevealResult lastResult) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        if (lastResult == null) {
+            renderer.renderFull(game, GRID_TITLE, false);
+        } else {
+            renderer.renderChanges(game, lastResult, GRID_TITLE);
         }
-
-        if (cell.hasMine()) {
-            return "*";  // Mine (only shown when game is over)
+        event.commit(renderer.getLastFrameLength());
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordRender(startNanos);
         }
-
-        int mineCount = cell.getAdjacentMineCount();
-        return String.valueOf(mineCount);  // Show number (0, 1, 2, etc.)
     }
 
     /**
-     * Display game over state with all mines revealed
+     * Show the whole grid again below a message; ANSI terminals keep the last frame in place
      */
-    public void displayGameOver(MinesweeperGridPlay game) {
-        System.out.println("\nFinal minefield:");
-
-        // Print column headers
-        System.out.print("  ");
-        for (int col = 1; col <= game.getSize(); col++) {
-            System.out.print(col + " ");
+    public void redisplayGrid(MinesweeperGridPlay game) {
+        if (!renderer.isAnsi()) {
+            displayGrid(game);
         }
-        System.out.println();
-
-        // Print each row with mines revealed
-        for (int row = 0; row < game.getSize(); row++) {
-            char rowLetter = (char) ('A' + row);
-            System.out.print(rowLetter + " ");
-
-            for (int col = 0; col < game.getSize(); col++) {
-                Cell cell = game.getCell(row, col);
-                String cellDisplay = getGameOverCellDisplay(cell);
-                System.out.print(cellDisplay + " ");
-            }
-            System.out.println();
-        }
-        System.out.println();
     }
 
     /**
-     * Get cell display for game over state (shows all mines)
+     * Display game over state with all mines revealed
      */
-    private String getGameOverCellDisplay(Cell cell) {
-        if (cell.hasMine()) {
-            return "*";  // Always show mines
-        }
-
-        if (cell.isRevealed()) {
-            return String.valueOf(cell.getAdjacentMineCount());
+    public void displayGameOver(MinesweeperGridPlay game) {
+        long startNanos = EngineMetrics.ENABLED ? System.nanoTime() : 0;
+        RenderEvent event = new RenderEvent();
+        event.begin();
+        renderer.renderFull(game, GAME_OVER_TITLE, true);
+        event.commit(renderer.getLastFrameLength());
+        if (EngineMetrics.ENABLED) {
+            EngineMetrics.recordRender(startNanos);
         }
-
-        return "_";  // Unrevealed non-mine cells
     }
 
     /**
@@ -122,6 +96,15 @@ public class GameDisplayService {
         System.out.println("Press any key to play again...");
     }
 
+    /**
+     * Display the outcome of a flag toggle
+     */
+    public void displayFlagResult(MinesweeperGridPlay game, boolean flagged) {
+        System.out.println((flagged ? "Flag placed. " : "Flag removed. ")
+                + (game.getTotalMines() - game.getFlagCount()) + " mines left to flag.");
+        System.out.println();
+    }
+
     /**
      * Display reveal result message
      */
@@ -142,6 +125,12 @@ public class GameDisplayService {
             case ALREADY_REVEALED:
                 System.out.println("This square is already revealed.");
                 break;
+            case FLAGGED:
+                System.out.println("This square is flagged. Enter F and the square to remove the flag.");
+                break;
+            case GAME_OVER:
+                System.out.println("This game is over.");
+                break;
         }
         System.out.println();
     }
@@ -1,17 +1,28 @@
 package userService;
 
 import config.GameConfiguration;
-import java.util.Scanner;
 
 /**
  * Service responsible for handling user input
  * Responsibility: Input validation and collection
+ *
+ * Lines come from an InputSource: the console by default, or a script, pipe or
+ * queue in batch mode, where prompts and key-press waits are skipped. When the
+ * source runs dry an InputExhaustedException ends the session.
  */
 public class GameInputService {
-    private final Scanner scanner;
+    private final InputSource source;
 
     public GameInputService() {
-        this.scanner = new Scanner(System.in);
+        this(new ConsoleInputSource());
+    }
+
+    public GameInputService(InputSource source) {
+        this.source = source;
+    }
+
+    public boolean isInteractive() {
+        return source.isInteractive();
     }
 
     /**
@@ -20,10 +31,8 @@ public class GameInputService {
     public int getGridSize() {
         while (true) {
             try {
-                System.out.print("Enter the size of the grid (e.g. 4 for a 4x4 grid): ");
-                System.out.println();
-                int size = scanner.nextInt();
-                scanner.nextLine(); // consume newline
+                prompt("Enter the size of the grid (e.g. 4 for a 4x4 grid): ");
+                int size = Integer.parseInt(source.nextLine().trim());
 
                 if (size < 2) {
                     System.out.println("Grid size must be at least 2. Please try again.");
@@ -36,9 +45,8 @@ public class GameInputService {
                 }
 
                 return size;
-            } catch (Exception e) {
+            } catch (NumberFormatException e) {
                 System.out.println("Invalid input. Please enter a number.");
-                scanner.nextLine(); // consume invalid input
             }
         }
     }
@@ -51,11 +59,9 @@ public class GameInputService {
 
         while (true) {
             try {
-                System.out.print("Enter the number of mines to place on the grid " +
+                prompt("Enter the number of mines to place on the grid " +
                         "(maximum is 35% of the total squares): ");
-                System.out.println();
-                int mines = scanner.nextInt();
-                scanner.nextLine(); // consume newline
+                int mines = Integer.parseInt(source.nextLine().trim());
 
                 if (!GameConfiguration.isValidMineCount(gridSize, mines)) {
                     System.out.println("Invalid number of mines. Please enter between 1 and " +
@@ -64,9 +70,8 @@ public class GameInputService {
                 }
 
                 return mines;
-            } catch (Exception e) {
+            } catch (NumberFormatException e) {
                 System.out.println("Invalid input. Please enter a number.");
-                scanner.nextLine(); // consume invalid input
             }
         }
     }
@@ -76,30 +81,26 @@ public class GameInputService {
      */
     public String getCellPosition() {
         while (true) {
-            try {
-                System.out.print("Select a square to reveal (e.g. A1): ");
-                String input = scanner.nextLine().trim();
-
-                if (input.isEmpty()) {
-                    System.out.println("Please enter a position (e.g. A1).");
-                    continue;
-                }
+            if (source.isInteractive()) {
+                System.out.print("Select a square to reveal (e.g. A1), F A1 to flag or C A1 to chord: ");
+            }
+            String input = source.nextLine().trim();
 
-                return input;
-            } catch (Exception e) {
-                System.out.println("Invalid input. Please try again.");
+            if (input.isEmpty()) {
+                System.out.println("Please enter a position (e.g. A1).");
+                continue;
             }
+
+            return input;
         }
     }
 
     /**
-     * Wait for user to press any key
+     * Wait for the user to press Enter (batch sources do not wait)
      */
     public void waitForKeyPress() {
-        try {
-            System.in.read();
-        } catch (Exception e) {
-            // Ignore
+        if (source.isInteractive()) {
+            source.nextLine();
         }
     }
 
@@ -108,27 +109,32 @@ public class GameInputService {
      */
     public boolean askPlayAgain() {
         while (true) {
-            try {
+            if (source.isInteractive()) {
                 System.out.print("Do you want to play again? (y/n): ");
-                String input = scanner.nextLine().trim().toLowerCase();
-
-                if (input.equals("y") || input.equals("yes")) {
-                    return true;
-                } else if (input.equals("n") || input.equals("no")) {
-                    return false;
-                } else {
-                    System.out.println("Please enter 'y' for yes or 'n' for no.");
-                }
-            } catch (Exception e) {
-                System.out.println("Invalid input. Please try again.");
+            }
+            String input = source.nextLine().trim().toLowerCase();
+
+            if (input.equals("y") || input.equals("yes")) {
+                return true;
+            } else if (input.equals("n") || input.equals("no")) {
+                return false;
+            } else {
+                System.out.println("Please enter 'y' for yes or 'n' for no.");
             }
         }
     }
 
     /**
-     * Close the scanner (call when application exits)
+     * Close the input source (call when application exits)
      */
     public void close() {
-        scanner.close();
+        source.close();
+    }
+
+    private void prompt(String text) {
+        if (source.isInteractive()) {
+            System.out.print(text);
+            System.out.println();
+        }
     }
 }
@@ -0,0 +1,232 @@
+package userService;
+
+import dto.PackedBoard;
+import dto.Position;
+import dto.RevealResult;
+import dto.RevealedCells;
+import gamePlay.MinesweeperGridPlay;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+
+/**
+ * Buffered console renderer for the minefield
+ *
+ * Each frame is built in one reusable byte buffer (the grid is plain ASCII, so
+ * no per-cell strings or charset encoding are needed) and written to the stream
+ * in a single call. With ANSI output enabled, frames after the first repaint only
+ * the rows touched by the last reveal, moving the cursor straight to them.
+ *
+ * ANSI mode is switched on with -Dminesweeper.ansi=true.
+ */
+public class GridRenderer {
+    public static final String ANSI_PROPERTY = "minesweeper.ansi";
+
+    private static final byte[] LINE_SEPARATOR = System.lineSeparator().getBytes();
+    private static final String CLEAR_SCREEN = "\033[2J\033[H";
+    private static final int FIRST_ROW_LINE = 4;          // Blank line, title and column headers come first
+
+    private final PrintStream out;                       // Null means the current System.out
+    private final boolean ansi;
+    private byte[] frame;                                // Reused frame buffer
+    private int length;                                  // Bytes in the current frame
+    private boolean[] dirtyRows;
+    private MinesweeperGridPlay shownGame;               // Game whose grid is on screen (ANSI mode)
+    private long shownSeed;
+
+    public GridRenderer() {
+        this(null, Boolean.getBoolean(ANSI_PROPERTY));
+    }
+
+    public GridRenderer(PrintStream out, boolean ansi) {
+        this.out = out;
+        this.ansi = ansi;
+        this.frame = new byte[256];
+        this.dirtyRows = new boolean[0];
+    }
+
+    public boolean isAnsi() {
+        return ansi;
+    }
+
+    /**
+     * Size in bytes of the last frame written
+     */
+    public int getLastFrameLength() {
+        return length;
+    }
+
+    /**
+     * Draw the whole grid under the given title
+     *
+     * @param showAllMines show every mine, not only revealed ones (game over view)
+     */
+    public void renderFull(MinesweeperGridPlay game, String title, boolean showAllMines) {
+        int size = game.getSize();
+        length = 0;
+
+        if (ansi) {
+            append(CLEAR_SCREEN);
+        }
+        newLine();
+        append(title);
+        newLine();
+
+        // Column headers (1, 2, 3, 4...)
+        append("  ");
+        for (int col = 1; col <= size; col++) {
+            appendNumber(col);
+            append(' ');
+        }
+        newLine();
+
+        for (int row = 0; row < size; row++) {
+            appendRow(game, row, showAllMines);
+            newLine();
+        }
+        newLine();
+
+        flush();
+        shownGame = ansi && !showAllMines ? game : null;
+        shownSeed = game.getSeed();
+        clearDirtyRows(size);
+    }
+
+    /**
+     * Draw the grid after a reveal
+     *
+     * Repaints only the rows the reveal touched when the same board is already on
+     * screen in ANSI mode; otherwise falls back to a full frame.
+     */
+    public void renderChanges(MinesweeperGridPlay game, RevealResult result, String title) {
+        if (!ansi || shownGame != game || shownSeed != game.getSeed()) {
+            renderFull(game, title, false);
+            return;
+        }
+
+        int size = game.getSize();
+        markDirty(result, size);
+        length = 0;
+
+        for (int row = 0; row < size; row++) {
+            if (!dirtyRows[row]) {
+                continue;
+            }
+            moveCursor(FIRST_ROW_LINE + row);
+            appendRow(game, row, false);
+            append("\033[K");
+        }
+
+        // Park the cursor below the grid and clear the old prompt area
+        moveCursor(FIRST_ROW_LINE + size);
+        append("\033[J");
+        newLine();
+
+        flush();
+        clearDirtyRows(size);
+    }
+
+    /**
+     * Forget what is on screen, so the next frame is drawn in full
+     */
+    public void invalidate() {
+        shownGame = null;
+    }
+
+    // ========== Dirty Rows ==========
+    private void markDirty(RevealResult result, int size) {
+        RevealedCells cells = result.getRevealedCells();
+        if (cells != null && cells.isStreamed()) {
+            // Streamed results do not keep their cells; repaint everything
+            Arrays.fill(dirtyRows, true);
+        } else if (cells != null) {
+            cells.forEach(index -> dirtyRows[index / size] = true);
+        } else {
+            for (Position position : result.getRevealedPositions()) {
+                dirtyRows[position.getRow()] = true;
+            }
+        }
+    }
+
+    private void clearDirtyRows(int size) {
+        if (dirtyRows.length != size) {
+            dirtyRows = new boolean[size];
+        } else {
+            Arrays.fill(dirtyRows, false);
+        }
+    }
+
+    // ========== Frame Building ==========
+    private void appendRow(MinesweeperGridPlay game, int row, boolean showAllMines) {
+        PackedBoard board = game.getBoard();
+        int size = game.getSize();
+
+        // Row letter (A, B, C, D...)
+        append((char) ('A' + row));
+        append(' ');
+
+        int index = board.indexOf(row, 0);
+        for (int col = 0; col < size; col++, index++) {
+            append(cellSymbol(board, index, showAllMines));
+            append(' ');
+        }
+    }
+
+    /**
+     * '_' hidden, 'F' flagged, '0'-'8' revealed counts, '*' mines (revealed, or all on game over)
+     */
+    private static char cellSymbol(PackedBoard board, int index, boolean showAllMines) {
+        boolean revealed = board.isRevealed(index);
+        if (board.hasMine(index) && (revealed || showAllMines)) {
+            return '*';
+        }
+        if (revealed) {
+            return (char) ('0' + board.getAdjacentMineCount(index));
+        }
+        return board.isFlagged(index) ? 'F' : '_';
+    }
+
+    private void moveCursor(int line) {
+        append("\033[");
+        appendNumber(line);
+        append(";1H");
+    }
+
+    private void newLine() {
+        ensureCapacity(LINE_SEPARATOR.length);
+        for (byte b : LINE_SEPARATOR) {
+            frame[length++] = b;
+        }
+    }
+
+    private void append(String text) {
+        ensureCapacity(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            frame[length++] = (byte) text.charAt(i);
+        }
+    }
+
+    private void append(char c) {
+        ensureCapacity(1);
+        frame[length++] = (byte) c;
+    }
+
+    private void appendNumber(int value) {
+        if (value >= 10) {
+            appendNumber(value / 10);
+        }
+        append((char) ('0' + value % 10));
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(frame.length * 2, length + extra));
+        }
+    }
+
+    private void flush() {
+        PrintStream target = out != null ? out : System.out;
+        target.write(frame, 0, length);
+        target.flush();
+    }
+}
@@ -0,0 +1,25 @@
+package userService;
+
+/**
+ * Source of command lines for GameInputService
+ *
+ * The console is interactive and gets prompts; scripts, pipes and queues are
+ * batch sources that are read without prompting or waiting for key presses.
+ */
+public interface InputSource extends AutoCloseable {
+
+    /**
+     * Next line of input without its line terminator
+     *
+     * @throws exception.InputExhaustedException when no input is left
+     */
+    String nextLine();
+
+    /**
+     * Whether a person is typing (prompts are shown only then)
+     */
+    boolean isInteractive();
+
+    @Override
+    void close();
+}
@@ -0,0 +1,71 @@
+package userService;
+
+import exception.InputExhaustedException;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Batch input fed from memory, e.g. by a load-test driver on another thread
+ *
+ * Lines are taken in the order they were offered; nextLine waits for the next
+ * one until finish() marks the end of input.
+ */
+public class QueueInputSource implements InputSource {
+    private static final String END = new String("end");     // Compared by identity, so no input line matches it
+
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private volatile boolean finished;
+
+    public QueueInputSource(String... initialLines) {
+        for (String line : initialLines) {
+            offer(line);
+        }
+    }
+
+    /**
+     * Queue one line of input
+     */
+    public void offer(String line) {
+        if (finished) {
+            throw new IllegalStateException("Input already finished");
+        }
+        lines.add(line);
+    }
+
+    /**
+     * No more lines will follow; once the queued ones are read, input is exhausted
+     */
+    public void finish() {
+        if (!finished) {
+            finished = true;
+            lines.add(END);
+        }
+    }
+
+    @Override
+    public String nextLine() {
+        String line;
+        try {
+            line = lines.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InputExhaustedException("Interrupted while waiting for input");
+        }
+        if (line == END) {
+            lines.add(END);          // Keep reporting the end to later calls
+            throw new InputExhaustedException("Input queue finished");
+        }
+        return line;
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        finish();
+    }
+}
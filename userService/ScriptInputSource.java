@@ -0,0 +1,127 @@
+package userService;
+
+import exception.InputExhaustedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Batch input read from a move script file or a pipe
+ *
+ * The channel is read in large blocks into one direct buffer and split into
+ * lines in place, so a script of thousands of sessions costs a few reads, not
+ * one call per character. Lines are UTF-8 with LF or CRLF endings; blank lines
+ * and lines starting with '#' are skipped.
+ *
+ * Script lines are exactly what a player would type: grid size, mine count,
+ * then moves ("A1", "F A1", "C A1") and "y"/"n" when asked to play again.
+ */
+public class ScriptInputSource implements InputSource {
+    public static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private byte[] line = new byte[128];     // Bytes of the line being assembled
+    private boolean endOfInput;
+
+    public ScriptInputSource(Path script) throws IOException {
+        this(FileChannel.open(script, StandardOpenOption.READ), DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Read from any channel, e.g. Channels.newChannel(System.in) for a pipe
+     */
+    public ScriptInputSource(ReadableByteChannel channel, int bufferBytes) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.buffer.flip();      // Start empty, in read mode
+    }
+
+    /**
+     * Script read from standard input
+     */
+    public static ScriptInputSource fromStandardInput() {
+        return new ScriptInputSource(Channels.newChannel(System.in), DEFAULT_BUFFER_BYTES);
+    }
+
+    @Override
+    public String nextLine() {
+        while (true) {
+            String next = readLine();
+            if (next == null) {
+                throw new InputExhaustedException("End of script");
+            }
+            String trimmed = next.trim();
+            if (!trimmed.isEmpty() && trimmed.charAt(0) != '#') {
+                return next;
+            }
+        }
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the next raw line, or null at end of input
+     */
+    private String readLine() {
+        int length = 0;
+        while (true) {
+            while (buffer.hasRemaining()) {
+                byte b = buffer.get();
+                if (b == '\n') {
+                    return decode(length);
+                }
+                if (length == line.length) {
+                    line = Arrays.copyOf(line, length * 2);
+                }
+                line[length++] = b;
+            }
+            if (endOfInput || !fill()) {
+                return length > 0 ? decode(length) : null;
+            }
+        }
+    }
+
+    private boolean fill() {
+        buffer.clear();
+        try {
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            endOfInput = read < 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            buffer.flip();
+        }
+        return buffer.hasRemaining();
+    }
+
+    private String decode(int length) {
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new String(line, 0, length, StandardCharsets.UTF_8);
+    }
+}